@@ -0,0 +1,335 @@
+/* Author:     Ryan McAllister-Grum
+ * UIN:        661880584
+ * Class:      20FA - Algorithms & Computation (20FA-OL-CSC482A-15037)
+ * Assignment: 3 (Implement Prim's Algorithm)
+ */
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/** BatchPipeline finds and saves the Minimum Spanning Trees of many .gl
+ *  files with three overlapping stages: readers parse the files with
+ *  GLParser, computers run Prim's Algorithm and format each tree, and
+ *  writers save the trees. Each stage has its own number of threads, and
+ *  the stages hand jobs over through bounded queues, so a fast stage blocks
+ *  once it is a queue ahead of the next one instead of piling parsed graphs
+ *  up in memory. At most (readers + queue capacity + computers) graphs are
+ *  held at once.
+ * 
+ *  Every stage thread records how long it spent working as opposed to
+ *  waiting on a queue, so after a run getUtilization shows which stage
+ *  limits the throughput: it is the one whose threads are busy all the time.
+ *  A file that fails to parse, compute or save is reported by getFailures
+ *  and does not stop the others, but a stage thread that dies of anything
+ *  else, such as an OutOfMemoryError, cancels the whole run: otherwise the
+ *  stages before it would block forever on its full queue.
+ */
+public class BatchPipeline {
+    /** Stage names the three stages of the pipeline.
+     */
+    public enum Stage {
+        READ, COMPUTE, WRITE
+    }
+    
+    /** Job carries one file through the pipeline.
+     */
+    private static final class Job {
+        /** input is the path of the .gl file to read.
+         */
+        final String input;
+        /** parser holds the parsed graph, between the read and compute stages.
+         */
+        GLParser parser;
+        /** document holds the tree in .gl format, between the compute and write stages.
+         */
+        String document;
+        
+        /** Constructor that creates a new Job for the passed-in file.
+         * 
+         * @param newInput The path of the .gl file to read.
+         */
+        Job(String newInput) {
+            input = newInput;
+        }
+    }
+    
+    /** DONE is passed down a queue once per downstream thread when a stage has finished.
+     */
+    private static final Job DONE = new Job(null);
+    
+    /** threads holds the number of threads of each stage.
+     */
+    private final int[] threads;
+    /** queueCapacity is the number of jobs each queue between two stages can hold.
+     */
+    private final int queueCapacity;
+    /** busyNanos holds the total time the threads of each stage spent working in the last run.
+     */
+    private final AtomicLong[] busyNanos = new AtomicLong[Stage.values().length];
+    /** completed holds the number of jobs each stage finished in the last run.
+     */
+    private final AtomicInteger[] completed = new AtomicInteger[Stage.values().length];
+    /** wallNanos is the duration of the last run.
+     */
+    private long wallNanos;
+    /** failures holds a message for each file that failed in the last run.
+     */
+    private final List<String> failures = Collections.synchronizedList(new ArrayList<>());
+    
+    /** Constructor that creates a new BatchPipeline with the passed-in thread counts and queue capacity.
+     * 
+     * @param readers The number of threads that parse files.
+     * @param computers The number of threads that find and format trees.
+     * @param writers The number of threads that save trees.
+     * @param newQueueCapacity The number of jobs each queue between two stages can hold.
+     * @throws IllegalArgumentException If any parameter is not positive.
+     */
+    public BatchPipeline(int readers, int computers, int writers, int newQueueCapacity) throws IllegalArgumentException {
+        if (readers <= 0 || computers <= 0 || writers <= 0)
+            throw new IllegalArgumentException("Error while constructing a new BatchPipeline(int, int, int, int): Every stage needs at least one thread!");
+        else if (newQueueCapacity <= 0)
+            throw new IllegalArgumentException("Error while constructing a new BatchPipeline(int, int, int, int): The newQueueCapacity parameter (" + newQueueCapacity + ") is not positive!");
+        
+        threads = new int[] {readers, computers, writers};
+        queueCapacity = newQueueCapacity;
+        for (Stage stage : Stage.values()) {
+            busyNanos[stage.ordinal()] = new AtomicLong();
+            completed[stage.ordinal()] = new AtomicInteger();
+        }
+    }
+    
+    /** run finds the Minimum Spanning Tree of each passed-in .gl file and saves
+     *  it to the passed-in directory under the file's name with "-mst" added
+     *  before its extension.
+     * 
+     * @param inputs The paths of the undirected weighted .gl files to process.
+     * @param outputDirectory The directory to save the trees to.
+     * @throws IllegalArgumentException If inputs is null, or outputDirectory is null or not a directory.
+     * @throws IllegalStateException If a stage thread died, in which case the run was cancelled.
+     * @throws InterruptedException If the calling thread is interrupted while waiting for the stages.
+     */
+    public void run(List<String> inputs, String outputDirectory) throws IllegalArgumentException, InterruptedException {
+        if (inputs == null)
+            throw new IllegalArgumentException("Error while executing run(List<String>, String) in BatchPipeline: The inputs parameter is null!");
+        else if (outputDirectory == null || !new File(outputDirectory).isDirectory())
+            throw new IllegalArgumentException("Error while executing run(List<String>, String) in BatchPipeline: The outputDirectory parameter \"" + outputDirectory + "\" is not a directory!");
+        
+        for (Stage stage : Stage.values()) {
+            busyNanos[stage.ordinal()].set(0);
+            completed[stage.ordinal()].set(0);
+        }
+        failures.clear();
+        
+        BlockingQueue<Job> parsed = new ArrayBlockingQueue<>(queueCapacity);
+        BlockingQueue<Job> formatted = new ArrayBlockingQueue<>(queueCapacity);
+        AtomicInteger next = new AtomicInteger(); // next is the position in inputs of the next file to read.
+        AtomicInteger readersLeft = new AtomicInteger(threads[0]), computersLeft = new AtomicInteger(threads[1]);
+        ExecutorService pool = Executors.newFixedThreadPool(threads[0] + threads[1] + threads[2]);
+        CompletionService<Object> stages = new ExecutorCompletionService<>(pool);
+        long start = System.nanoTime();
+        try {
+            // A thread that dies skips finish, since the stages after it are cancelled anyway.
+            for (int t = 0; t < threads[0]; t++)
+                stages.submit(() -> {
+                    read(inputs, next, parsed);
+                    finish(readersLeft, parsed, threads[1]);
+                    return null;
+                });
+            for (int t = 0; t < threads[1]; t++)
+                stages.submit(() -> {
+                    compute(parsed, formatted);
+                    finish(computersLeft, formatted, threads[2]);
+                    return null;
+                });
+            for (int t = 0; t < threads[2]; t++)
+                stages.submit(() -> {
+                    write(formatted, outputDirectory);
+                    return null;
+                });
+            // Wait on the threads in the order they end, so the first one to die cancels the others at once.
+            for (int t = 0; t < threads[0] + threads[1] + threads[2]; t++)
+                stages.take().get();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Error while executing run(List<String>, String) in BatchPipeline: A stage thread failed!", e.getCause());
+        } finally {
+            pool.shutdownNow();
+            wallNanos = System.nanoTime() - start;
+        }
+    }
+    
+    /** read parses the next unread input until there is none left, passing each parsed file down the queue.
+     * 
+     * @param inputs The paths of the files to read.
+     * @param next The position in inputs of the next file to read, shared by the readers.
+     * @param out The queue to the compute stage.
+     * @throws InterruptedException If the thread is interrupted while waiting on the queue.
+     */
+    private void read(List<String> inputs, AtomicInteger next, BlockingQueue<Job> out) throws InterruptedException {
+        for (int i = next.getAndIncrement(); i < inputs.size(); i = next.getAndIncrement()) {
+            long start = System.nanoTime();
+            Job job = new Job(inputs.get(i));
+            try {
+                job.parser = new GLParser(job.input, false);
+                if (job.parser.isDirected() || !job.parser.isWeighted())
+                    throw new IllegalArgumentException("The file is not an undirected weighted graph!");
+            } catch (IOException | RuntimeException e) {
+                fail(job, Stage.READ, e);
+                job = null;
+            }
+            record(Stage.READ, start, job != null);
+            if (job != null)
+                out.put(job);
+        }
+    }
+    
+    /** compute finds and formats the tree of each parsed file until the readers are done.
+     * 
+     * @param in The queue from the read stage.
+     * @param out The queue to the write stage.
+     * @throws InterruptedException If the thread is interrupted while waiting on a queue.
+     */
+    private void compute(BlockingQueue<Job> in, BlockingQueue<Job> out) throws InterruptedException {
+        for (Job job = in.take(); job != DONE; job = in.take()) {
+            long start = System.nanoTime();
+            try {
+                job.document = new Prim<String, Float>(job.parser).glFormat();
+            } catch (RuntimeException e) {
+                fail(job, Stage.COMPUTE, e);
+                job.document = null;
+            }
+            job.parser = null; // Let the graph go as soon as its tree is formatted.
+            record(Stage.COMPUTE, start, job.document != null);
+            if (job.document != null)
+                out.put(job);
+        }
+    }
+    
+    /** write saves the tree of each formatted file until the computers are done.
+     * 
+     * @param in The queue from the compute stage.
+     * @param outputDirectory The directory to save the trees to.
+     * @throws InterruptedException If the thread is interrupted while waiting on the queue.
+     */
+    private void write(BlockingQueue<Job> in, String outputDirectory) throws InterruptedException {
+        for (Job job = in.take(); job != DONE; job = in.take()) {
+            long start = System.nanoTime();
+            boolean saved = true;
+            try (FileWriter writer = new FileWriter(outputFile(job.input, outputDirectory))) {
+                writer.write(job.document);
+            } catch (IOException | RuntimeException e) {
+                fail(job, Stage.WRITE, e);
+                saved = false;
+            }
+            record(Stage.WRITE, start, saved);
+        }
+    }
+    
+    /** finish counts down the passed-in stage's running threads, and the last
+     *  one to finish tells every thread of the next stage that no more jobs are coming.
+     * 
+     * @param left The number of threads of the stage still running.
+     * @param out The queue to the next stage.
+     * @param downstream The number of threads of the next stage.
+     * @throws InterruptedException If the thread is interrupted while waiting on the queue.
+     */
+    private static void finish(AtomicInteger left, BlockingQueue<Job> out, int downstream) throws InterruptedException {
+        if (left.decrementAndGet() == 0)
+            for (int t = 0; t < downstream; t++)
+                out.put(DONE);
+    }
+    
+    /** outputFile returns where the tree of the passed-in input file is saved.
+     * 
+     * @param input The path of the .gl file.
+     * @param outputDirectory The directory to save the trees to.
+     * @return The file named after the input, with "-mst" added before its extension.
+     */
+    static File outputFile(String input, String outputDirectory) {
+        String name = new File(input).getName();
+        int dot = name.lastIndexOf('.');
+        return new File(outputDirectory, dot < 0 ? name + "-mst.gl" : name.substring(0, dot) + "-mst" + name.substring(dot));
+    }
+    
+    /** record adds the time since the passed-in start to the passed-in stage's busy time.
+     * 
+     * @param stage The stage that did the work.
+     * @param start The System.nanoTime() at which the work started.
+     * @param succeeded Whether the job should be counted as completed.
+     */
+    private void record(Stage stage, long start, boolean succeeded) {
+        busyNanos[stage.ordinal()].addAndGet(System.nanoTime() - start);
+        if (succeeded)
+            completed[stage.ordinal()].incrementAndGet();
+    }
+    
+    /** fail records that the passed-in job failed in the passed-in stage.
+     * 
+     * @param job The job that failed.
+     * @param stage The stage it failed in.
+     * @param e The reason it failed.
+     */
+    private void fail(Job job, Stage stage, Exception e) {
+        failures.add(job.input + " (" + stage + "): " + e.getMessage());
+    }
+    
+    /** getUtilization returns the fraction of the last run's duration that the
+     *  passed-in stage's threads spent working rather than waiting on a queue.
+     * 
+     * @param stage The stage.
+     * @return The stage's busy time divided by its thread count and the run's duration, from 0 to 1.
+     */
+    public double getUtilization(Stage stage) {
+        return wallNanos == 0 ? 0 : (double) busyNanos[stage.ordinal()].get() / threads[stage.ordinal()] / wallNanos;
+    }
+    
+    /** getCompleted returns the number of files the passed-in stage finished in the last run.
+     * 
+     * @param stage The stage.
+     * @return The number of completed jobs.
+     */
+    public int getCompleted(Stage stage) {
+        return completed[stage.ordinal()].get();
+    }
+    
+    /** getWallNanos returns the duration of the last run.
+     * 
+     * @return The wallNanos attribute.
+     */
+    public long getWallNanos() {
+        return wallNanos;
+    }
+    
+    /** getFailures returns a message for each file that failed in the last run.
+     * 
+     * @return The failures attribute.
+     */
+    public List<String> getFailures() {
+        return failures;
+    }
+    
+    /** toString reports each stage's thread count, completed files and utilization for the last run.
+     * 
+     * @return A String with one line per stage.
+     */
+    @Override
+    public String toString() {
+        StringBuilder result = new StringBuilder(String.format("BatchPipeline run of %.1f ms%s", wallNanos / 1e6, System.lineSeparator()));
+        for (Stage stage : Stage.values())
+            result.append(String.format("%-8s %2d threads %6d files %5.1f%% busy%s",
+                stage, threads[stage.ordinal()], getCompleted(stage), 100 * getUtilization(stage), System.lineSeparator()));
+        return result.toString();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,128 @@
+/* Author:     Ryan McAllister-Grum
+ * UIN:        661880584
+ * Class:      20FA - Algorithms & Computation (20FA-OL-CSC482A-15037)
+ * Assignment: 3 (Implement Prim's Algorithm)
+ */
+
+/** BottleneckIndex answers bottleneck (minimax path) queries over a Minimum
+ *  Spanning Tree: the smallest possible heaviest edge on any path between two
+ *  vertices of the original graph, which is the heaviest edge on the tree
+ *  path between them. The tree is indexed once with binary lifting (see
+ *  ForestPathMax), after which each query takes O(log V) time and never
+ *  allocates, instead of walking Vertex.getParent() chains.
+ * 
+ * @param <K> The type stored in the tree's vertices.
+ */
+public class BottleneckIndex<K extends Comparable<? super K>> {
+    /** index maps the tree's vertex indexes to their items.
+     */
+    private final VertexIndex<K> index;
+    /** forest holds the binary lifting tables of the tree.
+     */
+    private final ForestPathMax forest;
+    
+    /** Constructor that indexes the passed-in Minimum Spanning Tree (or forest).
+     *  The tree holding the "r" vertex is rooted there and every other tree at
+     *  its lowest vertex; the answers do not depend on the roots.
+     * 
+     * @param mst The tree to index, such as Prim.getMST().
+     * @throws IllegalArgumentException If mst is null, has an edge without a numerical weight, or has a cycle.
+     */
+    public BottleneckIndex(Graph<K> mst) throws IllegalArgumentException {
+        if (mst == null)
+            throw new IllegalArgumentException("Error while constructing a new BottleneckIndex(Graph<K>): The mst parameter is null!");
+        
+        FloatCSRGraph<K> tree = FloatCSRGraph.of(mst);
+        index = tree.getIndex();
+        int n = tree.vertexCount();
+        
+        // Root each tree with a breadth-first search, which lists every parent before its children.
+        int[] parent = new int[n], order = new int[n];
+        float[] cost = new float[n];
+        boolean[] visited = new boolean[n];
+        int root = index.indexOfRoot();
+        int tail = 0;
+        for (int start = -1; start < n; start++) {
+            int vertex = start < 0 ? root : start;
+            if (vertex < 0 || visited[vertex])
+                continue;
+            visited[vertex] = true;
+            parent[vertex] = -1;
+            int head = tail;
+            order[tail++] = vertex;
+            while (head < tail) {
+                int u = order[head++];
+                for (int i = tree.offsets[u]; i < tree.offsets[u + 1]; i++) {
+                    int v = tree.targets[i];
+                    if (v == parent[u]) // A TreeSet holds at most one edge back to the parent.
+                        continue;
+                    if (visited[v])
+                        throw new IllegalArgumentException("Error while constructing a new BottleneckIndex(Graph<K>): The mst parameter has a cycle through " + index.label(v) + "!");
+                    visited[v] = true;
+                    parent[v] = u;
+                    cost[v] = tree.weights[i];
+                    order[tail++] = v;
+                }
+            }
+        }
+        forest = new ForestPathMax(parent, cost, order, tail);
+    }
+    
+    /** Constructor that indexes the tree (or forest) found by the passed-in engine.
+     * 
+     * @param newIndex The VertexIndex of the graph the engine ran over.
+     * @param engine An engine that has finished running over the whole graph.
+     * @throws IllegalArgumentException If either parameter is null, or the engine has not added every vertex.
+     */
+    public BottleneckIndex(VertexIndex<K> newIndex, FloatMSTEngine engine) throws IllegalArgumentException {
+        if (newIndex == null)
+            throw new IllegalArgumentException("Error while constructing a new BottleneckIndex(VertexIndex<K>, FloatMSTEngine): The newIndex parameter is null!");
+        else if (engine == null)
+            throw new IllegalArgumentException("Error while constructing a new BottleneckIndex(VertexIndex<K>, FloatMSTEngine): The engine parameter is null!");
+        
+        index = newIndex;
+        forest = new ForestPathMax(engine.getParent(), engine.getCost(), engine.getOrder(), engine.getExtracted());
+    }
+    
+    /** bottleneck returns the heaviest edge on the tree path between the passed-in vertexes.
+     * 
+     * @param u The index of the first vertex.
+     * @param v The index of the second vertex.
+     * @return The bottleneck weight, -infinity if u is v, or +infinity if they are not connected.
+     */
+    public float bottleneck(int u, int v) {
+        return forest.pathMax(u, v);
+    }
+    
+    /** bottleneck returns the heaviest edge on the tree path between the vertexes holding the passed-in items.
+     * 
+     * @param u The item of the first vertex.
+     * @param v The item of the second vertex.
+     * @return The bottleneck weight, -infinity if u is v, or +infinity if they are not connected.
+     * @throws IllegalArgumentException If either item is not in the tree.
+     */
+    public float bottleneck(K u, K v) throws IllegalArgumentException {
+        int a = index.indexOf(u), b = index.indexOf(v);
+        if (a < 0 || b < 0)
+            throw new IllegalArgumentException("Error while executing bottleneck(K, K) in BottleneckIndex: The item " + (a < 0 ? u : v) + " is not in the tree!");
+        return forest.pathMax(a, b);
+    }
+    
+    /** connected returns whether the passed-in vertexes are in the same tree.
+     * 
+     * @param u The index of the first vertex.
+     * @param v The index of the second vertex.
+     * @return True if u and v are connected.
+     */
+    public boolean connected(int u, int v) {
+        return forest.connected(u, v);
+    }
+    
+    /** getIndex returns the VertexIndex that maps this index's vertex indexes to their items.
+     * 
+     * @return The index attribute.
+     */
+    public VertexIndex<K> getIndex() {
+        return index;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,321 @@
+/* Author:     Ryan McAllister-Grum
+ * UIN:        661880584
+ * Class:      20FA - Algorithms & Computation (20FA-OL-CSC482A-15037)
+ * Assignment: 3 (Implement Prim's Algorithm)
+ */
+
+import java.util.Arrays;
+
+/** CompressedFloatGraph is an immutable copy of a FloatGraph that packs each
+ *  vertex's adjacency list into a single byte array instead of a 4 byte
+ *  target and a 4 byte weight per entry. Each vertex's neighbors are sorted
+ *  by index and stored as variable-length integers (7 bits per byte, the
+ *  high bit marking that another byte follows): first the degree, then the
+ *  zigzag-encoded difference between the first neighbor and the vertex
+ *  itself, then the gap to every following neighbor. Neighbors that are
+ *  close in index, as they are after a VertexOrdering, take one byte each.
+ * 
+ *  Each neighbor is followed by its edge weight, which is either the exact
+ *  4 byte float or, with 8 or 16 weight bits, the nearest of 2^bits evenly
+ *  spaced levels between the lightest and heaviest weight. Quantized weights
+ *  can tie or swap edges whose weights are closer than one level apart, so
+ *  the tree found over them is minimum for the rounded weights only.
+ * 
+ *  neighbors decodes a vertex's list on the fly into the engine's buffers,
+ *  so the primitive engines run over this graph unchanged.
+ * 
+ * @param <K> The type stored in this graph's vertices.
+ */
+public class CompressedFloatGraph<K extends Comparable<? super K>> implements FloatGraph<K> {
+    /** EXACT_WEIGHTS is the weight bits that keep every weight as an exact float.
+     */
+    public static final int EXACT_WEIGHTS = 0;
+    
+    /** index maps vertex indexes to the items stored in the original Vertexes.
+     */
+    private final VertexIndex<K> index;
+    /** offsets holds, for each vertex, where its encoded list starts in data.
+     */
+    private final int[] offsets;
+    /** data holds the encoded adjacency lists of every vertex, back to back.
+     */
+    private final byte[] data;
+    /** weightBits is 0 for exact weights, or the number of bits of each quantized weight.
+     */
+    private final int weightBits;
+    /** minWeight is the weight of quantization level 0.
+     */
+    private final float minWeight;
+    /** step is the difference between two neighboring quantization levels.
+     */
+    private final float step;
+    /** edges is the number of edges in this graph.
+     */
+    private final long edges;
+    /** maxDegree is the largest degree of any vertex in this graph.
+     */
+    private final int maxDegree;
+    /** directed indicates whether each edge is listed only at its from vertex.
+     */
+    private final boolean directed;
+    
+    /** Constructor that compresses the passed-in graph with exact weights.
+     * 
+     * @param graph The graph to compress.
+     * @throws IllegalArgumentException If the graph parameter is null.
+     */
+    public CompressedFloatGraph(FloatGraph<K> graph) throws IllegalArgumentException {
+        this(graph, EXACT_WEIGHTS);
+    }
+    
+    /** Constructor that compresses the passed-in graph, quantizing its weights
+     *  to the passed-in number of bits. The graph is read one vertex at a time,
+     *  so it can be dropped as soon as this constructor returns.
+     * 
+     * @param graph The graph to compress.
+     * @param newWeightBits EXACT_WEIGHTS, 8 or 16.
+     * @throws IllegalArgumentException If the graph parameter is null, newWeightBits is
+     * not one of the allowed values, or a quantized graph has a weight that is not finite or
+     * its weights range over more than Float.MAX_VALUE.
+     */
+    public CompressedFloatGraph(FloatGraph<K> graph, int newWeightBits) throws IllegalArgumentException {
+        if (graph == null)
+            throw new IllegalArgumentException("Error while creating a new CompressedFloatGraph: The graph parameter is null!");
+        else if (newWeightBits != EXACT_WEIGHTS && newWeightBits != 8 && newWeightBits != 16)
+            throw new IllegalArgumentException("Error while creating a new CompressedFloatGraph: The newWeightBits parameter (" + newWeightBits + ") is not 0, 8 or 16!");
+        
+        int n = graph.vertexCount();
+        index = graph.getIndex();
+        directed = graph.isDirected();
+        edges = graph.edgeCount();
+        weightBits = newWeightBits;
+        int[] targets = new int[graph.maxDegree()];
+        float[] weights = new float[targets.length];
+        
+        // Find the range of the weights to spread the quantization levels over.
+        float low = Float.POSITIVE_INFINITY, high = Float.NEGATIVE_INFINITY;
+        if (weightBits != EXACT_WEIGHTS)
+            for (int v = 0; v < n; v++) {
+                int count = graph.neighbors(v, targets, weights);
+                for (int i = 0; i < count; i++) {
+                    if (!Float.isFinite(weights[i]))
+                        throw new IllegalArgumentException("Error while creating a new CompressedFloatGraph: The weight " + weights[i] + " of an edge of vertex " + v + " cannot be quantized!");
+                    low = Math.min(low, weights[i]);
+                    high = Math.max(high, weights[i]);
+                }
+            }
+        if (low < high && !Float.isFinite(high - low))
+            throw new IllegalArgumentException("Error while creating a new CompressedFloatGraph: The weights range from " + low + " to " + high + ", too widely apart to be quantized!");
+        minWeight = low <= high ? low : 0;
+        step = low < high ? (high - low) / ((1 << weightBits) - 1) : 0;
+        
+        offsets = new int[n + 1];
+        byte[] buffer = new byte[Math.max(16, n * 2)];
+        int size = 0, max = 0;
+        long[] sorted = new long[targets.length];
+        for (int v = 0; v < n; v++) {
+            int count = graph.neighbors(v, targets, weights);
+            max = Math.max(max, count);
+            
+            // Sort the neighbors by index, keeping each one's position to find its weight.
+            for (int i = 0; i < count; i++)
+                sorted[i] = (long) targets[i] << 32 | i;
+            Arrays.sort(sorted, 0, count);
+            
+            // Make room for the worst case of a 5 byte degree plus 5 index bytes and 4 weight bytes per neighbor.
+            long needed = size + 5 + 9L * count;
+            if (needed > buffer.length) {
+                if (needed > Integer.MAX_VALUE - 8)
+                    throw new IllegalArgumentException("Error while creating a new CompressedFloatGraph: The encoded graph does not fit in one array!");
+                buffer = Arrays.copyOf(buffer, (int) Math.min(Integer.MAX_VALUE - 8, Math.max(needed, 2L * buffer.length)));
+            }
+            
+            offsets[v] = size;
+            size = writeVarint(buffer, size, count);
+            int previous = v;
+            for (int k = 0; k < count; k++) {
+                int target = (int) (sorted[k] >>> 32);
+                int gap = target - previous;
+                size = writeVarint(buffer, size, k == 0 ? gap << 1 ^ gap >> 31 : gap);
+                previous = target;
+                size = writeWeight(buffer, size, weights[(int) sorted[k]]);
+            }
+        }
+        offsets[n] = size;
+        data = Arrays.copyOf(buffer, size);
+        maxDegree = max;
+    }
+    
+    /** of compresses the passed-in weighted Graph, which is directed if it is a
+     *  DirectedWeightedGraph and undirected otherwise.
+     * 
+     * @param <K> The type stored in the graph's vertices.
+     * @param graph The weighted Graph to copy.
+     * @param weightBits EXACT_WEIGHTS, 8 or 16.
+     * @return A compressed copy of the graph.
+     * @throws IllegalArgumentException If the graph parameter is null, has an edge without a
+     * numerical weight, or weightBits is not one of the allowed values.
+     */
+    public static <K extends Comparable<? super K>> CompressedFloatGraph<K> of(Graph<K> graph, int weightBits) throws IllegalArgumentException {
+        return new CompressedFloatGraph<>(FloatCSRGraph.of(graph), weightBits);
+    }
+    
+    /** writeVarint writes the passed-in value, taken as unsigned, 7 bits at a time from the lowest.
+     * 
+     * @param buffer The array to write into.
+     * @param position Where to write the first byte.
+     * @param value The value to write.
+     * @return The position after the last byte written.
+     */
+    private static int writeVarint(byte[] buffer, int position, int value) {
+        while ((value & ~0x7F) != 0) {
+            buffer[position++] = (byte) (value & 0x7F | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+        return position;
+    }
+    
+    /** writeWeight writes the passed-in weight exactly or as its nearest quantization level, lowest byte first.
+     * 
+     * @param buffer The array to write into.
+     * @param position Where to write the first byte.
+     * @param weight The weight to write.
+     * @return The position after the last byte written.
+     */
+    private int writeWeight(byte[] buffer, int position, float weight) {
+        int bits = weightBits == EXACT_WEIGHTS ? Float.floatToRawIntBits(weight) : step == 0 ? 0 : Math.min(Math.round((weight - minWeight) / step), (1 << weightBits) - 1);
+        int bytes = weightBits == EXACT_WEIGHTS ? 4 : weightBits / 8;
+        for (int i = 0; i < bytes; i++)
+            buffer[position++] = (byte) (bits >>> 8 * i);
+        return position;
+    }
+    
+    /** vertexCount returns the number of vertices in this graph.
+     * 
+     * @return The number of vertices.
+     */
+    @Override
+    public int vertexCount() {
+        return index.size();
+    }
+    
+    /** edgeCount returns the number of edges in this graph; an undirected
+     *  edge is counted once even though both of its endpoints list it.
+     * 
+     * @return The edges attribute.
+     */
+    @Override
+    public long edgeCount() {
+        return edges;
+    }
+    
+    /** isDirected returns whether this graph is directed.
+     * 
+     * @return The directed attribute.
+     */
+    @Override
+    public boolean isDirected() {
+        return directed;
+    }
+    
+    /** degree returns the number of neighbors listed for the passed-in vertex,
+     *  which is the first value of its encoded list.
+     * 
+     * @param vertex The index of the vertex.
+     * @return The number of neighbors of the vertex.
+     */
+    @Override
+    public int degree(int vertex) {
+        int position = offsets[vertex], value = 0, shift = 0;
+        byte b;
+        do {
+            b = data[position++];
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        } while (b < 0);
+        return value;
+    }
+    
+    /** maxDegree returns the largest degree of any vertex in this graph.
+     * 
+     * @return The maxDegree attribute.
+     */
+    @Override
+    public int maxDegree() {
+        return maxDegree;
+    }
+    
+    /** neighbors decodes the neighbors of the passed-in vertex, in ascending
+     *  index order, and the weights of the edges leading to them into the
+     *  passed-in buffers.
+     * 
+     * @param vertex The index of the vertex whose neighbors to write.
+     * @param targets The buffer to write the neighbor indexes into.
+     * @param weights The buffer to write the edge weights into.
+     * @return The number of neighbors written.
+     */
+    @Override
+    public int neighbors(int vertex, int[] targets, float[] weights) {
+        byte[] bytes = data;
+        int position = offsets[vertex];
+        int count = 0, shift = 0;
+        byte b;
+        do {
+            b = bytes[position++];
+            count |= (b & 0x7F) << shift;
+            shift += 7;
+        } while (b < 0);
+        
+        int previous = vertex;
+        for (int k = 0; k < count; k++) {
+            int gap = 0;
+            shift = 0;
+            do {
+                b = bytes[position++];
+                gap |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            if (k == 0)
+                gap = gap >>> 1 ^ -(gap & 1);
+            previous += gap;
+            targets[k] = previous;
+            
+            if (weightBits == EXACT_WEIGHTS) {
+                weights[k] = Float.intBitsToFloat(bytes[position] & 0xFF | (bytes[position + 1] & 0xFF) << 8 | (bytes[position + 2] & 0xFF) << 16 | bytes[position + 3] << 24);
+                position += 4;
+            } else if (weightBits == 8)
+                weights[k] = minWeight + (bytes[position++] & 0xFF) * step;
+            else {
+                weights[k] = minWeight + (bytes[position] & 0xFF | (bytes[position + 1] & 0xFF) << 8) * step;
+                position += 2;
+            }
+        }
+        return count;
+    }
+    
+    /** getWeightBits returns the number of bits of each quantized weight.
+     * 
+     * @return The weightBits attribute, EXACT_WEIGHTS if weights are not quantized.
+     */
+    public int getWeightBits() {
+        return weightBits;
+    }
+    
+    /** getEncodedBytes returns the number of bytes the encoded adjacency lists take.
+     * 
+     * @return The length of the data array.
+     */
+    public int getEncodedBytes() {
+        return data.length;
+    }
+    
+    /** getIndex returns the VertexIndex that maps this graph's vertex indexes to their items.
+     * 
+     * @return The index attribute.
+     */
+    @Override
+    public VertexIndex<K> getIndex() {
+        return index;
+    }
+}
\ No newline at end of file
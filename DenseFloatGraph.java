@@ -0,0 +1,190 @@
+/* Author:     Ryan McAllister-Grum
+ * UIN:        661880584
+ * Class:      20FA - Algorithms & Computation (20FA-OL-CSC482A-15037)
+ * Assignment: 3 (Implement Prim's Algorithm)
+ */
+
+import java.util.Arrays;
+
+/** DenseFloatGraph stores a graph as a flat vertexCount() x vertexCount()
+ *  adjacency matrix of float weights, where a missing edge weighs
+ *  Float.POSITIVE_INFINITY. For complete or nearly complete graphs, such as
+ *  all-pairs distance graphs, this is smaller than a FloatCSRGraph and lets
+ *  DenseFloatPrimEngine read each row of weights sequentially.
+ * 
+ * @param <K> The type stored in this graph's vertices.
+ */
+public class DenseFloatGraph<K extends Comparable<? super K>> implements FloatGraph<K> {
+    /** DENSE_DENSITY is the fraction of all possible edges a graph must have
+     *  before Prim runs it through a DenseFloatGraph instead of a heap.
+     */
+    static final double DENSE_DENSITY = 0.25;
+    /** MAX_VERTICES is the largest vertex count whose matrix fits in one array.
+     */
+    static final int MAX_VERTICES = 46340;
+    
+    /** index maps vertex indexes to the items stored in the original Vertexes.
+     */
+    final VertexIndex<K> index;
+    /** matrix holds the weight of the edge from vertex u to vertex v at u * vertexCount() + v.
+     */
+    final float[] matrix;
+    /** edges is the number of edges in this graph.
+     */
+    private final long edges;
+    /** directed indicates whether the matrix may be asymmetric.
+     */
+    private final boolean directed;
+    /** infiniteEdges indicates whether the copied graph had an edge weighing
+     *  Float.POSITIVE_INFINITY, which the matrix cannot tell from a missing one.
+     */
+    private final boolean infiniteEdges;
+    
+    /** Constructor that creates a new DenseFloatGraph holding the edges of the passed-in compact graph.
+     * 
+     * @param graph The graph to copy into an adjacency matrix.
+     * @throws IllegalArgumentException If the graph parameter is null or has more than MAX_VERTICES vertices.
+     */
+    public DenseFloatGraph(FloatGraph<K> graph) throws IllegalArgumentException {
+        if (graph == null)
+            throw new IllegalArgumentException("Error while creating a new DenseFloatGraph(FloatGraph<K>): The graph parameter is null!");
+        else if (graph.vertexCount() > MAX_VERTICES)
+            throw new IllegalArgumentException("Error while creating a new DenseFloatGraph(FloatGraph<K>): The graph has " + graph.vertexCount() + " vertices, more than the " + MAX_VERTICES + " an adjacency matrix can hold!");
+        
+        int n = graph.vertexCount();
+        index = graph.getIndex();
+        directed = graph.isDirected();
+        matrix = new float[n * n];
+        Arrays.fill(matrix, Float.POSITIVE_INFINITY);
+        
+        // Copy each edge, keeping the cheapest of any parallel edges.
+        int[] targets = new int[graph.maxDegree()];
+        float[] weights = new float[targets.length];
+        boolean infinite = false;
+        for (int u = 0; u < n; u++) {
+            int count = graph.neighbors(u, targets, weights);
+            for (int i = 0; i < count; i++) {
+                if (weights[i] < matrix[u * n + targets[i]])
+                    matrix[u * n + targets[i]] = weights[i];
+                infinite |= weights[i] == Float.POSITIVE_INFINITY;
+            }
+        }
+        infiniteEdges = infinite;
+        
+        long arcs = 0;
+        for (float weight : matrix)
+            if (weight != Float.POSITIVE_INFINITY)
+                arcs++;
+        edges = directed ? arcs : arcs / 2;
+    }
+    
+    /** isWorthwhile returns whether a graph with the passed-in size is dense
+     *  enough for the O(V^2) DenseFloatPrimEngine to beat the heap-based
+     *  engine, and small enough for its adjacency matrix to fit comfortably in memory.
+     * 
+     * @param vertices The number of vertices in the graph.
+     * @param edges The number of undirected edges in the graph.
+     * @return True if the graph should be run through a DenseFloatGraph.
+     */
+    public static boolean isWorthwhile(int vertices, long edges) {
+        if (vertices < 2 || vertices > MAX_VERTICES)
+            return false;
+        
+        long possible = (long) vertices * (vertices - 1) / 2;
+        long matrixBytes = (long) vertices * vertices * Float.BYTES;
+        return edges >= DENSE_DENSITY * possible && matrixBytes <= Runtime.getRuntime().maxMemory() / 4;
+    }
+    
+    /** vertexCount returns the number of vertices in this graph.
+     * 
+     * @return The number of vertices.
+     */
+    @Override
+    public int vertexCount() {
+        return index.size();
+    }
+    
+    /** edgeCount returns the number of edges in this graph.
+     * 
+     * @return The number of edges.
+     */
+    @Override
+    public long edgeCount() {
+        return edges;
+    }
+    
+    /** isDirected returns whether this graph is directed.
+     * 
+     * @return The directed attribute.
+     */
+    @Override
+    public boolean isDirected() {
+        return directed;
+    }
+    
+    /** degree returns the number of neighbors of the passed-in vertex.
+     * 
+     * @param vertex The index of the vertex.
+     * @return The number of finite weights in the vertex's row.
+     */
+    @Override
+    public int degree(int vertex) {
+        int n = index.size(), count = 0;
+        for (int v = vertex * n; v < (vertex + 1) * n; v++)
+            if (matrix[v] != Float.POSITIVE_INFINITY)
+                count++;
+        return count;
+    }
+    
+    /** maxDegree returns the largest degree of any vertex in this graph.
+     * 
+     * @return The largest degree in this graph.
+     */
+    @Override
+    public int maxDegree() {
+        int max = 0;
+        for (int v = 0; v < index.size(); v++)
+            max = Math.max(max, degree(v));
+        return max;
+    }
+    
+    /** neighbors writes the neighbors of the passed-in vertex and the weights
+     *  of the edges leading to them into the passed-in buffers.
+     * 
+     * @param vertex The index of the vertex whose neighbors to write.
+     * @param targets The buffer to write the neighbor indexes into.
+     * @param weights The buffer to write the edge weights into.
+     * @return The number of neighbors written.
+     */
+    @Override
+    public int neighbors(int vertex, int[] targets, float[] weights) {
+        int n = index.size(), count = 0;
+        for (int v = 0; v < n; v++) {
+            float weight = matrix[vertex * n + v];
+            if (weight != Float.POSITIVE_INFINITY) {
+                targets[count] = v;
+                weights[count] = weight;
+                count++;
+            }
+        }
+        return count;
+    }
+    
+    /** hasInfiniteEdges returns whether the copied graph had an edge weighing
+     *  Float.POSITIVE_INFINITY, which this graph holds as a missing edge.
+     * 
+     * @return The infiniteEdges attribute.
+     */
+    public boolean hasInfiniteEdges() {
+        return infiniteEdges;
+    }
+    
+    /** getIndex returns the VertexIndex that maps this graph's vertex indexes to their items.
+     * 
+     * @return The index attribute.
+     */
+    @Override
+    public VertexIndex<K> getIndex() {
+        return index;
+    }
+}
\ No newline at end of file
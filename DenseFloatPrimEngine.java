@@ -0,0 +1,157 @@
+/* Author:     Ryan McAllister-Grum
+ * UIN:        661880584
+ * Class:      20FA - Algorithms & Computation (20FA-OL-CSC482A-15037)
+ * Assignment: 3 (Implement Prim's Algorithm)
+ */
+
+import java.util.Arrays;
+
+/** DenseFloatPrimEngine runs the classic O(V^2) array form of Prim's
+ *  Algorithm over a DenseFloatGraph: instead of a heap, it keeps the cheapest
+ *  known attachment cost of every vertex in a float array and scans it for
+ *  the minimum. Both the scan and the relaxation of a matrix row are tight
+ *  loops over contiguous arrays that the JIT can unroll and vectorize. For
+ *  complete or nearly complete graphs this beats a heap, whose ChangeKey
+ *  would run for almost every one of the V^2 edges.
+ */
+public class DenseFloatPrimEngine implements FloatMSTEngine {
+    /** DONE marks the minCost of a vertex that is already in the tree; NaN
+     *  never compares as cheaper or more expensive, so neither the minimum
+     *  scan nor the relaxation picks it again.
+     */
+    private static final float DONE = Float.NaN;
+    
+    /** The graph whose Minimum Spanning Tree this engine finds.
+     */
+    private final DenseFloatGraph<?> graph;
+    /** parent holds the index of the vertex that attached each vertex to the tree, or -1 for a root.
+     */
+    private final int[] parent;
+    /** cost holds the weight of the edge that attached each vertex to the tree.
+     */
+    private final float[] cost;
+    /** order holds the vertex indexes in the order they were added to the tree.
+     */
+    private final int[] order;
+    /** extracted is the number of vertices added to the tree so far.
+     */
+    private int extracted;
+    /** kernel runs the minimum scan and the row relaxation.
+     */
+    private final FloatScanKernel kernel;
+    
+    /** Constructor that creates a new DenseFloatPrimEngine for the passed-in graph.
+     * 
+     * @param newGraph The graph whose Minimum Spanning Tree to find.
+     * @throws IllegalArgumentException If the newGraph parameter is null.
+     */
+    public DenseFloatPrimEngine(DenseFloatGraph<?> newGraph) throws IllegalArgumentException {
+        this(newGraph, FloatScanKernel.DEFAULT);
+    }
+    
+    /** Constructor that creates a new DenseFloatPrimEngine for the passed-in
+     *  graph that scans and relaxes with the passed-in kernel.
+     * 
+     * @param newGraph The graph whose Minimum Spanning Tree to find.
+     * @param newKernel The kernel to scan and relax with.
+     * @throws IllegalArgumentException If either parameter is null.
+     */
+    DenseFloatPrimEngine(DenseFloatGraph<?> newGraph, FloatScanKernel newKernel) throws IllegalArgumentException {
+        if (newGraph == null)
+            throw new IllegalArgumentException("Error while creating a new DenseFloatPrimEngine: The newGraph parameter is null!");
+        else if (newKernel == null)
+            throw new IllegalArgumentException("Error while creating a new DenseFloatPrimEngine: The newKernel parameter is null!");
+        
+        graph = newGraph;
+        kernel = newKernel;
+        int n = graph.vertexCount();
+        parent = new int[n];
+        cost = new float[n];
+        order = new int[n];
+    }
+    
+    /** ExecutePrim finds the Minimum Spanning Tree (or forest) of this engine's
+     *  graph starting from the passed-in root. Ties are broken by the lowest
+     *  vertex index, and a new tree is started at the lowest-indexed remaining
+     *  vertex when the current one cannot grow, exactly as in FloatPrimEngine.
+     * 
+     * @param root The index of the root vertex, or -1 to start from vertex 0.
+     * @param consumer The consumer to pass each tree edge to, or null.
+     */
+    @Override
+    public void ExecutePrim(int root, MSTEdgeConsumer consumer) {
+        int n = graph.vertexCount();
+        float[] matrix = graph.matrix;
+        float[] minCost = new float[n]; // Float.POSITIVE_INFINITY until reached, DONE once in the tree.
+        Arrays.fill(minCost, Float.POSITIVE_INFINITY);
+        Arrays.fill(parent, -1);
+        extracted = 0;
+        
+        if (root >= 0 && root < n)
+            minCost[root] = 0;
+        
+        while (extracted < n) {
+            // Find the cheapest attachment cost...
+            float min = kernel.min(minCost, n);
+            // ...and then the lowest index that has it; if no edge leaves the tree, that is the lowest-indexed remaining vertex.
+            int vertex = 0;
+            while (minCost[vertex] != min)
+                vertex++;
+            
+            cost[vertex] = min;
+            minCost[vertex] = DONE;
+            order[extracted++] = vertex;
+            if (parent[vertex] >= 0 && consumer != null)
+                consumer.accept(parent[vertex], vertex, min);
+            
+            // Relax the extracted vertex's row; a missing edge weighs Float.POSITIVE_INFINITY and never relaxes.
+            kernel.relaxRow(matrix, vertex * n, n, vertex, minCost, parent);
+        }
+    }
+    
+    /** ExecutePrim finds the Minimum Spanning Tree (or forest) of this engine's
+     *  graph starting from the passed-in root.
+     * 
+     * @param root The index of the root vertex, or -1 to start from vertex 0.
+     */
+    public void ExecutePrim(int root) {
+        ExecutePrim(root, null);
+    }
+    
+    /** getParent returns the parent index of each vertex, or -1 for the root of each tree.
+     * 
+     * @return The parent attribute.
+     */
+    @Override
+    public int[] getParent() {
+        return parent;
+    }
+    
+    /** getCost returns the weight of the edge that attached each vertex to the tree.
+     * 
+     * @return The cost attribute.
+     */
+    @Override
+    public float[] getCost() {
+        return cost;
+    }
+    
+    /** getOrder returns the vertex indexes in the order they were added to the tree;
+     *  only the first getExtracted() entries are meaningful.
+     * 
+     * @return The order attribute.
+     */
+    @Override
+    public int[] getOrder() {
+        return order;
+    }
+    
+    /** getExtracted returns the number of vertices added to the tree.
+     * 
+     * @return The extracted attribute.
+     */
+    @Override
+    public int getExtracted() {
+        return extracted;
+    }
+}
\ No newline at end of file
@@ -4,6 +4,7 @@
  * Assignment: 3 (Implement Prim's Algorithm)
  */
 
+import java.util.NavigableSet;
 import java.util.TreeMap;
 import java.util.TreeSet;
 
@@ -26,13 +27,16 @@ public class DirectedUnweightedGraph<K extends Comparable<? super K>> extends Gr
      * @param from The Vertex that this Edge comes from.
      * @param to The destination Vertex of the from Edge.
      * @throws IllegalArgumentException If either from or to is null.
+     * @throws IllegalStateException If this graph is frozen.
      */
-    public void addEdge(Vertex<K> from, Vertex<K> to) throws IllegalArgumentException {
+    public void addEdge(Vertex<K> from, Vertex<K> to) throws IllegalArgumentException, IllegalStateException {
         // First check that neither from nor to are null.
         if (from == null)
             throw new IllegalArgumentException("Error while executing addEdge(Vertex<K>, Vertex<K>) in DirectedUnweightedGraph: The from parameter is null!");
         else if (to == null)
             throw new IllegalArgumentException("Error while executing addEdge(Vertex<K>, Vertex<K>) in DirectedUnweightedGraph: The to parameter is null!");
+        else if (frozen)
+            throw new IllegalStateException("Error while executing addEdge(Vertex<K>, Vertex<K>) in DirectedUnweightedGraph: The graph is frozen!");
         
         
         // Add Edge to the from Vertex that points to the other Vertex.
@@ -58,7 +62,7 @@ public class DirectedUnweightedGraph<K extends Comparable<? super K>> extends Gr
         
         for (Vertex v : getVertices()) {
             result += "\t" + v + ": [";
-            for(Edge e : (TreeSet<Edge>) getEdges(v))
+            for(Edge e : (NavigableSet<Edge>) getEdges(v))
                 if (e.equals(graph.get(v).last()))
                     result += e;
                 else
@@ -0,0 +1,125 @@
+/* Author:     Ryan McAllister-Grum
+ * UIN:        661880584
+ * Class:      20FA - Algorithms & Computation (20FA-OL-CSC482A-15037)
+ * Assignment: 3 (Implement Prim's Algorithm)
+ */
+
+/** The DoubleWeightedEdge is a WeightedEdge specialized for primitive double weights.
+ *  It stores its weight unboxed and compares weights with Double.compare, so it
+ *  can replace a WeightedEdge{@literal <}Double{@literal >} anywhere without a boxed weight per edge.
+ */
+public class DoubleWeightedEdge extends WeightedEdge<Double> {
+    /** The primitive weight value assigned to this DoubleWeightedEdge.
+     */
+    double doubleWeight;
+    
+    /** Constructor that creates a new DoubleWeightedEdge using the passed-in
+     *  destination Vertex and edge cost.
+     * 
+     * @param to The destination Vertex of this DoubleWeightedEdge.
+     * @param newWeight The new weight value/cost to assign to this
+     * DoubleWeightedEdge.
+     */
+    public DoubleWeightedEdge(Vertex to, double newWeight) {
+        super(to, null);
+        doubleWeight = newWeight;
+    }
+    
+    /** getDoubleWeight returns the primitive cost of this DoubleWeightedEdge.
+     * 
+     * @return The doubleWeight attribute of this DoubleWeightedEdge.
+     */
+    public double getDoubleWeight() {
+        return doubleWeight;
+    }
+    
+    /** getWeight returns the boxed cost of this DoubleWeightedEdge; prefer
+     *  getDoubleWeight in hot loops.
+     * 
+     * @return The doubleWeight attribute of this DoubleWeightedEdge, boxed.
+     */
+    @Override
+    public Double getWeight() {
+        return doubleWeight;
+    }
+    
+    /** setWeight sets a new edge cost to this DoubleWeightedEdge.
+     * 
+     * @param newWeight The new edge cost to set to this DoubleWeightedEdge.
+     * @throws IllegalArgumentException If the newWeight parameter is null.
+     * @throws IllegalStateException If this DoubleWeightedEdge belongs to a frozen Graph.
+     */
+    @Override
+    public void setWeight(Double newWeight) throws IllegalArgumentException, IllegalStateException {
+        if (newWeight == null)
+            throw new IllegalArgumentException("Error while executing setWeight(Double) in DoubleWeightedEdge: The newWeight parameter is null!");
+        else if (frozen)
+            throw new IllegalStateException("Error while executing setWeight(Double) in DoubleWeightedEdge: The edge belongs to a frozen graph!");
+        
+        doubleWeight = newWeight;
+    }
+    
+    /** equals compares this DoubleWeightedEdge with the passed-in Object for
+     *  equality; in particular, it compares their weight, and then their
+     *  destination Vertex, for equality.
+     * 
+     * @param o The Object to compare to this DoubleWeightedEdge.
+     * @return True if this DoubleWeightedEdge equals the passed-in Object.
+     * @throws IllegalArgumentException If the passed-in Object is not a
+     * DoubleWeightedEdge or is null.
+     */
+    @Override
+    public boolean equals(Object o) throws IllegalArgumentException {
+        if (o == this)
+            return true;
+        else if (o == null)
+            throw new IllegalArgumentException("Error while executing equals(Object) in DoubleWeightedEdge: The o parameter is null!");
+        else if (o.getClass() != getClass())
+            throw new IllegalArgumentException("Error while executing equals(Object) in DoubleWeightedEdge: Cannot compare a DoubleWeightedEdge to a " + o.getClass() + "!");
+        
+        DoubleWeightedEdge edge = (DoubleWeightedEdge) o;
+        return Double.compare(doubleWeight, edge.getDoubleWeight()) == 0 && getTo().equals(edge.getTo());
+    }
+    
+    /** hashCode returns the combined hashCode value of this DoubleWeightedEdge's weight
+     *  and destination Vertex.
+     * 
+     * @return The combined hashCode of this DoubleWeightedEdge's weight and to Vertex.
+     */
+    @Override
+    public int hashCode() {
+        return Double.hashCode(doubleWeight) + getTo().hashCode();
+    }
+    
+    /** compareTo compares this DoubleWeightedEdge with the passed-in WeightedEdge;
+     *  in particular, it compares their weight, and then their
+     *  destination Vertex.
+     * 
+     * @param edge The WeightedEdge to compare to this DoubleWeightedEdge.
+     * @return {@literal <} 0 if this DoubleWeightedEdge is less than the passed-in
+     * WeightedEdge, 0 if equal, and {@literal >} 0 if this DoubleWeightedEdge is greater
+     * than the passed-in WeightedEdge.
+     * @throws IllegalArgumentException If the passed-in WeightedEdge is null.
+     */
+    @Override
+    public int compareTo(WeightedEdge<Double> edge) throws IllegalArgumentException {
+        if (edge == this)
+            return 0;
+        else if (edge == null)
+            throw new IllegalArgumentException("Error while executing compareTo(WeightedEdge<Double>) in DoubleWeightedEdge: The edge parameter is null!");
+        
+        int result = Double.compare(doubleWeight, edge instanceof DoubleWeightedEdge ? ((DoubleWeightedEdge) edge).getDoubleWeight() : edge.getWeight());
+        return result != 0 ? result : getTo().compareTo(edge.getTo());
+    }
+    
+    /** toString outputs this DoubleWeightedEdge's Vertex, followed by its weight,
+     *  in a set of parenthesis.
+     * 
+     * @return This DoubleWeightedEdge's Vertex, followed by its weight, in a set
+     * of parenthesis.
+     */
+    @Override
+    public String toString() {
+        return "(" + getTo() + ", " + doubleWeight + ")";
+    }
+}
\ No newline at end of file
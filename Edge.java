@@ -11,6 +11,9 @@ public class Edge implements Comparable<Edge> {
     /** The destination Vertex to which this Edge connects a Vertex.
      */
     Vertex to;
+    /** frozen indicates that this Edge belongs to a frozen Graph and may no longer be modified.
+     */
+    boolean frozen;
     
     /** Constructor that creates a new Edge using the passed-in vertex.
      * 
@@ -37,11 +40,14 @@ public class Edge implements Comparable<Edge> {
      * 
      * @param newTo The new destination Vertex to set for this Edge.
      * @throws IllegalArgumentException If the newTo parameter is null.
+     * @throws IllegalStateException If this Edge belongs to a frozen Graph.
      */
-    public void setTo(Vertex newTo) throws IllegalArgumentException {
+    public void setTo(Vertex newTo) throws IllegalArgumentException, IllegalStateException {
         // First check that the newTo parameter is not null.
         if (newTo == null)
             throw new IllegalArgumentException("Error while executing setTo(Vertex) in Edge: The newTo parameter is null!");
+        else if (frozen)
+            throw new IllegalStateException("Error while executing setTo(Vertex) in Edge: The edge belongs to a frozen graph!");
         
         to = newTo;
     }
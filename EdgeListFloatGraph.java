@@ -0,0 +1,272 @@
+/* Author:     Ryan McAllister-Grum
+ * UIN:        661880584
+ * Class:      20FA - Algorithms & Computation (20FA-OL-CSC482A-15037)
+ * Assignment: 3 (Implement Prim's Algorithm)
+ */
+
+import java.util.TreeSet;
+
+/** EdgeListFloatGraph is an immutable undirected graph with primitive float
+ *  weights that stores each edge once. Edge e runs between from[e] and
+ *  to[e] with weight weights[e]; both endpoints list the edge's id instead of
+ *  a copy of it, so the ids of vertex v's edges are edgeIds[offsets[v]] to
+ *  edgeIds[offsets[v + 1] - 1], and the neighbor across edge e from v is
+ *  from[e] ^ to[e] ^ v. Prim's Algorithm walks the adjacency through that
+ *  indirection, while Kruskal's or Boruvka's Algorithm can read the flat
+ *  edge list directly without skipping the second copy of every edge.
+ * 
+ * @param <K> The type stored in this graph's vertices.
+ */
+public class EdgeListFloatGraph<K extends Comparable<? super K>> implements FloatGraph<K> {
+    /** index maps vertex indexes to the items stored in the original Vertexes.
+     */
+    final VertexIndex<K> index;
+    /** from and to hold the two endpoints of every edge.
+     */
+    final int[] from, to;
+    /** weights holds the weight of every edge.
+     */
+    final float[] weights;
+    /** offsets holds, for each vertex, where the ids of its edges start in edgeIds.
+     */
+    final int[] offsets;
+    /** edgeIds holds the ids of every vertex's edges, back to back.
+     */
+    final int[] edgeIds;
+    /** maxDegree is the largest degree of any vertex in this graph.
+     */
+    private final int maxDegree;
+    
+    /** Constructor that creates a new EdgeListFloatGraph over the passed-in edge
+     *  list, which it keeps, and lists each edge at both of its endpoints.
+     * 
+     * @param newIndex The VertexIndex of the graph; edges refer to its vertex indexes.
+     * @param newFrom One endpoint of each edge.
+     * @param newTo The other endpoint of each edge.
+     * @param newWeights The weight of each edge.
+     * @throws IllegalArgumentException If any parameter is null, the arrays do not line up,
+     * or an edge has an endpoint out of range.
+     */
+    EdgeListFloatGraph(VertexIndex<K> newIndex, int[] newFrom, int[] newTo, float[] newWeights) throws IllegalArgumentException {
+        if (newIndex == null || newFrom == null || newTo == null || newWeights == null)
+            throw new IllegalArgumentException("Error while creating a new EdgeListFloatGraph: A parameter is null!");
+        else if (newFrom.length != newTo.length || newFrom.length != newWeights.length)
+            throw new IllegalArgumentException("Error while creating a new EdgeListFloatGraph: The from, to and weights arrays do not line up!");
+        
+        index = newIndex;
+        from = newFrom;
+        to = newTo;
+        weights = newWeights;
+        int n = index.size(), m = from.length;
+        
+        // Count each vertex's edges (a loop is listed once), then turn the counts into offsets.
+        offsets = new int[n + 1];
+        for (int e = 0; e < m; e++) {
+            if (from[e] < 0 || from[e] >= n || to[e] < 0 || to[e] >= n)
+                throw new IllegalArgumentException("Error while creating a new EdgeListFloatGraph: The edge " + from[e] + "=" + to[e] + " has an endpoint out of range!");
+            offsets[from[e] + 1]++;
+            if (to[e] != from[e])
+                offsets[to[e] + 1]++;
+        }
+        int max = 0;
+        for (int v = 0; v < n; v++) {
+            max = Math.max(max, offsets[v + 1]);
+            offsets[v + 1] += offsets[v];
+        }
+        maxDegree = max;
+        
+        int[] fill = new int[n];
+        System.arraycopy(offsets, 0, fill, 0, n);
+        edgeIds = new int[offsets[n]];
+        for (int e = 0; e < m; e++) {
+            edgeIds[fill[from[e]]++] = e;
+            if (to[e] != from[e])
+                edgeIds[fill[to[e]]++] = e;
+        }
+    }
+    
+    /** of creates a new EdgeListFloatGraph from the passed-in undirected
+     *  weighted Graph, taking each edge once from its lower-indexed endpoint.
+     * 
+     * @param <K> The type stored in the graph's vertices.
+     * @param graph The undirected weighted Graph to copy.
+     * @return A copy of the graph that stores each edge once.
+     * @throws IllegalArgumentException If the graph parameter is null or directed, or has an edge
+     * without a numerical weight.
+     */
+    public static <K extends Comparable<? super K>> EdgeListFloatGraph<K> of(Graph<K> graph) throws IllegalArgumentException {
+        if (graph == null)
+            throw new IllegalArgumentException("Error while executing of(Graph<K>) in EdgeListFloatGraph: The graph parameter is null!");
+        else if (graph instanceof DirectedWeightedGraph || graph instanceof DirectedUnweightedGraph)
+            throw new IllegalArgumentException("Error while executing of(Graph<K>) in EdgeListFloatGraph: The graph is directed!");
+        
+        VertexIndex<K> index = new VertexIndex<>(graph);
+        int count = 0, u = 0;
+        for (TreeSet<Edge> list : graph.graph.values()) {
+            for (Edge edge : list)
+                if (u <= index.indexOf((Vertex<K>) edge.getTo()))
+                    count++;
+            u++;
+        }
+        
+        int[] from = new int[count], to = new int[count];
+        float[] weights = new float[count];
+        int e = 0;
+        u = 0;
+        for (TreeSet<Edge> list : graph.graph.values()) {
+            for (Edge edge : list) {
+                int v = index.indexOf((Vertex<K>) edge.getTo());
+                if (u <= v) {
+                    from[e] = u;
+                    to[e] = v;
+                    weights[e++] = FloatCSRGraph.weightOf(edge);
+                }
+            }
+            u++;
+        }
+        return new EdgeListFloatGraph<>(index, from, to, weights);
+    }
+    
+    /** of creates a new EdgeListFloatGraph over the vertices of the passed-in
+     *  VertexIndex from copies of the first count entries of the passed-in edge arrays.
+     * 
+     * @param <K> The type stored in the graph's vertices.
+     * @param index The VertexIndex of the graph; edges refer to its vertex indexes.
+     * @param from One endpoint of each edge.
+     * @param to The other endpoint of each edge.
+     * @param weights The weight of each edge.
+     * @param count The number of edges.
+     * @return A graph that stores each of the edges once.
+     * @throws IllegalArgumentException If index or an array is null, an array is shorter than count,
+     * or an edge has an endpoint out of range.
+     */
+    public static <K extends Comparable<? super K>> EdgeListFloatGraph<K> of(VertexIndex<K> index, int[] from, int[] to, float[] weights, int count) throws IllegalArgumentException {
+        if (index == null)
+            throw new IllegalArgumentException("Error while executing of(VertexIndex<K>, int[], int[], float[], int) in EdgeListFloatGraph: The index parameter is null!");
+        else if (from == null || to == null || weights == null)
+            throw new IllegalArgumentException("Error while executing of(VertexIndex<K>, int[], int[], float[], int) in EdgeListFloatGraph: An edge array is null!");
+        else if (count < 0 || from.length < count || to.length < count || weights.length < count)
+            throw new IllegalArgumentException("Error while executing of(VertexIndex<K>, int[], int[], float[], int) in EdgeListFloatGraph: The edge arrays are shorter than count (" + count + ")!");
+        
+        int[] newFrom = new int[count], newTo = new int[count];
+        float[] newWeights = new float[count];
+        System.arraycopy(from, 0, newFrom, 0, count);
+        System.arraycopy(to, 0, newTo, 0, count);
+        System.arraycopy(weights, 0, newWeights, 0, count);
+        return new EdgeListFloatGraph<>(index, newFrom, newTo, newWeights);
+    }
+    
+    /** vertexCount returns the number of vertices in this graph.
+     * 
+     * @return The number of vertices.
+     */
+    @Override
+    public int vertexCount() {
+        return index.size();
+    }
+    
+    /** edgeCount returns the number of edges in this graph, each stored once.
+     * 
+     * @return The length of the edge list.
+     */
+    @Override
+    public long edgeCount() {
+        return from.length;
+    }
+    
+    /** isDirected returns false, as every edge is listed at both of its endpoints.
+     * 
+     * @return False.
+     */
+    @Override
+    public boolean isDirected() {
+        return false;
+    }
+    
+    /** degree returns the number of edges listed for the passed-in vertex.
+     * 
+     * @param vertex The index of the vertex.
+     * @return The number of neighbors of the vertex.
+     */
+    @Override
+    public int degree(int vertex) {
+        return offsets[vertex + 1] - offsets[vertex];
+    }
+    
+    /** maxDegree returns the largest degree of any vertex in this graph.
+     * 
+     * @return The maxDegree attribute.
+     */
+    @Override
+    public int maxDegree() {
+        return maxDegree;
+    }
+    
+    /** neighbors writes the neighbors of the passed-in vertex and the weights
+     *  of the edges leading to them into the passed-in buffers, following each
+     *  of the vertex's edge ids into the edge list.
+     * 
+     * @param vertex The index of the vertex whose neighbors to write.
+     * @param targets The buffer to write the neighbor indexes into.
+     * @param neighborWeights The buffer to write the edge weights into.
+     * @return The number of neighbors written.
+     */
+    @Override
+    public int neighbors(int vertex, int[] targets, float[] neighborWeights) {
+        int start = offsets[vertex], count = offsets[vertex + 1] - start;
+        for (int i = 0; i < count; i++) {
+            int e = edgeIds[start + i];
+            targets[i] = from[e] ^ to[e] ^ vertex;
+            neighborWeights[i] = weights[e];
+        }
+        return count;
+    }
+    
+    /** incidentEdges writes the ids of the passed-in vertex's edges into the passed-in buffer.
+     * 
+     * @param vertex The index of the vertex.
+     * @param ids The buffer to write the edge ids into, at least degree(vertex) long.
+     * @return The number of edge ids written.
+     */
+    public int incidentEdges(int vertex, int[] ids) {
+        int start = offsets[vertex], count = offsets[vertex + 1] - start;
+        System.arraycopy(edgeIds, start, ids, 0, count);
+        return count;
+    }
+    
+    /** getFrom returns the first endpoint of the passed-in edge.
+     * 
+     * @param edge The id of the edge, from 0 to edgeCount() - 1.
+     * @return The index of the edge's first endpoint.
+     */
+    public int getFrom(int edge) {
+        return from[edge];
+    }
+    
+    /** getTo returns the second endpoint of the passed-in edge.
+     * 
+     * @param edge The id of the edge, from 0 to edgeCount() - 1.
+     * @return The index of the edge's second endpoint.
+     */
+    public int getTo(int edge) {
+        return to[edge];
+    }
+    
+    /** getWeight returns the weight of the passed-in edge.
+     * 
+     * @param edge The id of the edge, from 0 to edgeCount() - 1.
+     * @return The weight of the edge.
+     */
+    public float getWeight(int edge) {
+        return weights[edge];
+    }
+    
+    /** getIndex returns the VertexIndex that maps this graph's vertex indexes to their items.
+     * 
+     * @return The index attribute.
+     */
+    @Override
+    public VertexIndex<K> getIndex() {
+        return index;
+    }
+}
\ No newline at end of file
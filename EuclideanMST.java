@@ -0,0 +1,425 @@
+/* Author:     Ryan McAllister-Grum
+ * UIN:        661880584
+ * Class:      20FA - Algorithms & Computation (20FA-OL-CSC482A-15037)
+ * Assignment: 3 (Implement Prim's Algorithm)
+ */
+
+import java.util.Arrays;
+
+/** EuclideanMST finds the Minimum Spanning Tree of the complete graph over a
+ *  set of points, where each edge weighs the Euclidean distance between its
+ *  endpoints, without ever materializing the O(n^2) edges. It runs Boruvka's
+ *  Algorithm: every round, each component finds its nearest point in another
+ *  component through a k-d tree, and all of those edges are added at once.
+ *  Subtrees whose points all belong to the querying component, or whose
+ *  bounding box is farther away than the component's best edge so far, are
+ *  skipped, so each round costs about O(n log n) and there are O(log n) rounds.
+ */
+public class EuclideanMST {
+    /** LEAF_SIZE is the largest number of points stored in one k-d tree leaf.
+     */
+    private static final int LEAF_SIZE = 8;
+    
+    /** coordinates holds the points, dimensions values per point.
+     */
+    private final double[] coordinates;
+    /** dimensions is the number of coordinates per point.
+     */
+    private final int dimensions;
+    /** points holds the point indexes in k-d tree order; every node owns a contiguous range.
+     */
+    private final int[] points;
+    /** nodeStart and nodeEnd hold the range of points owned by each k-d tree node.
+     */
+    private int[] nodeStart, nodeEnd;
+    /** nodeLeft and nodeRight hold the children of each k-d tree node, or -1 for a leaf.
+     */
+    private int[] nodeLeft, nodeRight;
+    /** nodeMin and nodeMax hold the bounding box of each k-d tree node, dimensions values per node.
+     */
+    private double[] nodeMin, nodeMax;
+    /** nodeComponent holds the component shared by all points of each node, or -1 if they differ.
+     */
+    private int[] nodeComponent;
+    /** nodes is the number of k-d tree nodes built.
+     */
+    private int nodes;
+    /** component holds the union-find parent of each point.
+     */
+    private final int[] component;
+    /** from, to and weight hold the tree edges in the order they were found.
+     */
+    private final int[] from, to;
+    private final float[] weight;
+    /** edges is the number of tree edges found.
+     */
+    private int edges;
+    
+    /** Constructor that finds the Euclidean Minimum Spanning Tree of the passed-in points.
+     * 
+     * @param newCoordinates The coordinates of the points, dimensions values per point.
+     * @param newDimensions The number of coordinates per point.
+     * @throws IllegalArgumentException If newCoordinates is null, newDimensions is not positive,
+     * or the number of coordinates is not a multiple of newDimensions.
+     */
+    public EuclideanMST(double[] newCoordinates, int newDimensions) throws IllegalArgumentException {
+        this(newCoordinates, newDimensions, null);
+    }
+    
+    /** Constructor that finds the Euclidean Minimum Spanning Tree of the
+     *  passed-in points and passes each tree edge to the consumer as soon as
+     *  it is added.
+     * 
+     * @param newCoordinates The coordinates of the points, dimensions values per point.
+     * @param newDimensions The number of coordinates per point.
+     * @param consumer The consumer to pass each tree edge to, or null.
+     * @throws IllegalArgumentException If newCoordinates is null, newDimensions is not positive,
+     * or the number of coordinates is not a multiple of newDimensions.
+     */
+    public EuclideanMST(double[] newCoordinates, int newDimensions, MSTEdgeConsumer consumer) throws IllegalArgumentException {
+        if (newCoordinates == null)
+            throw new IllegalArgumentException("Error while constructing a new EuclideanMST(double[], int, MSTEdgeConsumer): The newCoordinates parameter is null!");
+        else if (newDimensions <= 0)
+            throw new IllegalArgumentException("Error while constructing a new EuclideanMST(double[], int, MSTEdgeConsumer): The newDimensions parameter (" + newDimensions + ") is not positive!");
+        else if (newCoordinates.length % newDimensions != 0)
+            throw new IllegalArgumentException("Error while constructing a new EuclideanMST(double[], int, MSTEdgeConsumer): The number of coordinates (" + newCoordinates.length + ") is not a multiple of newDimensions (" + newDimensions + ")!");
+        
+        coordinates = newCoordinates;
+        dimensions = newDimensions;
+        int n = coordinates.length / dimensions;
+        points = new int[n];
+        component = new int[n];
+        for (int i = 0; i < n; i++) {
+            points[i] = i;
+            component[i] = i;
+        }
+        from = new int[Math.max(n - 1, 0)];
+        to = new int[from.length];
+        weight = new float[from.length];
+        edges = 0;
+        
+        int capacity = Math.max(1, 2 * (n / LEAF_SIZE + 1) * 2);
+        nodeStart = new int[capacity];
+        nodeEnd = new int[capacity];
+        nodeLeft = new int[capacity];
+        nodeRight = new int[capacity];
+        nodeMin = new double[capacity * dimensions];
+        nodeMax = new double[capacity * dimensions];
+        nodes = 0;
+        if (n > 0)
+            build(0, n);
+        nodeComponent = new int[nodes];
+        
+        ExecuteBoruvka(consumer);
+    }
+    
+    /** build creates the k-d tree node owning points[start] to points[end - 1],
+     *  splitting at the median of the widest dimension of its bounding box.
+     * 
+     * @param start The first position owned by the node.
+     * @param end One past the last position owned by the node.
+     * @return The index of the new node.
+     */
+    private int build(int start, int end) {
+        if (nodes == nodeStart.length)
+            grow();
+        int node = nodes++;
+        nodeStart[node] = start;
+        nodeEnd[node] = end;
+        
+        // Compute the node's bounding box.
+        int box = node * dimensions;
+        Arrays.fill(nodeMin, box, box + dimensions, Double.POSITIVE_INFINITY);
+        Arrays.fill(nodeMax, box, box + dimensions, Double.NEGATIVE_INFINITY);
+        for (int i = start; i < end; i++)
+            for (int d = 0; d < dimensions; d++) {
+                double value = coordinates[points[i] * dimensions + d];
+                nodeMin[box + d] = Math.min(nodeMin[box + d], value);
+                nodeMax[box + d] = Math.max(nodeMax[box + d], value);
+            }
+        
+        if (end - start <= LEAF_SIZE) {
+            nodeLeft[node] = nodeRight[node] = -1;
+            return node;
+        }
+        
+        int widest = 0;
+        for (int d = 1; d < dimensions; d++)
+            if (nodeMax[box + d] - nodeMin[box + d] > nodeMax[box + widest] - nodeMin[box + widest])
+                widest = d;
+        
+        int middle = (start + end) >>> 1;
+        select(start, end - 1, middle, widest);
+        int left = build(start, middle);
+        int right = build(middle, end);
+        nodeLeft[node] = left;
+        nodeRight[node] = right;
+        return node;
+    }
+    
+    /** grow doubles the capacity of the k-d tree node arrays.
+     */
+    private void grow() {
+        int capacity = nodeStart.length * 2;
+        nodeStart = Arrays.copyOf(nodeStart, capacity);
+        nodeEnd = Arrays.copyOf(nodeEnd, capacity);
+        nodeLeft = Arrays.copyOf(nodeLeft, capacity);
+        nodeRight = Arrays.copyOf(nodeRight, capacity);
+        nodeMin = Arrays.copyOf(nodeMin, capacity * dimensions);
+        nodeMax = Arrays.copyOf(nodeMax, capacity * dimensions);
+    }
+    
+    /** select partially sorts points[low] to points[high] along the passed-in
+     *  dimension so that position k holds the point that belongs there, with
+     *  no larger point before it and no smaller point after it.
+     * 
+     * @param low The first position to consider.
+     * @param high The last position to consider.
+     * @param k The position to fix.
+     * @param dimension The dimension to compare the points along.
+     */
+    private void select(int low, int high, int k, int dimension) {
+        while (low < high) {
+            double pivot = coordinates[points[(low + high) >>> 1] * dimensions + dimension];
+            int i = low, j = high;
+            while (i <= j) {
+                while (coordinates[points[i] * dimensions + dimension] < pivot)
+                    i++;
+                while (coordinates[points[j] * dimensions + dimension] > pivot)
+                    j--;
+                if (i <= j) {
+                    int temp = points[i];
+                    points[i] = points[j];
+                    points[j] = temp;
+                    i++;
+                    j--;
+                }
+            }
+            if (k <= j)
+                high = j;
+            else if (k >= i)
+                low = i;
+            else
+                return;
+        }
+    }
+    
+    /** find returns the representative of the passed-in point's component, halving paths as it goes.
+     * 
+     * @param point The point to look up.
+     * @return The representative point of its component.
+     */
+    private int find(int point) {
+        while (component[point] != point) {
+            component[point] = component[component[point]];
+            point = component[point];
+        }
+        return point;
+    }
+    
+    /** ExecuteBoruvka repeatedly finds each component's shortest edge to
+     *  another component and adds all of them, until one component is left.
+     *  Equal distances are broken by the smaller endpoint pair, so the edges
+     *  added in one round can never form a cycle.
+     * 
+     * @param consumer The consumer to pass each tree edge to, or null.
+     */
+    private void ExecuteBoruvka(MSTEdgeConsumer consumer) {
+        int n = points.length;
+        int[] label = new int[n]; // label holds each point's component representative for this round.
+        double[] best = new double[n]; // best holds each component's shortest squared distance so far.
+        int[] bestFrom = new int[n], bestTo = new int[n];
+        
+        while (edges < n - 1) {
+            for (int i = 0; i < n; i++) {
+                label[i] = find(i);
+                best[i] = Double.POSITIVE_INFINITY;
+                bestFrom[i] = bestTo[i] = -1;
+            }
+            for (int node = nodes - 1; node >= 0; node--) // Children are always built after their parent.
+                nodeComponent[node] = nodeLeft[node] < 0 ? leafComponent(node, label) :
+                    (nodeComponent[nodeLeft[node]] == nodeComponent[nodeRight[node]] ? nodeComponent[nodeLeft[node]] : -1);
+            
+            for (int i = 0; i < n; i++)
+                nearest(0, i, label, best, bestFrom, bestTo);
+            
+            int added = 0;
+            for (int c = 0; c < n; c++)
+                if (bestFrom[c] >= 0) {
+                    int a = find(bestFrom[c]), b = find(bestTo[c]);
+                    if (a != b) {
+                        component[a] = b;
+                        from[edges] = bestFrom[c];
+                        to[edges] = bestTo[c];
+                        weight[edges] = (float) Math.sqrt(best[c]);
+                        if (consumer != null)
+                            consumer.accept(from[edges], to[edges], weight[edges]);
+                        edges++;
+                        added++;
+                    }
+                }
+            if (added == 0) // Only possible if a coordinate is NaN.
+                break;
+        }
+    }
+    
+    /** leafComponent returns the component shared by all points of a leaf, or -1 if they differ.
+     * 
+     * @param node The leaf node.
+     * @param label The component representative of each point.
+     * @return The shared component, or -1.
+     */
+    private int leafComponent(int node, int[] label) {
+        int shared = label[points[nodeStart[node]]];
+        for (int i = nodeStart[node] + 1; i < nodeEnd[node]; i++)
+            if (label[points[i]] != shared)
+                return -1;
+        return shared;
+    }
+    
+    /** nearest searches the passed-in k-d tree node for a point outside the
+     *  query point's component that is closer than the component's best edge.
+     * 
+     * @param node The k-d tree node to search.
+     * @param query The query point.
+     * @param label The component representative of each point.
+     * @param best The shortest squared distance found so far for each component.
+     * @param bestFrom The point inside each component of its shortest edge.
+     * @param bestTo The point outside each component of its shortest edge.
+     */
+    private void nearest(int node, int query, int[] label, double[] best, int[] bestFrom, int[] bestTo) {
+        int c = label[query];
+        if (nodeComponent[node] == c || boxDistance(node, query) > best[c])
+            return;
+        
+        if (nodeLeft[node] < 0) {
+            for (int i = nodeStart[node]; i < nodeEnd[node]; i++) {
+                int other = points[i];
+                if (label[other] == c)
+                    continue;
+                double distance = distance(query, other);
+                if (distance < best[c] || (distance == best[c] && lessPair(query, other, bestFrom[c], bestTo[c]))) {
+                    best[c] = distance;
+                    bestFrom[c] = query;
+                    bestTo[c] = other;
+                }
+            }
+            return;
+        }
+        
+        // Visit the nearer child first so that the farther one is more likely to be pruned.
+        int first = nodeLeft[node], second = nodeRight[node];
+        if (boxDistance(second, query) < boxDistance(first, query)) {
+            first = nodeRight[node];
+            second = nodeLeft[node];
+        }
+        nearest(first, query, label, best, bestFrom, bestTo);
+        nearest(second, query, label, best, bestFrom, bestTo);
+    }
+    
+    /** lessPair returns whether the edge (a, b) comes before the edge (c, d)
+     *  when their lengths are equal, comparing their smaller and then larger endpoints.
+     * 
+     * @param a One endpoint of the first edge.
+     * @param b The other endpoint of the first edge.
+     * @param c One endpoint of the second edge, or -1 if there is none.
+     * @param d The other endpoint of the second edge, or -1 if there is none.
+     * @return True if the first edge comes first.
+     */
+    private static boolean lessPair(int a, int b, int c, int d) {
+        if (c < 0)
+            return true;
+        int low1 = Math.min(a, b), low2 = Math.min(c, d);
+        return low1 < low2 || (low1 == low2 && Math.max(a, b) < Math.max(c, d));
+    }
+    
+    /** distance returns the squared Euclidean distance between two points.
+     * 
+     * @param a The first point.
+     * @param b The second point.
+     * @return The squared distance between a and b.
+     */
+    private double distance(int a, int b) {
+        double sum = 0;
+        for (int d = 0; d < dimensions; d++) {
+            double delta = coordinates[a * dimensions + d] - coordinates[b * dimensions + d];
+            sum += delta * delta;
+        }
+        return sum;
+    }
+    
+    /** boxDistance returns the squared Euclidean distance from a point to the bounding box of a node.
+     * 
+     * @param node The k-d tree node.
+     * @param point The point.
+     * @return The squared distance from the point to the node's bounding box.
+     */
+    private double boxDistance(int node, int point) {
+        double sum = 0;
+        for (int d = 0; d < dimensions; d++) {
+            double value = coordinates[point * dimensions + d];
+            double delta = Math.max(0, Math.max(nodeMin[node * dimensions + d] - value, value - nodeMax[node * dimensions + d]));
+            sum += delta * delta;
+        }
+        return sum;
+    }
+    
+    /** getEdgeCount returns the number of tree edges found.
+     * 
+     * @return The edges attribute.
+     */
+    public int getEdgeCount() {
+        return edges;
+    }
+    
+    /** getFrom returns one endpoint of each tree edge; only the first getEdgeCount() entries are meaningful.
+     * 
+     * @return The from attribute.
+     */
+    public int[] getFrom() {
+        return from;
+    }
+    
+    /** getTo returns the other endpoint of each tree edge; only the first getEdgeCount() entries are meaningful.
+     * 
+     * @return The to attribute.
+     */
+    public int[] getTo() {
+        return to;
+    }
+    
+    /** getWeight returns the length of each tree edge; only the first getEdgeCount() entries are meaningful.
+     * 
+     * @return The weight attribute.
+     */
+    public float[] getWeight() {
+        return weight;
+    }
+    
+    /** getTotalWeight returns the total length of the tree.
+     * 
+     * @return The sum of the tree's edge lengths.
+     */
+    public double getTotalWeight() {
+        double total = 0;
+        for (int i = 0; i < edges; i++)
+            total += weight[i];
+        return total;
+    }
+    
+    /** getMST returns the tree as an UndirectedWeightedGraph whose Vertexes hold the point indexes.
+     * 
+     * @return A new UndirectedWeightedGraph holding the tree.
+     */
+    public UndirectedWeightedGraph<Integer, Float> getMST() {
+        UndirectedWeightedGraph<Integer, Float> mst = new UndirectedWeightedGraph<>();
+        Vertex<Integer>[] vertices = new Vertex[points.length];
+        for (int i = 0; i < points.length; i++) {
+            vertices[i] = new Vertex<>(i);
+            mst.addVertex(vertices[i]);
+        }
+        for (int i = 0; i < edges; i++)
+            mst.addEdge(vertices[from[i]], vertices[to[i]], weight[i]);
+        return mst;
+    }
+}
\ No newline at end of file
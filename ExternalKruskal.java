@@ -0,0 +1,438 @@
+/* Author:     Ryan McAllister-Grum
+ * UIN:        661880584
+ * Class:      20FA - Algorithms & Computation (20FA-OL-CSC482A-15037)
+ * Assignment: 3 (Implement Prim's Algorithm)
+ */
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+
+/** ExternalKruskal finds the Minimum Spanning Tree (or forest) of an
+ *  undirected weighted .gl file whose edges do not fit in memory; only its
+ *  vertices have to. The edges are read in chunks that fit the memory
+ *  budget, and each chunk is sorted by weight and written to a temporary run
+ *  file. The runs are then merged back in weight order (in several passes if
+ *  there are too many to merge at once) and fed to Kruskal's Algorithm,
+ *  which keeps a union-find over the vertex ids. The tree is written in the
+ *  same .gl layout as Prim.save.
+ */
+public class ExternalKruskal {
+    /** BYTES_PER_BUFFERED_EDGE is the memory one edge takes while its chunk is
+     *  sorted: its from, to and weight plus FloatRadixSort's key and scratch copies.
+     */
+    private static final int BYTES_PER_BUFFERED_EDGE = 4 + 4 + 4 + 16;
+    /** RUN_BUFFER_SIZE is the size of the read buffer of each run being merged.
+     */
+    private static final int RUN_BUFFER_SIZE = 1 << 16;
+    /** MIN_CHUNK_EDGES is the fewest edges sorted per run, however small the budget.
+     */
+    private static final int MIN_CHUNK_EDGES = 1024;
+    
+    /** memoryBudget is the number of bytes the edge chunks and merge buffers may use.
+     */
+    private final long memoryBudget;
+    /** tempDirectory is where the run files are written.
+     */
+    private final File tempDirectory;
+    /** ids maps each vertex name to its id, in the order the names were first seen.
+     */
+    private HashMap<String, Integer> ids;
+    /** names holds the name of each vertex id.
+     */
+    private ArrayList<String> names;
+    /** edges is the number of edges read from the input file.
+     */
+    private long edges;
+    /** runs is the number of sorted runs the edges were first split into.
+     */
+    private int runs;
+    /** treeFrom, treeTo and treeWeight hold the tree edges in the order Kruskal's Algorithm added them.
+     */
+    private int[] treeFrom, treeTo;
+    private float[] treeWeight;
+    /** treeEdges is the number of tree edges found.
+     */
+    private int treeEdges;
+    
+    /** Constructor that creates a new ExternalKruskal that writes its runs to the default temporary directory.
+     * 
+     * @param newMemoryBudget The number of bytes the edge chunks and merge buffers may use.
+     * @throws IllegalArgumentException If newMemoryBudget is not positive.
+     */
+    public ExternalKruskal(long newMemoryBudget) throws IllegalArgumentException {
+        this(newMemoryBudget, new File(System.getProperty("java.io.tmpdir")));
+    }
+    
+    /** Constructor that creates a new ExternalKruskal.
+     * 
+     * @param newMemoryBudget The number of bytes the edge chunks and merge buffers may use.
+     * @param newTempDirectory The directory to write the run files to.
+     * @throws IllegalArgumentException If newMemoryBudget is not positive or newTempDirectory is null.
+     */
+    public ExternalKruskal(long newMemoryBudget, File newTempDirectory) throws IllegalArgumentException {
+        if (newMemoryBudget <= 0)
+            throw new IllegalArgumentException("Error while constructing a new ExternalKruskal(long, File): The newMemoryBudget parameter (" + newMemoryBudget + ") is not positive!");
+        else if (newTempDirectory == null)
+            throw new IllegalArgumentException("Error while constructing a new ExternalKruskal(long, File): The newTempDirectory parameter is null!");
+        
+        memoryBudget = newMemoryBudget;
+        tempDirectory = newTempDirectory;
+    }
+    
+    /** run finds the Minimum Spanning Tree (or forest) of the passed-in .gl file
+     *  and saves it to the passed-in output file.
+     * 
+     * @param inputPath The undirected weighted .gl file to read.
+     * @param outputPath The .gl file to write the tree to.
+     * @throws IllegalArgumentException If either parameter is null, or the input file is not undirected and weighted.
+     * @throws IOException If there is an issue reading, writing or deleting a file.
+     */
+    public void run(String inputPath, String outputPath) throws IllegalArgumentException, IOException {
+        if (inputPath == null)
+            throw new IllegalArgumentException("Error while executing run(String, String) in ExternalKruskal: The inputPath parameter is null!");
+        else if (outputPath == null)
+            throw new IllegalArgumentException("Error while executing run(String, String) in ExternalKruskal: The outputPath parameter is null!");
+        
+        ids = new HashMap<>();
+        names = new ArrayList<>();
+        edges = 0;
+        treeEdges = 0;
+        ArrayList<File> files = new ArrayList<>(); // files holds the runs left to merge.
+        ArrayList<File> created = new ArrayList<>(); // created holds every run file, so all are deleted however run ends.
+        try {
+            writeRuns(new File(inputPath), files);
+            created.addAll(files);
+            runs = files.size();
+            
+            // Merge groups of runs until they can all be merged at once.
+            int fanIn = (int) Math.max(2, Math.min(Integer.MAX_VALUE, memoryBudget / RUN_BUFFER_SIZE));
+            while (files.size() > fanIn) {
+                ArrayList<File> merged = new ArrayList<>();
+                for (int i = 0; i < files.size(); i += fanIn) {
+                    File run = File.createTempFile("mst-run-", ".bin", tempDirectory);
+                    created.add(run);
+                    merged.add(run);
+                    try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(run), RUN_BUFFER_SIZE))) {
+                        merge(files.subList(i, Math.min(i + fanIn, files.size())), (from, to, weight) -> {
+                            try {
+                                out.writeInt(from);
+                                out.writeInt(to);
+                                out.writeFloat(weight);
+                            } catch (IOException e) {
+                                throw new UncheckedIOException(e);
+                            }
+                            return true;
+                        });
+                    } catch (UncheckedIOException e) {
+                        throw e.getCause();
+                    }
+                }
+                delete(files);
+                files = merged;
+            }
+            
+            kruskal(files);
+        } finally {
+            delete(created);
+        }
+        
+        save(outputPath);
+    }
+    
+    /** writeRuns reads the passed-in .gl file, naming its vertices as they are
+     *  first seen, and writes its edges as runs sorted by weight.
+     * 
+     * @param input The undirected weighted .gl file to read.
+     * @param files The list to add the run files to.
+     * @throws IllegalArgumentException If the input file is not undirected and weighted.
+     * @throws IOException If there is an issue reading or writing a file.
+     */
+    private void writeRuns(File input, ArrayList<File> files) throws IllegalArgumentException, IOException {
+        int chunk = (int) Math.max(MIN_CHUNK_EDGES, Math.min(Integer.MAX_VALUE - 8, memoryBudget / BYTES_PER_BUFFERED_EDGE));
+        int[] from = new int[Math.min(chunk, MIN_CHUNK_EDGES)];
+        int[] to = new int[from.length];
+        float[] weight = new float[from.length];
+        int buffered = 0;
+        
+        try (BufferedReader reader = new BufferedReader(new FileReader(input))) {
+            String heading = reader.readLine();
+            if (heading == null || !heading.split(" ")[0].equals("undirected") || heading.split(" ").length < 2 || !heading.split(" ")[1].equals("weighted"))
+                throw new IllegalArgumentException("Error while executing run(String, String) in ExternalKruskal: The file \"" + input + "\" is not an undirected weighted graph!");
+            
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                if (line.isBlank())
+                    continue;
+                String[] lines = line.split("=");
+                if (buffered == from.length) {
+                    if (buffered == chunk) {
+                        files.add(writeRun(from, to, weight, buffered));
+                        buffered = 0;
+                    } else { // Grow the chunk buffers up to the budget instead of allocating them up front.
+                        int size = (int) Math.min(chunk, 2L * from.length);
+                        from = Arrays.copyOf(from, size);
+                        to = Arrays.copyOf(to, size);
+                        weight = Arrays.copyOf(weight, size);
+                    }
+                }
+                from[buffered] = idOf(lines[0]);
+                to[buffered] = idOf(lines[1]);
+                weight[buffered] = Float.parseFloat(lines[2]);
+                buffered++;
+                edges++;
+            }
+        }
+        if (buffered > 0)
+            files.add(writeRun(from, to, weight, buffered));
+    }
+    
+    /** writeRun sorts the first count buffered edges by weight and writes them to a new run file.
+     * 
+     * @param from The from vertex id of each edge.
+     * @param to The to vertex id of each edge.
+     * @param weight The weight of each edge.
+     * @param count The number of buffered edges.
+     * @return The new run file.
+     * @throws IOException If there is an issue writing the run file.
+     */
+    private File writeRun(int[] from, int[] to, float[] weight, int count) throws IOException {
+        FloatRadixSort.sort(weight, from, to, count);
+        
+        File run = File.createTempFile("mst-run-", ".bin", tempDirectory);
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(run), RUN_BUFFER_SIZE))) {
+            for (int i = 0; i < count; i++) {
+                out.writeInt(from[i]);
+                out.writeInt(to[i]);
+                out.writeFloat(weight[i]);
+            }
+        }
+        return run;
+    }
+    
+    /** EdgeSink receives the merged edges in weight order.
+     */
+    private interface EdgeSink {
+        /** accept receives the next edge.
+         * 
+         * @param from The from vertex id of the edge.
+         * @param to The to vertex id of the edge.
+         * @param weight The weight of the edge.
+         * @return False to stop the merge early.
+         */
+        boolean accept(int from, int to, float weight);
+    }
+    
+    /** merge reads the passed-in runs together and passes their edges to the sink in weight order.
+     * 
+     * @param files The run files to merge.
+     * @param sink The sink to pass the edges to.
+     * @throws IOException If there is an issue reading a run file.
+     */
+    private static void merge(List<File> files, EdgeSink sink) throws IOException {
+        int k = files.size();
+        DataInputStream[] in = new DataInputStream[k];
+        int[] from = new int[k], to = new int[k];
+        IndexedFloatMinHeap heads = new IndexedFloatMinHeap(k); // heads holds the weight of each run's next edge.
+        try {
+            for (int i = 0; i < k; i++) {
+                in[i] = new DataInputStream(new BufferedInputStream(new FileInputStream(files.get(i)), RUN_BUFFER_SIZE));
+                advance(in[i], i, from, to, heads);
+            }
+            while (!heads.isEmpty()) {
+                int i = heads.FindMin();
+                float weight = heads.GetValue(i);
+                heads.ExtractMin();
+                if (!sink.accept(from[i], to[i], weight))
+                    return;
+                advance(in[i], i, from, to, heads);
+            }
+        } finally {
+            for (DataInputStream stream : in)
+                if (stream != null)
+                    stream.close();
+        }
+    }
+    
+    /** advance reads the next edge of a run into its head, or leaves the run out of the heap at its end.
+     * 
+     * @param in The run being read.
+     * @param i The number of the run.
+     * @param from The from vertex id of each run's next edge.
+     * @param to The to vertex id of each run's next edge.
+     * @param heads The heap of each run's next weight.
+     * @throws IOException If there is an issue reading the run.
+     */
+    private static void advance(DataInputStream in, int i, int[] from, int[] to, IndexedFloatMinHeap heads) throws IOException {
+        try {
+            from[i] = in.readInt();
+            to[i] = in.readInt();
+            heads.Insert(i, in.readFloat());
+        } catch (EOFException e) {
+            // The run is used up.
+        }
+    }
+    
+    /** kruskal merges the passed-in runs and keeps each edge that joins two
+     *  different components, stopping once the tree spans every vertex.
+     * 
+     * @param files The sorted run files.
+     * @throws IOException If there is an issue reading a run file.
+     */
+    private void kruskal(ArrayList<File> files) throws IOException {
+        int n = names.size();
+        int[] component = new int[n];
+        for (int i = 0; i < n; i++)
+            component[i] = i;
+        treeFrom = new int[Math.max(n - 1, 0)];
+        treeTo = new int[treeFrom.length];
+        treeWeight = new float[treeFrom.length];
+        
+        merge(files, (from, to, weight) -> {
+            int a = UnionFind.find(component, from), b = UnionFind.find(component, to);
+            if (a != b) {
+                component[a] = b;
+                treeFrom[treeEdges] = from;
+                treeTo[treeEdges] = to;
+                treeWeight[treeEdges] = weight;
+                treeEdges++;
+            }
+            return treeEdges < treeFrom.length;
+        });
+    }
+    
+    /** save writes the tree to the passed-in .gl file in the layout of
+     *  Prim.save. Each edge is written parent first: the tree holding the "r"
+     *  vertex is rooted there, and every other tree at its first-seen vertex.
+     * 
+     * @param outputPath The .gl file to write the tree to.
+     * @throws IOException If there is an issue writing the file.
+     */
+    private void save(String outputPath) throws IOException {
+        int n = names.size();
+        
+        // Lay the tree out as an adjacency list, and walk it breadth-first from each root.
+        int[] offsets = new int[n + 1];
+        for (int e = 0; e < treeEdges; e++) {
+            offsets[treeFrom[e] + 1]++;
+            offsets[treeTo[e] + 1]++;
+        }
+        for (int v = 0; v < n; v++)
+            offsets[v + 1] += offsets[v];
+        int[] fill = Arrays.copyOf(offsets, n);
+        int[] adjacent = new int[2 * treeEdges];
+        float[] weights = new float[2 * treeEdges];
+        for (int e = 0; e < treeEdges; e++) {
+            adjacent[fill[treeFrom[e]]] = treeTo[e];
+            weights[fill[treeFrom[e]]++] = treeWeight[e];
+            adjacent[fill[treeTo[e]]] = treeFrom[e];
+            weights[fill[treeTo[e]]++] = treeWeight[e];
+        }
+        
+        ArrayList<String> result = new ArrayList<>(treeEdges);
+        boolean[] visited = new boolean[n];
+        int[] queue = new int[n];
+        Integer root = ids.get("r");
+        for (int start = -1; start < n; start++) {
+            int vertex = start < 0 ? (root == null ? -1 : root) : start;
+            if (vertex < 0 || visited[vertex])
+                continue;
+            visited[vertex] = true;
+            int head = 0, tail = 0;
+            queue[tail++] = vertex;
+            while (head < tail) {
+                int parent = queue[head++];
+                for (int i = offsets[parent]; i < offsets[parent + 1]; i++)
+                    if (!visited[adjacent[i]]) {
+                        visited[adjacent[i]] = true;
+                        queue[tail++] = adjacent[i];
+                        result.add(Prim.glLine(names.get(parent), names.get(adjacent[i]), weights[i]));
+                    }
+            }
+        }
+        
+        try (FileWriter writer = new FileWriter(new File(outputPath))) {
+            writer.write(Prim.glDocument(result));
+        }
+    }
+    
+    /** idOf returns the id of the vertex with the passed-in name, giving it the next id if it is new.
+     * 
+     * @param name The name of the vertex.
+     * @return The id of the vertex.
+     */
+    private int idOf(String name) {
+        Integer id = ids.get(name);
+        if (id == null) {
+            id = names.size();
+            ids.put(name, id);
+            names.add(name);
+        }
+        return id;
+    }
+    
+    /** delete deletes the passed-in run files.
+     * 
+     * @param files The run files to delete.
+     */
+    private static void delete(ArrayList<File> files) {
+        for (File file : files)
+            file.delete();
+    }
+    
+    /** getVertexCount returns the number of vertices read by the last run.
+     * 
+     * @return The number of vertices.
+     */
+    public int getVertexCount() {
+        return names == null ? 0 : names.size();
+    }
+    
+    /** getEdgeCount returns the number of edges read by the last run.
+     * 
+     * @return The edges attribute.
+     */
+    public long getEdgeCount() {
+        return edges;
+    }
+    
+    /** getRunCount returns the number of sorted runs the last run's edges were split into.
+     * 
+     * @return The runs attribute.
+     */
+    public int getRunCount() {
+        return runs;
+    }
+    
+    /** getTreeEdgeCount returns the number of tree edges found by the last run.
+     * 
+     * @return The treeEdges attribute.
+     */
+    public int getTreeEdgeCount() {
+        return treeEdges;
+    }
+    
+    /** getTotalWeight returns the total weight of the tree found by the last run.
+     * 
+     * @return The sum of the tree's edge weights.
+     */
+    public double getTotalWeight() {
+        double total = 0;
+        for (int e = 0; e < treeEdges; e++)
+            total += treeWeight[e];
+        return total;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,199 @@
+/* Author:     Ryan McAllister-Grum
+ * UIN:        661880584
+ * Class:      20FA - Algorithms & Computation (20FA-OL-CSC482A-15037)
+ * Assignment: 3 (Implement Prim's Algorithm)
+ */
+
+/** FloatBoruvkaEngine finds the Minimum Spanning Tree (or forest) of an
+ *  undirected FloatCSRGraph with Boruvka's Algorithm: every round, each
+ *  component picks its cheapest edge to another component, and all of those
+ *  edges are added at once, at least halving the number of components.
+ * 
+ *  The graph's lists are sorted by weight first (see
+ *  FloatCSRGraph.sortedByWeight), so a vertex's cheapest edge is the first
+ *  entry of its list. Each vertex keeps a cursor into its list that only
+ *  moves past edges leading into its own component, which stay inside it
+ *  for good, so finding every vertex's cheapest outgoing edge costs O(1)
+ *  per vertex plus O(E) cursor moves over the whole run rather than a full
+ *  scan of every list every round. Ties are broken by the smaller endpoint
+ *  pair, so the edges added in one round can never form a cycle.
+ */
+public class FloatBoruvkaEngine {
+    /** graph is the weight-sorted graph this engine runs over.
+     */
+    private final FloatCSRGraph<?> graph;
+    /** component holds each vertex's union-find parent.
+     */
+    private final int[] component;
+    /** from, to and weight hold the tree edges in the order they were added.
+     */
+    private final int[] from, to;
+    private final float[] weight;
+    /** edges is the number of tree edges found.
+     */
+    private int edges;
+    /** rounds is the number of rounds the last run took.
+     */
+    private int rounds;
+    
+    /** Constructor that creates a new FloatBoruvkaEngine for the passed-in
+     *  graph, sorting its lists by weight unless they already are.
+     * 
+     * @param newGraph The undirected graph whose Minimum Spanning Tree to find.
+     * @throws IllegalArgumentException If newGraph is null or directed.
+     */
+    public FloatBoruvkaEngine(FloatCSRGraph<?> newGraph) throws IllegalArgumentException {
+        if (newGraph == null)
+            throw new IllegalArgumentException("Error while creating a new FloatBoruvkaEngine: The newGraph parameter is null!");
+        else if (newGraph.isDirected())
+            throw new IllegalArgumentException("Error while creating a new FloatBoruvkaEngine: The graph is directed!");
+        
+        graph = newGraph.sortedByWeight();
+        int n = graph.vertexCount();
+        component = new int[n];
+        from = new int[Math.max(n - 1, 0)];
+        to = new int[from.length];
+        weight = new float[from.length];
+    }
+    
+    /** ExecuteBoruvka finds the Minimum Spanning Tree (or forest) of this
+     *  engine's graph, passing each tree edge to the consumer as soon as it is
+     *  added. Boruvka's Algorithm does not orient edges, so the parent and
+     *  child passed to the consumer are only the edge's two endpoints.
+     * 
+     * @param consumer The consumer to pass each tree edge to, or null.
+     */
+    public void ExecuteBoruvka(MSTEdgeConsumer consumer) {
+        int n = graph.vertexCount();
+        int[] offsets = graph.offsets, targets = graph.targets;
+        float[] weights = graph.weights;
+        int[] cursor = new int[n]; // cursor holds the first entry of each list that may leave its component.
+        int[] label = new int[n]; // label holds each vertex's component representative for this round.
+        int[] best = new int[n]; // best holds the position of each component's cheapest outgoing edge, or -1.
+        int[] bestFrom = new int[n];
+        for (int v = 0; v < n; v++) {
+            component[v] = v;
+            cursor[v] = offsets[v];
+        }
+        edges = 0;
+        rounds = 0;
+        
+        int added = 1;
+        while (added > 0 && edges < from.length) {
+            rounds++;
+            for (int v = 0; v < n; v++) {
+                label[v] = UnionFind.find(component, v);
+                best[v] = -1;
+            }
+            
+            // Move each vertex's cursor past the edges into its own component; what is left is its cheapest way out.
+            for (int v = 0; v < n; v++) {
+                int c = label[v], i = cursor[v], end = offsets[v + 1];
+                while (i < end && label[targets[i]] == c)
+                    i++;
+                cursor[v] = i;
+                if (i < end && (best[c] < 0 || lighter(i, v, best[c], bestFrom[c], weights, targets))) {
+                    best[c] = i;
+                    bestFrom[c] = v;
+                }
+            }
+            
+            added = 0;
+            for (int c = 0; c < n; c++)
+                if (best[c] >= 0) {
+                    int u = bestFrom[c], v = targets[best[c]];
+                    int a = UnionFind.find(component, u), b = UnionFind.find(component, v);
+                    if (a != b) {
+                        component[a] = b;
+                        from[edges] = u;
+                        to[edges] = v;
+                        weight[edges] = weights[best[c]];
+                        if (consumer != null)
+                            consumer.accept(u, v, weight[edges]);
+                        edges++;
+                        added++;
+                    }
+                }
+        }
+    }
+    
+    /** lighter returns whether the edge at position i of vertex u's list comes
+     *  before the edge at position j of vertex v's list, by weight and then by
+     *  the smaller and larger endpoint.
+     * 
+     * @param i The position of the first edge.
+     * @param u The vertex whose list holds the first edge.
+     * @param j The position of the second edge.
+     * @param v The vertex whose list holds the second edge.
+     * @param weights The graph's edge weights.
+     * @param targets The graph's neighbor indexes.
+     * @return True if the first edge is lighter.
+     */
+    private static boolean lighter(int i, int u, int j, int v, float[] weights, int[] targets) {
+        if (weights[i] != weights[j])
+            return weights[i] < weights[j];
+        int lowI = Math.min(u, targets[i]), lowJ = Math.min(v, targets[j]);
+        if (lowI != lowJ)
+            return lowI < lowJ;
+        return Math.max(u, targets[i]) < Math.max(v, targets[j]);
+    }
+    
+    /** getEdgeCount returns the number of tree edges found.
+     * 
+     * @return The edges attribute.
+     */
+    public int getEdgeCount() {
+        return edges;
+    }
+    
+    /** getRounds returns the number of rounds the last run took.
+     * 
+     * @return The rounds attribute.
+     */
+    public int getRounds() {
+        return rounds;
+    }
+    
+    /** getFrom returns one endpoint of each tree edge; only the first getEdgeCount() entries are meaningful.
+     * 
+     * @return The from attribute.
+     */
+    public int[] getFrom() {
+        return from;
+    }
+    
+    /** getTo returns the other endpoint of each tree edge; only the first getEdgeCount() entries are meaningful.
+     * 
+     * @return The to attribute.
+     */
+    public int[] getTo() {
+        return to;
+    }
+    
+    /** getWeight returns the weight of each tree edge; only the first getEdgeCount() entries are meaningful.
+     * 
+     * @return The weight attribute.
+     */
+    public float[] getWeight() {
+        return weight;
+    }
+    
+    /** getTotalWeight returns the total weight of the tree.
+     * 
+     * @return The sum of the tree's edge weights.
+     */
+    public double getTotalWeight() {
+        double total = 0;
+        for (int i = 0; i < edges; i++)
+            total += weight[i];
+        return total;
+    }
+    
+    /** getIndex returns the VertexIndex that maps vertex indexes to their items.
+     * 
+     * @return The graph's VertexIndex.
+     */
+    public VertexIndex<?> getIndex() {
+        return graph.getIndex();
+    }
+}
\ No newline at end of file
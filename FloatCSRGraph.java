@@ -0,0 +1,538 @@
+/* Author:     Ryan McAllister-Grum
+ * UIN:        661880584
+ * Class:      20FA - Algorithms & Computation (20FA-OL-CSC482A-15037)
+ * Assignment: 3 (Implement Prim's Algorithm)
+ */
+
+import java.util.Arrays;
+import java.util.TreeSet;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/** FloatCSRGraph is an immutable, compressed sparse row copy of a weighted
+ *  Graph with primitive float weights. The neighbors of vertex v are
+ *  targets[offsets[v]] to targets[offsets[v + 1] - 1], with the matching
+ *  edge weights at the same positions of weights.
+ * 
+ *  A copy made by sortedByWeight lists every vertex's neighbors in ascending
+ *  order of weight (ties by neighbor index), so the neighbors up to a weight
+ *  bound are a prefix of the list and the cheapest edge is its first entry.
+ * 
+ * @param <K> The type stored in this graph's vertices.
+ */
+public class FloatCSRGraph<K extends Comparable<? super K>> implements SortedFloatGraph<K> {
+    /** PARALLEL_CHUNK is the fewest edges worth counting and scattering on a thread of their own.
+     */
+    private static final int PARALLEL_CHUNK = 1 << 16;
+    
+    /** index maps vertex indexes to the items stored in the original Vertexes.
+     */
+    final VertexIndex<K> index;
+    /** offsets holds, for each vertex, where its neighbors start in targets and weights.
+     */
+    final int[] offsets;
+    /** targets holds the neighbor indexes of every vertex, back to back.
+     */
+    final int[] targets;
+    /** weights holds the weight of the edge leading to each entry of targets.
+     */
+    final float[] weights;
+    /** directed indicates whether each edge is listed only at its from vertex.
+     */
+    final boolean directed;
+    /** weightSorted indicates whether every vertex's neighbors are listed in ascending order of weight, ties by index.
+     */
+    final boolean weightSorted;
+    
+    /** Constructor that creates a new FloatCSRGraph from already laid-out arrays.
+     * 
+     * @param newIndex The VertexIndex of the graph.
+     * @param newOffsets The start of each vertex's neighbors (length vertex count + 1).
+     * @param newTargets The neighbor indexes.
+     * @param newWeights The edge weights matching newTargets.
+     * @param newDirected Whether the graph is directed.
+     * @throws IllegalArgumentException If any parameter is null or the arrays do not line up.
+     */
+    FloatCSRGraph(VertexIndex<K> newIndex, int[] newOffsets, int[] newTargets, float[] newWeights, boolean newDirected) throws IllegalArgumentException {
+        this(newIndex, newOffsets, newTargets, newWeights, newDirected, false);
+    }
+    
+    /** Constructor that creates a new FloatCSRGraph from already laid-out arrays.
+     * 
+     * @param newIndex The VertexIndex of the graph.
+     * @param newOffsets The start of each vertex's neighbors (length vertex count + 1).
+     * @param newTargets The neighbor indexes.
+     * @param newWeights The edge weights matching newTargets.
+     * @param newDirected Whether the graph is directed.
+     * @param newWeightSorted Whether every vertex's neighbors are in ascending order of weight, ties by index.
+     * @throws IllegalArgumentException If any parameter is null or the arrays do not line up.
+     */
+    FloatCSRGraph(VertexIndex<K> newIndex, int[] newOffsets, int[] newTargets, float[] newWeights, boolean newDirected, boolean newWeightSorted) throws IllegalArgumentException {
+        if (newIndex == null || newOffsets == null || newTargets == null || newWeights == null)
+            throw new IllegalArgumentException("Error while creating a new FloatCSRGraph: A parameter is null!");
+        else if (newOffsets.length != newIndex.size() + 1 || newTargets.length != newWeights.length || newOffsets[newIndex.size()] != newTargets.length)
+            throw new IllegalArgumentException("Error while creating a new FloatCSRGraph: The offsets, targets and weights arrays do not line up!");
+        
+        index = newIndex;
+        offsets = newOffsets;
+        targets = newTargets;
+        weights = newWeights;
+        directed = newDirected;
+        weightSorted = newWeightSorted;
+    }
+    
+    /** of creates a new FloatCSRGraph from the passed-in weighted Graph, which
+     *  is directed if it is a DirectedWeightedGraph and undirected otherwise.
+     * 
+     * @param <K> The type stored in the graph's vertices.
+     * @param graph The weighted Graph to copy.
+     * @return A compact copy of the graph.
+     * @throws IllegalArgumentException If the graph parameter is null or has an edge without a numerical weight.
+     */
+    public static <K extends Comparable<? super K>> FloatCSRGraph<K> of(Graph<K> graph) throws IllegalArgumentException {
+        if (graph == null)
+            throw new IllegalArgumentException("Error while executing of(Graph<K>) in FloatCSRGraph: The graph parameter is null!");
+        
+        VertexIndex<K> index = new VertexIndex<>(graph);
+        int n = index.size();
+        int[] offsets = new int[n + 1];
+        int v = 0;
+        for (TreeSet<Edge> list : graph.graph.values()) {
+            offsets[v + 1] = offsets[v] + list.size();
+            v++;
+        }
+        
+        int[] targets = new int[offsets[n]];
+        float[] weights = new float[offsets[n]];
+        int i = 0;
+        for (TreeSet<Edge> list : graph.graph.values())
+            for (Edge edge : list) {
+                targets[i] = index.indexOf((Vertex<K>) edge.getTo());
+                weights[i] = weightOf(edge);
+                i++;
+            }
+        
+        return new FloatCSRGraph<>(index, offsets, targets, weights, graph instanceof DirectedWeightedGraph);
+    }
+    
+    /** of creates a new FloatCSRGraph over the vertices 0 to vertices - 1 from
+     *  the first count entries of the passed-in edge arrays. An undirected
+     *  edge is listed once and is added at both of its endpoints.
+     * 
+     * @param vertices The number of vertices.
+     * @param from The from vertex of each edge.
+     * @param to The to vertex of each edge.
+     * @param weights The weight of each edge.
+     * @param count The number of edges.
+     * @param directed Whether the graph is directed.
+     * @return A compact graph whose vertices hold their own index.
+     * @throws IllegalArgumentException If an array is null or shorter than count, or an edge has an endpoint out of range.
+     */
+    public static FloatCSRGraph<Integer> of(int vertices, int[] from, int[] to, float[] weights, int count, boolean directed) throws IllegalArgumentException {
+        if (vertices < 0)
+            throw new IllegalArgumentException("Error while executing of(int, int[], int[], float[], int, boolean) in FloatCSRGraph: The vertices parameter (" + vertices + ") is negative!");
+        
+        Integer[] labels = new Integer[vertices];
+        for (int v = 0; v < vertices; v++)
+            labels[v] = v;
+        return of(new VertexIndex<>(labels), from, to, weights, count, directed);
+    }
+    
+    /** of creates a new FloatCSRGraph over the vertices of the passed-in
+     *  VertexIndex from the first count entries of the passed-in edge arrays,
+     *  without building a Graph first. An undirected edge is listed once and is
+     *  added at both of its endpoints. The entries are bucketed by vertex with
+     *  a counting sort: large inputs are split into chunks that are counted and
+     *  then scattered in parallel, each into its own slots, so every vertex's
+     *  neighbors still come out in edge order.
+     * 
+     * @param <K> The type stored in the graph's vertices.
+     * @param index The VertexIndex of the graph; edges refer to its vertex indexes.
+     * @param from The from vertex of each edge.
+     * @param to The to vertex of each edge.
+     * @param weights The weight of each edge.
+     * @param count The number of edges.
+     * @param directed Whether the graph is directed.
+     * @return A compact graph over the passed-in VertexIndex.
+     * @throws IllegalArgumentException If index or an array is null, an array is shorter than count,
+     * or an edge has an endpoint out of range.
+     */
+    public static <K extends Comparable<? super K>> FloatCSRGraph<K> of(VertexIndex<K> index, int[] from, int[] to, float[] weights, int count, boolean directed) throws IllegalArgumentException {
+        if (index == null)
+            throw new IllegalArgumentException("Error while executing of(VertexIndex<K>, int[], int[], float[], int, boolean) in FloatCSRGraph: The index parameter is null!");
+        else if (from == null || to == null || weights == null)
+            throw new IllegalArgumentException("Error while executing of(VertexIndex<K>, int[], int[], float[], int, boolean) in FloatCSRGraph: An edge array is null!");
+        else if (count < 0 || from.length < count || to.length < count || weights.length < count)
+            throw new IllegalArgumentException("Error while executing of(VertexIndex<K>, int[], int[], float[], int, boolean) in FloatCSRGraph: The edge arrays are shorter than count (" + count + ")!");
+        
+        // Each chunk needs its own vertex histogram, so only split when the chunks are much larger than the histograms.
+        int vertices = index.size();
+        long chunks = Math.min(Runtime.getRuntime().availableProcessors(), count / (long) PARALLEL_CHUNK);
+        chunks = Math.min(chunks, count / Math.max(vertices, 1L));
+        return build(index, from, to, weights, count, directed, (int) Math.max(chunks, 1));
+    }
+    
+    /** build lays out the passed-in edges with a counting sort over the passed-in number of chunks.
+     * 
+     * @param <K> The type stored in the graph's vertices.
+     * @param index The VertexIndex of the graph.
+     * @param from The from vertex of each edge.
+     * @param to The to vertex of each edge.
+     * @param weights The weight of each edge.
+     * @param count The number of edges.
+     * @param directed Whether the graph is directed.
+     * @param chunks The number of chunks to split the edges into, 1 for a sequential build.
+     * @return A compact graph over the passed-in VertexIndex.
+     * @throws IllegalArgumentException If an edge has an endpoint out of range.
+     */
+    private static <K extends Comparable<? super K>> FloatCSRGraph<K> build(VertexIndex<K> index, int[] from, int[] to, float[] weights, int count, boolean directed, int chunks) throws IllegalArgumentException {
+        int vertices = index.size();
+        
+        // Count each chunk's entries per vertex, remembering the first edge with an endpoint out of range.
+        int[][] cursor = new int[chunks][vertices];
+        int[] bad = new int[chunks];
+        forEachChunk(chunks, c -> {
+            int[] histogram = cursor[c];
+            bad[c] = -1;
+            for (int e = start(c, chunks, count), end = start(c + 1, chunks, count); e < end; e++) {
+                if (from[e] < 0 || from[e] >= vertices || to[e] < 0 || to[e] >= vertices) {
+                    bad[c] = e;
+                    return;
+                }
+                histogram[from[e]]++;
+                if (!directed)
+                    histogram[to[e]]++;
+            }
+        });
+        for (int e : bad)
+            if (e >= 0)
+                throw new IllegalArgumentException("Error while executing of(VertexIndex<K>, int[], int[], float[], int, boolean) in FloatCSRGraph: The edge " + from[e] + "=" + to[e] + " has an endpoint out of range!");
+        
+        // Turn the counts into offsets: chunk c's entries of vertex v start after those of the chunks before it.
+        int[] offsets = new int[vertices + 1];
+        int total = 0;
+        for (int v = 0; v < vertices; v++) {
+            offsets[v] = total;
+            for (int c = 0; c < chunks; c++) {
+                int entries = cursor[c][v];
+                cursor[c][v] = total;
+                total += entries;
+            }
+        }
+        offsets[vertices] = total;
+        
+        // Scatter each chunk into its own slots.
+        int[] targets = new int[total];
+        float[] newWeights = new float[total];
+        forEachChunk(chunks, c -> {
+            int[] fill = cursor[c];
+            for (int e = start(c, chunks, count), end = start(c + 1, chunks, count); e < end; e++) {
+                targets[fill[from[e]]] = to[e];
+                newWeights[fill[from[e]]++] = weights[e];
+                if (!directed) {
+                    targets[fill[to[e]]] = from[e];
+                    newWeights[fill[to[e]]++] = weights[e];
+                }
+            }
+        });
+        return new FloatCSRGraph<>(index, offsets, targets, newWeights, directed);
+    }
+    
+    /** start returns the first edge of the passed-in chunk.
+     * 
+     * @param chunk The chunk, or chunks for the end of the last chunk.
+     * @param chunks The number of chunks.
+     * @param count The number of edges.
+     * @return The index of the chunk's first edge.
+     */
+    private static int start(int chunk, int chunks, int count) {
+        return (int) ((long) count * chunk / chunks);
+    }
+    
+    /** forEachChunk runs the passed-in action for every chunk, in parallel if there is more than one.
+     * 
+     * @param chunks The number of chunks.
+     * @param action The action to run with each chunk number.
+     */
+    private static void forEachChunk(int chunks, IntConsumer action) {
+        if (chunks == 1)
+            action.accept(0);
+        else
+            IntStream.range(0, chunks).parallel().forEach(action);
+    }
+    
+    /** of creates a new FloatCSRGraph from the passed-in weighted Graph with its
+     *  vertices renumbered by the passed-in VertexOrdering.
+     * 
+     * @param <K> The type stored in the graph's vertices.
+     * @param graph The weighted Graph to copy.
+     * @param ordering The VertexOrdering to renumber the vertices with.
+     * @return A compact copy of the graph.
+     * @throws IllegalArgumentException If the graph or ordering parameter is null or the graph
+     * has an edge without a numerical weight.
+     */
+    public static <K extends Comparable<? super K>> FloatCSRGraph<K> of(Graph<K> graph, VertexOrdering ordering) throws IllegalArgumentException {
+        if (ordering == null)
+            throw new IllegalArgumentException("Error while executing of(Graph<K>, VertexOrdering) in FloatCSRGraph: The ordering parameter is null!");
+        
+        FloatCSRGraph<K> compact = of(graph);
+        return ordering == VertexOrdering.NATURAL ? compact : compact.reorder(ordering.order(compact));
+    }
+    
+    /** reorder returns a copy of this graph in which vertex i is vertex
+     *  order[i] of this graph. Each vertex's neighbors keep their listed order;
+     *  the copy is not marked weight-sorted, as renumbering can reorder ties.
+     * 
+     * @param order The old index of each new vertex; it must be a permutation of 0 to vertexCount() - 1.
+     * @return The renumbered copy of this graph.
+     * @throws IllegalArgumentException If order is null or not a permutation.
+     */
+    public FloatCSRGraph<K> reorder(int[] order) throws IllegalArgumentException {
+        VertexIndex<K> newIndex = new VertexIndex<>(index, order); // Also checks that order is a permutation.
+        int n = order.length;
+        int[] newId = new int[n];
+        for (int i = 0; i < n; i++)
+            newId[order[i]] = i;
+        
+        int[] newOffsets = new int[n + 1];
+        for (int i = 0; i < n; i++)
+            newOffsets[i + 1] = newOffsets[i] + degree(order[i]);
+        int[] newTargets = new int[targets.length];
+        float[] newWeights = new float[weights.length];
+        for (int i = 0; i < n; i++) {
+            int from = offsets[order[i]], to = newOffsets[i];
+            for (int k = 0; k < newOffsets[i + 1] - to; k++) {
+                newTargets[to + k] = newId[targets[from + k]];
+                newWeights[to + k] = weights[from + k];
+            }
+        }
+        
+        return new FloatCSRGraph<>(newIndex, newOffsets, newTargets, newWeights, directed);
+    }
+    
+    /** sortedByWeight returns a copy of this graph in which every vertex's
+     *  neighbors are listed in ascending order of weight, ties by neighbor
+     *  index, or this graph if it already is. The lists are sorted once, in
+     *  parallel: the vertices are split into chunks holding about the same
+     *  number of entries, and each chunk sorts its own vertices' lists.
+     * 
+     * @return A weight-sorted copy of this graph.
+     */
+    public FloatCSRGraph<K> sortedByWeight() {
+        if (weightSorted)
+            return this;
+        
+        int n = index.size();
+        int total = targets.length;
+        int chunks = (int) Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(), total / (long) PARALLEL_CHUNK));
+        int[] first = new int[chunks + 1]; // first holds the first vertex of each chunk.
+        for (int c = 1; c < chunks; c++) {
+            int entry = start(c, chunks, total), low = first[c - 1], high = n;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (offsets[middle] < entry)
+                    low = middle + 1;
+                else
+                    high = middle;
+            }
+            first[c] = low;
+        }
+        first[chunks] = n;
+        
+        int[] newTargets = new int[total];
+        float[] newWeights = new float[total];
+        int longest = maxDegree();
+        forEachChunk(chunks, c -> {
+            // Sort each list by a key holding the weight's bits (ordered like the float) over the neighbor index.
+            long[] keys = new long[longest];
+            for (int v = first[c]; v < first[c + 1]; v++) {
+                int start = offsets[v], count = offsets[v + 1] - start;
+                for (int i = 0; i < count; i++) {
+                    int bits = Float.floatToRawIntBits(weights[start + i]);
+                    keys[i] = (long) (bits ^ (bits >> 31 & 0x7FFFFFFF)) << 32 | targets[start + i] & 0xFFFFFFFFL;
+                }
+                Arrays.sort(keys, 0, count);
+                for (int i = 0; i < count; i++) {
+                    int bits = (int) (keys[i] >> 32);
+                    newTargets[start + i] = (int) keys[i];
+                    newWeights[start + i] = Float.intBitsToFloat(bits ^ (bits >> 31 & 0x7FFFFFFF));
+                }
+            }
+        });
+        return new FloatCSRGraph<>(index, offsets, newTargets, newWeights, directed, true);
+    }
+    
+    /** weightOf returns the weight of the passed-in edge as a primitive float.
+     * 
+     * @param edge The edge whose weight to return.
+     * @return The weight of the edge.
+     * @throws IllegalArgumentException If the edge does not have a numerical weight.
+     */
+    static float weightOf(Edge edge) throws IllegalArgumentException {
+        if (edge instanceof FloatWeightedEdge)
+            return ((FloatWeightedEdge) edge).getFloatWeight();
+        else if (edge instanceof WeightedEdge && ((WeightedEdge) edge).getWeight() instanceof Number)
+            return ((Number) ((WeightedEdge) edge).getWeight()).floatValue();
+        else
+            throw new IllegalArgumentException("Error while executing weightOf(Edge) in FloatCSRGraph: The edge \"" + edge + "\" does not have a numerical weight!");
+    }
+    
+    /** vertexCount returns the number of vertices in this graph.
+     * 
+     * @return The number of vertices.
+     */
+    @Override
+    public int vertexCount() {
+        return index.size();
+    }
+    
+    /** edgeCount returns the number of edges in this graph; an undirected
+     *  edge is counted once even though both of its endpoints list it.
+     * 
+     * @return The number of edges.
+     */
+    @Override
+    public long edgeCount() {
+        return directed ? targets.length : targets.length / 2;
+    }
+    
+    /** isDirected returns whether this graph is directed.
+     * 
+     * @return The directed attribute.
+     */
+    @Override
+    public boolean isDirected() {
+        return directed;
+    }
+    
+    /** degree returns the number of neighbors listed for the passed-in vertex.
+     * 
+     * @param vertex The index of the vertex.
+     * @return The number of neighbors of the vertex.
+     */
+    @Override
+    public int degree(int vertex) {
+        return offsets[vertex + 1] - offsets[vertex];
+    }
+    
+    /** maxDegree returns the largest degree of any vertex in this graph.
+     * 
+     * @return The largest degree in this graph.
+     */
+    @Override
+    public int maxDegree() {
+        int max = 0;
+        for (int v = 0; v < index.size(); v++)
+            max = Math.max(max, degree(v));
+        return max;
+    }
+    
+    /** neighbors writes the neighbors of the passed-in vertex and the weights
+     *  of the edges leading to them into the passed-in buffers.
+     * 
+     * @param vertex The index of the vertex whose neighbors to write.
+     * @param neighborTargets The buffer to write the neighbor indexes into.
+     * @param neighborWeights The buffer to write the edge weights into.
+     * @return The number of neighbors written.
+     */
+    @Override
+    public int neighbors(int vertex, int[] neighborTargets, float[] neighborWeights) {
+        int start = offsets[vertex], count = offsets[vertex + 1] - start;
+        System.arraycopy(targets, start, neighborTargets, 0, count);
+        System.arraycopy(weights, start, neighborWeights, 0, count);
+        return count;
+    }
+    
+    /** neighborsUpTo writes the neighbors of the passed-in vertex whose edges
+     *  weigh at most the passed-in bound. If this graph is weight-sorted they
+     *  are the prefix of the vertex's list found by binary search; otherwise
+     *  the list is filtered.
+     * 
+     * @param vertex The index of the vertex whose neighbors to write.
+     * @param bound The largest edge weight to write.
+     * @param neighborTargets The buffer to write the neighbor indexes into.
+     * @param neighborWeights The buffer to write the edge weights into.
+     * @return The number of neighbors written.
+     */
+    @Override
+    public int neighborsUpTo(int vertex, float bound, int[] neighborTargets, float[] neighborWeights) {
+        int start = offsets[vertex], end = offsets[vertex + 1];
+        if (weightSorted) {
+            int low = start, high = end;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (weights[middle] <= bound)
+                    low = middle + 1;
+                else
+                    high = middle;
+            }
+            System.arraycopy(targets, start, neighborTargets, 0, low - start);
+            System.arraycopy(weights, start, neighborWeights, 0, low - start);
+            return low - start;
+        }
+        int count = 0;
+        for (int i = start; i < end; i++)
+            if (weights[i] <= bound) {
+                neighborTargets[count] = targets[i];
+                neighborWeights[count++] = weights[i];
+            }
+        return count;
+    }
+    
+    /** cheapestNeighbor returns the neighbor of the passed-in vertex across its
+     *  lightest edge, which is the first entry of a weight-sorted list.
+     * 
+     * @param vertex The index of the vertex.
+     * @return The index of the neighbor, or -1 if the vertex has none.
+     */
+    @Override
+    public int cheapestNeighbor(int vertex) {
+        int best = cheapest(vertex);
+        return best < 0 ? -1 : targets[best];
+    }
+    
+    /** cheapestWeight returns the weight of the passed-in vertex's lightest
+     *  edge, which is the first entry of a weight-sorted list.
+     * 
+     * @param vertex The index of the vertex.
+     * @return The weight of the edge, or Float.POSITIVE_INFINITY if the vertex has none.
+     */
+    @Override
+    public float cheapestWeight(int vertex) {
+        int best = cheapest(vertex);
+        return best < 0 ? Float.POSITIVE_INFINITY : weights[best];
+    }
+    
+    /** cheapest returns the position of the passed-in vertex's lightest edge, ties by neighbor index.
+     * 
+     * @param vertex The index of the vertex.
+     * @return The position in targets and weights, or -1 if the vertex has no neighbors.
+     */
+    private int cheapest(int vertex) {
+        int start = offsets[vertex], end = offsets[vertex + 1];
+        if (weightSorted || start == end)
+            return start < end ? start : -1;
+        int best = start;
+        for (int i = start + 1; i < end; i++)
+            if (weights[i] < weights[best] || weights[i] == weights[best] && targets[i] < targets[best])
+                best = i;
+        return best;
+    }
+    
+    /** isWeightSorted returns whether every vertex's neighbors are listed in ascending order of weight, ties by index.
+     * 
+     * @return The weightSorted attribute.
+     */
+    public boolean isWeightSorted() {
+        return weightSorted;
+    }
+    
+    /** getIndex returns the VertexIndex that maps this graph's vertex indexes to their items.
+     * 
+     * @return The index attribute.
+     */
+    @Override
+    public VertexIndex<K> getIndex() {
+        return index;
+    }
+}
\ No newline at end of file
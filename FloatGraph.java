@@ -0,0 +1,63 @@
+/* Author:     Ryan McAllister-Grum
+ * UIN:        661880584
+ * Class:      20FA - Algorithms & Computation (20FA-OL-CSC482A-15037)
+ * Assignment: 3 (Implement Prim's Algorithm)
+ */
+
+/** FloatGraph is implemented by the compact graph backends whose vertices are
+ *  numbered by a VertexIndex and whose edge weights are primitive floats.
+ *  The primitive engines (such as FloatPrimEngine) only see a graph through
+ *  this interface, so they never box a weight or call Comparable.compareTo.
+ * 
+ * @param <K> The type stored in this graph's vertices.
+ */
+public interface FloatGraph<K extends Comparable<? super K>> {
+    /** vertexCount returns the number of vertices in this graph.
+     * 
+     * @return The number of vertices.
+     */
+    int vertexCount();
+    
+    /** edgeCount returns the number of edges in this graph; an undirected
+     *  edge is counted once even though both of its endpoints list it.
+     * 
+     * @return The number of edges.
+     */
+    long edgeCount();
+    
+    /** isDirected returns whether this graph is directed.
+     * 
+     * @return True if this graph is directed.
+     */
+    boolean isDirected();
+    
+    /** degree returns the number of neighbors listed for the passed-in vertex.
+     * 
+     * @param vertex The index of the vertex.
+     * @return The number of entries neighbors(vertex, ...) will write.
+     */
+    int degree(int vertex);
+    
+    /** maxDegree returns the largest degree of any vertex in this graph,
+     *  which is how large the buffers passed to neighbors must be.
+     * 
+     * @return The largest degree in this graph.
+     */
+    int maxDegree();
+    
+    /** neighbors writes the neighbors of the passed-in vertex and the weights
+     *  of the edges leading to them into the passed-in buffers.
+     * 
+     * @param vertex The index of the vertex whose neighbors to write.
+     * @param targets The buffer to write the neighbor indexes into.
+     * @param weights The buffer to write the edge weights into.
+     * @return The number of neighbors written.
+     */
+    int neighbors(int vertex, int[] targets, float[] weights);
+    
+    /** getIndex returns the VertexIndex that maps this graph's vertex indexes to their items.
+     * 
+     * @return The VertexIndex of this graph.
+     */
+    VertexIndex<K> getIndex();
+}
\ No newline at end of file
@@ -0,0 +1,45 @@
+/* Author:     Ryan McAllister-Grum
+ * UIN:        661880584
+ * Class:      20FA - Algorithms & Computation (20FA-OL-CSC482A-15037)
+ * Assignment: 3 (Implement Prim's Algorithm)
+ */
+
+/** FloatMSTEngine is implemented by the engines that find the Minimum
+ *  Spanning Tree (or forest) of a FloatGraph, so Prim can pick whichever
+ *  engine suits the shape of the graph and read every result the same way.
+ */
+public interface FloatMSTEngine {
+    /** ExecutePrim finds the Minimum Spanning Tree (or forest) starting from
+     *  the passed-in root, and passes each tree edge to the consumer as soon
+     *  as it is found.
+     * 
+     * @param root The index of the root vertex, or -1 to start from vertex 0.
+     * @param consumer The consumer to pass each tree edge to, or null.
+     */
+    void ExecutePrim(int root, MSTEdgeConsumer consumer);
+    
+    /** getParent returns the parent index of each vertex, or -1 for the root of each tree.
+     * 
+     * @return The parent index of each vertex.
+     */
+    int[] getParent();
+    
+    /** getCost returns the weight of the edge that attached each vertex to the tree.
+     * 
+     * @return The attachment cost of each vertex.
+     */
+    float[] getCost();
+    
+    /** getOrder returns the vertex indexes in the order they were added to the tree;
+     *  only the first getExtracted() entries are meaningful.
+     * 
+     * @return The extraction order.
+     */
+    int[] getOrder();
+    
+    /** getExtracted returns the number of vertices added to the tree.
+     * 
+     * @return The number of vertices in the tree.
+     */
+    int getExtracted();
+}
\ No newline at end of file
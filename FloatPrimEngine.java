@@ -0,0 +1,432 @@
+/* Author:     Ryan McAllister-Grum
+ * UIN:        661880584
+ * Class:      20FA - Algorithms & Computation (20FA-OL-CSC482A-15037)
+ * Assignment: 3 (Implement Prim's Algorithm)
+ */
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+
+/** FloatPrimEngine runs Prim's Algorithm over a FloatGraph using only
+ *  primitive arrays: the attachment cost and parent of every vertex are kept
+ *  in float and int arrays and the queue is an IndexedFloatMinHeap, so the
+ *  relaxation loop never boxes, unboxes or calls Comparable.compareTo.
+ *  If the graph is disconnected, the result is a minimum spanning forest
+ *  whose extra trees are rooted at their lowest-indexed vertex.
+ * 
+ *  A long run can periodically save its state (the tree membership bitset,
+ *  the parent and cost arrays, the extraction order and the queue) to a
+ *  checkpoint file, and a new engine over the same graph can resume from it
+ *  after a restart.
+ */
+public class FloatPrimEngine implements FloatMSTEngine {
+    /** CHECKPOINT_MAGIC starts every checkpoint file.
+     */
+    private static final int CHECKPOINT_MAGIC = 0x4D535443; // "MSTC"
+    /** CLOCK_INTERVAL is the number of extractions between looks at the clock while checkpointing.
+     */
+    private static final int CLOCK_INTERVAL = 1024;
+    
+    /** The graph whose Minimum Spanning Tree this engine finds.
+     */
+    private final FloatGraph<?> graph;
+    /** sorted is the graph if it can list neighbors up to a weight bound, or null.
+     */
+    private final SortedFloatGraph<?> sorted;
+    /** parent holds the index of the vertex that attached each vertex to the tree, or -1 for a root.
+     */
+    private final int[] parent;
+    /** cost holds the weight of the edge that attached each vertex to the tree.
+     */
+    private final float[] cost;
+    /** inTree indicates whether each vertex has been added to the tree.
+     */
+    private final boolean[] inTree;
+    /** order holds the vertex indexes in the order they were extracted from the queue.
+     */
+    private final int[] order;
+    /** extracted is the number of vertices added to the tree so far.
+     */
+    private int extracted;
+    /** kernel runs the neighbor scan of the relaxation loop.
+     */
+    private final FloatScanKernel kernel;
+    
+    /** Constructor that creates a new FloatPrimEngine for the passed-in graph.
+     * 
+     * @param newGraph The graph whose Minimum Spanning Tree to find.
+     * @throws IllegalArgumentException If the newGraph parameter is null.
+     */
+    public FloatPrimEngine(FloatGraph<?> newGraph) throws IllegalArgumentException {
+        this(newGraph, FloatScanKernel.DEFAULT);
+    }
+    
+    /** Constructor that creates a new FloatPrimEngine for the passed-in graph
+     *  that scans neighbors with the passed-in kernel.
+     * 
+     * @param newGraph The graph whose Minimum Spanning Tree to find.
+     * @param newKernel The kernel to scan neighbors with.
+     * @throws IllegalArgumentException If either parameter is null.
+     */
+    FloatPrimEngine(FloatGraph<?> newGraph, FloatScanKernel newKernel) throws IllegalArgumentException {
+        if (newGraph == null)
+            throw new IllegalArgumentException("Error while creating a new FloatPrimEngine: The newGraph parameter is null!");
+        else if (newKernel == null)
+            throw new IllegalArgumentException("Error while creating a new FloatPrimEngine: The newKernel parameter is null!");
+        
+        graph = newGraph;
+        kernel = newKernel;
+        sorted = newGraph instanceof SortedFloatGraph ? (SortedFloatGraph<?>) newGraph : null;
+        int n = graph.vertexCount();
+        parent = new int[n];
+        cost = new float[n];
+        order = new int[n];
+        inTree = new boolean[n];
+    }
+    
+    /** ExecutePrim finds the Minimum Spanning Tree (or forest) of this engine's
+     *  graph starting from the passed-in root. Each extracted vertex's
+     *  neighbors are relaxed with the weight of the connecting edge alone.
+     * 
+     * @param root The index of the root vertex, or -1 to start from vertex 0.
+     */
+    public void ExecutePrim(int root) {
+        ExecutePrim(root, null);
+    }
+    
+    /** ExecutePrim finds the Minimum Spanning Tree (or forest) of this engine's
+     *  graph starting from the passed-in root, and passes each tree edge to the
+     *  consumer as soon as its child vertex is extracted from the queue.
+     * 
+     * @param root The index of the root vertex, or -1 to start from vertex 0.
+     * @param consumer The consumer to pass each tree edge to, or null.
+     */
+    @Override
+    public void ExecutePrim(int root, MSTEdgeConsumer consumer) {
+        Execute(root, true, Integer.MAX_VALUE, Float.POSITIVE_INFINITY, consumer);
+    }
+    
+    /** ExecuteBoundedPrim grows only the tree containing the passed-in root,
+     *  and stops as soon as maxEdges tree edges have been added or the
+     *  cheapest edge left in the queue weighs more than maxWeight. Each tree
+     *  edge is passed to the consumer as soon as it is added, so the work done
+     *  is proportional to the size of the answer rather than of the graph.
+     *  Over a SortedFloatGraph, edges heavier than maxWeight are not even listed.
+     * 
+     * @param root The index of the root vertex, or -1 to start from vertex 0.
+     * @param maxEdges The maximum number of tree edges to add.
+     * @param maxWeight The maximum weight of a tree edge.
+     * @param consumer The consumer to pass each tree edge to, or null.
+     * @throws IllegalArgumentException If the maxEdges parameter is negative.
+     */
+    public void ExecuteBoundedPrim(int root, int maxEdges, float maxWeight, MSTEdgeConsumer consumer) throws IllegalArgumentException {
+        if (maxEdges < 0)
+            throw new IllegalArgumentException("Error while executing ExecuteBoundedPrim(int, int, float, MSTEdgeConsumer) in FloatPrimEngine: The maxEdges parameter (" + maxEdges + ") is negative!");
+        
+        Execute(root < 0 ? 0 : root, false, maxEdges, maxWeight, consumer);
+    }
+    
+    /** Execute runs Prim's Algorithm from the passed-in root until every
+     *  vertex is in the tree, or until one of the passed-in bounds is reached.
+     * 
+     * @param root The index of the root vertex, or -1 for none.
+     * @param spanAll Whether to start a new tree whenever the current one cannot grow any further.
+     * @param maxEdges The maximum number of tree edges to add.
+     * @param maxWeight The maximum weight of a tree edge.
+     * @param consumer The consumer to pass each tree edge to, or null.
+     */
+    private void Execute(int root, boolean spanAll, int maxEdges, float maxWeight, MSTEdgeConsumer consumer) {
+        Run(start(root), spanAll, maxEdges, maxWeight, consumer, null, 0);
+    }
+    
+    /** ExecutePrim finds the Minimum Spanning Tree (or forest) of this engine's
+     *  graph starting from the passed-in root, like ExecutePrim(int,
+     *  MSTEdgeConsumer), and saves the run's state to the passed-in checkpoint
+     *  file whenever at least intervalMillis have passed since the last save.
+     *  Each save is written to a temporary file first and then moved over the
+     *  checkpoint, so a crash while saving keeps the previous checkpoint. The
+     *  checkpoint is deleted once the run finishes.
+     * 
+     * @param root The index of the root vertex, or -1 to start from vertex 0.
+     * @param consumer The consumer to pass each tree edge to, or null.
+     * @param checkpoint The file to save the run's state to.
+     * @param intervalMillis The least time between two saves.
+     * @throws IllegalArgumentException If checkpoint is null or intervalMillis is negative.
+     * @throws IOException If there is an issue saving the checkpoint.
+     */
+    public void ExecutePrim(int root, MSTEdgeConsumer consumer, File checkpoint, long intervalMillis) throws IllegalArgumentException, IOException {
+        if (checkpoint == null)
+            throw new IllegalArgumentException("Error while executing ExecutePrim(int, MSTEdgeConsumer, File, long) in FloatPrimEngine: The checkpoint parameter is null!");
+        else if (intervalMillis < 0)
+            throw new IllegalArgumentException("Error while executing ExecutePrim(int, MSTEdgeConsumer, File, long) in FloatPrimEngine: The intervalMillis parameter (" + intervalMillis + ") is negative!");
+        
+        Checkpointed(start(root), consumer, checkpoint, intervalMillis);
+    }
+    
+    /** ResumePrim restores the state saved in the passed-in checkpoint file by
+     *  a run over the same graph and finishes that run, continuing to save
+     *  checkpoints every intervalMillis. Tree edges the earlier run found
+     *  before its last save are not passed to the consumer again; edges it
+     *  found after that are found and passed again.
+     * 
+     * @param checkpoint The checkpoint file to resume from.
+     * @param consumer The consumer to pass each remaining tree edge to, or null.
+     * @param intervalMillis The least time between two saves.
+     * @throws IllegalArgumentException If checkpoint is null, intervalMillis is negative,
+     * or the checkpoint is not one of a run over this engine's graph.
+     * @throws IOException If there is an issue reading or saving the checkpoint.
+     */
+    public void ResumePrim(File checkpoint, MSTEdgeConsumer consumer, long intervalMillis) throws IllegalArgumentException, IOException {
+        if (checkpoint == null)
+            throw new IllegalArgumentException("Error while executing ResumePrim(File, MSTEdgeConsumer, long) in FloatPrimEngine: The checkpoint parameter is null!");
+        else if (intervalMillis < 0)
+            throw new IllegalArgumentException("Error while executing ResumePrim(File, MSTEdgeConsumer, long) in FloatPrimEngine: The intervalMillis parameter (" + intervalMillis + ") is negative!");
+        
+        Checkpointed(load(checkpoint), consumer, checkpoint, intervalMillis);
+    }
+    
+    /** Checkpointed runs Prim's Algorithm over the whole graph from the
+     *  passed-in queue, saving checkpoints, and deletes the checkpoint at the end.
+     * 
+     * @param queue The queue to continue from.
+     * @param consumer The consumer to pass each tree edge to, or null.
+     * @param checkpoint The file to save the run's state to.
+     * @param intervalMillis The least time between two saves.
+     * @throws IOException If there is an issue saving or deleting the checkpoint.
+     */
+    private void Checkpointed(IndexedFloatMinHeap queue, MSTEdgeConsumer consumer, File checkpoint, long intervalMillis) throws IOException {
+        try {
+            Run(queue, true, Integer.MAX_VALUE, Float.POSITIVE_INFINITY, consumer, checkpoint, intervalMillis * 1_000_000L);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        Files.deleteIfExists(checkpoint.toPath());
+    }
+    
+    /** start resets the engine's state for a new run from the passed-in root.
+     * 
+     * @param root The index of the root vertex, or -1 for none.
+     * @return The queue, holding only the root.
+     */
+    private IndexedFloatMinHeap start(int root) {
+        int n = graph.vertexCount();
+        IndexedFloatMinHeap queue = new IndexedFloatMinHeap(n);
+        Arrays.fill(inTree, false);
+        Arrays.fill(parent, -1);
+        Arrays.fill(cost, Float.POSITIVE_INFINITY);
+        extracted = 0;
+        
+        if (root >= 0 && root < n) {
+            cost[root] = 0;
+            queue.Insert(root, 0);
+        }
+        return queue;
+    }
+    
+    /** Run continues Prim's Algorithm from the passed-in queue until every
+     *  vertex is in the tree, or until one of the passed-in bounds is reached.
+     * 
+     * @param queue The queue holding the vertices next to the tree.
+     * @param spanAll Whether to start a new tree whenever the current one cannot grow any further.
+     * @param maxEdges The maximum number of tree edges to add.
+     * @param maxWeight The maximum weight of a tree edge.
+     * @param consumer The consumer to pass each tree edge to, or null.
+     * @param checkpoint The file to save the run's state to, or null.
+     * @param intervalNanos The least time between two saves.
+     * @throws UncheckedIOException If there is an issue saving the checkpoint.
+     */
+    private void Run(IndexedFloatMinHeap queue, boolean spanAll, int maxEdges, float maxWeight, MSTEdgeConsumer consumer, File checkpoint, long intervalNanos) throws UncheckedIOException {
+        int n = graph.vertexCount();
+        int[] targets = new int[graph.maxDegree()];
+        float[] weights = new float[targets.length];
+        int[] candidates = new int[targets.length];
+        int next = 0; // next is the lowest index that may still be outside the tree.
+        int edges = 0; // edges is the number of tree edges added so far.
+        long saved = System.nanoTime(); // saved is when the last checkpoint was saved.
+        while (extracted < n) {
+            if (queue.isEmpty()) { // Start a new tree at the lowest-indexed remaining vertex.
+                if (!spanAll)
+                    break;
+                while (inTree[next])
+                    next++;
+                queue.Insert(next, cost[next]);
+            }
+            
+            // Stop before adding an edge that is over either bound.
+            int vertex = queue.FindMin();
+            if (parent[vertex] >= 0 && (edges >= maxEdges || cost[vertex] > maxWeight))
+                break;
+            
+            queue.ExtractMin();
+            inTree[vertex] = true;
+            order[extracted++] = vertex;
+            if (parent[vertex] >= 0) {
+                edges++;
+                if (consumer != null)
+                    consumer.accept(parent[vertex], vertex, cost[vertex]);
+            }
+            
+            // Collect the adjacent vertexes whose cost the extraction may lower, then update them.
+            // An edge heavier than maxWeight can never be added, so a SortedFloatGraph need not list it.
+            int count = sorted != null && maxWeight < Float.POSITIVE_INFINITY ? sorted.neighborsUpTo(vertex, maxWeight, targets, weights) :
+                graph.neighbors(vertex, targets, weights);
+            int found = kernel.improving(count, targets, weights, cost, candidates);
+            for (int k = 0; k < found; k++) {
+                int i = candidates[k];
+                int to = targets[i];
+                float weight = weights[i];
+                if (!inTree[to] && (weight < cost[to] || parent[to] < 0)) { // A vertex with no parent yet has not been reached.
+                    cost[to] = weight;
+                    parent[to] = vertex;
+                    queue.Insert(to, weight);
+                }
+            }
+            
+            if (checkpoint != null && extracted % CLOCK_INTERVAL == 0 && extracted < n && System.nanoTime() - saved >= intervalNanos) {
+                try {
+                    save(queue, checkpoint);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                saved = System.nanoTime();
+            }
+        }
+    }
+    
+    /** save writes the run's state to a temporary file next to the passed-in
+     *  checkpoint, and then moves it over the checkpoint. The file holds
+     *  CHECKPOINT_MAGIC, the vertex and edge counts of the graph, the
+     *  extraction order, the parent and cost arrays, the tree membership
+     *  bitset, and the queue's items and values in heap order.
+     * 
+     * @param queue The queue of the run.
+     * @param checkpoint The checkpoint file.
+     * @throws IOException If there is an issue writing or moving the file.
+     */
+    private void save(IndexedFloatMinHeap queue, File checkpoint) throws IOException {
+        int n = graph.vertexCount();
+        File temporary = new File(checkpoint.getPath() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temporary), 1 << 16))) {
+            out.writeInt(CHECKPOINT_MAGIC);
+            out.writeInt(n);
+            out.writeLong(graph.edgeCount());
+            out.writeInt(extracted);
+            for (int i = 0; i < extracted; i++)
+                out.writeInt(order[i]);
+            for (int v = 0; v < n; v++)
+                out.writeInt(parent[v]);
+            for (int v = 0; v < n; v++)
+                out.writeFloat(cost[v]);
+            for (int word = 0; word < n; word += 64) {
+                long bits = 0;
+                for (int v = word; v < Math.min(word + 64, n); v++)
+                    if (inTree[v])
+                        bits |= 1L << (v - word);
+                out.writeLong(bits);
+            }
+            out.writeInt(queue.size());
+            for (int i = 1; i <= queue.size(); i++) {
+                int item = queue.ItemAt(i);
+                out.writeInt(item);
+                out.writeFloat(queue.GetValue(item));
+            }
+        }
+        Files.move(temporary.toPath(), checkpoint.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+    
+    /** load restores the run's state from the passed-in checkpoint file.
+     * 
+     * @param checkpoint The checkpoint file.
+     * @return The queue of the run, rebuilt in the same heap order.
+     * @throws IllegalArgumentException If the file is not a checkpoint of a run over this engine's graph.
+     * @throws IOException If there is an issue reading the file.
+     */
+    private IndexedFloatMinHeap load(File checkpoint) throws IllegalArgumentException, IOException {
+        int n = graph.vertexCount();
+        IndexedFloatMinHeap queue = new IndexedFloatMinHeap(n);
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(checkpoint), 1 << 16))) {
+            if (in.readInt() != CHECKPOINT_MAGIC)
+                throw new IllegalArgumentException("Error while executing ResumePrim(File, MSTEdgeConsumer, long) in FloatPrimEngine: The file \"" + checkpoint + "\" is not a checkpoint!");
+            int vertices = in.readInt();
+            long edges = in.readLong();
+            if (vertices != n || edges != graph.edgeCount())
+                throw new IllegalArgumentException("Error while executing ResumePrim(File, MSTEdgeConsumer, long) in FloatPrimEngine: The checkpoint is of a graph with " + vertices + " vertices and " + edges + " edges, not " + n + " and " + graph.edgeCount() + "!");
+            extracted = in.readInt();
+            for (int i = 0; i < extracted; i++)
+                order[i] = in.readInt();
+            for (int v = 0; v < n; v++)
+                parent[v] = in.readInt();
+            for (int v = 0; v < n; v++)
+                cost[v] = in.readFloat();
+            for (int word = 0; word < n; word += 64) {
+                long bits = in.readLong();
+                for (int v = word; v < Math.min(word + 64, n); v++)
+                    inTree[v] = (bits >>> (v - word) & 1) != 0;
+            }
+            int size = in.readInt();
+            for (int i = 0; i < size; i++) {
+                int item = in.readInt();
+                queue.Insert(item, in.readFloat());
+            }
+        }
+        return queue;
+    }
+    
+    /** isInTree returns whether the passed-in vertex was added to the tree by
+     *  the last run; after a bounded run, the parent and cost of any other
+     *  vertex are only tentative.
+     * 
+     * @param vertex The index of the vertex.
+     * @return True if the vertex is in the tree.
+     */
+    public boolean isInTree(int vertex) {
+        return inTree[vertex];
+    }
+    
+    /** getParent returns the parent index of each vertex, or -1 for the root of each tree.
+     * 
+     * @return The parent attribute.
+     */
+    @Override
+    public int[] getParent() {
+        return parent;
+    }
+    
+    /** getCost returns the weight of the edge that attached each vertex to the tree.
+     * 
+     * @return The cost attribute.
+     */
+    @Override
+    public float[] getCost() {
+        return cost;
+    }
+    
+    /** getOrder returns the vertex indexes in the order they were added to the tree;
+     *  only the first getExtracted() entries are meaningful.
+     * 
+     * @return The order attribute.
+     */
+    @Override
+    public int[] getOrder() {
+        return order;
+    }
+    
+    /** getExtracted returns the number of vertices added to the tree.
+     * 
+     * @return The extracted attribute.
+     */
+    @Override
+    public int getExtracted() {
+        return extracted;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,216 @@
+/* Author:     Ryan McAllister-Grum
+ * UIN:        661880584
+ * Class:      20FA - Algorithms & Computation (20FA-OL-CSC482A-15037)
+ * Assignment: 3 (Implement Prim's Algorithm)
+ */
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+/** FloatRadixSort sorts edge arrays by their float weights with a least
+ *  significant digit radix sort, carrying each edge's endpoints along. Each
+ *  weight's IEEE-754 bit pattern is first turned into an unsigned int key
+ *  that orders like the float (negative weights have every bit flipped,
+ *  others only the sign bit), which is then sorted one byte at a time, for
+ *  at most four linear passes instead of O(E log E) comparisons. Passes
+ *  whose byte is the same for every edge are skipped.
+ * 
+ *  Large inputs are split into one chunk per worker thread of a
+ *  ForkJoinPool: every pass, each chunk counts its own byte histogram, the
+ *  histograms are turned into disjoint output slots, and each chunk then
+ *  scatters its edges into its slots in parallel. The sort is stable, so
+ *  edges of equal weight keep their input order.
+ */
+public class FloatRadixSort {
+    /** PARALLEL_CHUNK is the fewest edges worth counting and scattering on a thread of their own.
+     */
+    private static final int PARALLEL_CHUNK = 1 << 16;
+    /** RADIX is the number of buckets of each one-byte digit.
+     */
+    private static final int RADIX = 256;
+    
+    /** sort sorts the first count edges of the passed-in arrays by weight with the common ForkJoinPool.
+     * 
+     * @param weights The weight of each edge.
+     * @param from The from vertex of each edge, reordered with the weights.
+     * @param to The to vertex of each edge, reordered with the weights.
+     * @param count The number of edges to sort.
+     * @throws IllegalArgumentException If an array is null or shorter than count.
+     */
+    public static void sort(float[] weights, int[] from, int[] to, int count) throws IllegalArgumentException {
+        sort(weights, from, to, count, ForkJoinPool.commonPool());
+    }
+    
+    /** sort sorts the first count edges of the passed-in arrays by weight,
+     *  splitting the work across the passed-in pool.
+     * 
+     * @param weights The weight of each edge.
+     * @param from The from vertex of each edge, reordered with the weights.
+     * @param to The to vertex of each edge, reordered with the weights.
+     * @param count The number of edges to sort.
+     * @param pool The pool to run the chunks on.
+     * @throws IllegalArgumentException If an array or pool is null, or an array is shorter than count.
+     */
+    public static void sort(float[] weights, int[] from, int[] to, int count, ForkJoinPool pool) throws IllegalArgumentException {
+        if (weights == null || from == null || to == null)
+            throw new IllegalArgumentException("Error while executing sort(float[], int[], int[], int, ForkJoinPool) in FloatRadixSort: An edge array is null!");
+        else if (pool == null)
+            throw new IllegalArgumentException("Error while executing sort(float[], int[], int[], int, ForkJoinPool) in FloatRadixSort: The pool parameter is null!");
+        else if (count < 0 || weights.length < count || from.length < count || to.length < count)
+            throw new IllegalArgumentException("Error while executing sort(float[], int[], int[], int, ForkJoinPool) in FloatRadixSort: The edge arrays are shorter than count (" + count + ")!");
+        if (count < 2)
+            return;
+        
+        int chunks = Math.max(1, Math.min(pool.getParallelism(), count / PARALLEL_CHUNK));
+        
+        // Turn the weights into keys, counting every byte of them to find the passes that can be skipped.
+        int[] keys = new int[count];
+        int[][] histograms = new int[chunks][4 * RADIX];
+        run(pool, chunks, c -> {
+            int[] histogram = histograms[c];
+            for (int i = start(c, chunks, count), end = start(c + 1, chunks, count); i < end; i++) {
+                int bits = Float.floatToRawIntBits(weights[i]);
+                int key = bits ^ ((bits >> 31) | 0x80000000);
+                keys[i] = key;
+                histogram[key & 0xFF]++;
+                histogram[RADIX + (key >>> 8 & 0xFF)]++;
+                histogram[2 * RADIX + (key >>> 16 & 0xFF)]++;
+                histogram[3 * RADIX + (key >>> 24)]++;
+            }
+        });
+        
+        int[] sourceKeys = keys, sourceFrom = from, sourceTo = to;
+        int[] targetKeys = new int[count], targetFrom = new int[count], targetTo = new int[count];
+        for (int pass = 0; pass < 4; pass++) {
+            if (isConstant(histograms, pass, count))
+                continue;
+            int shift = 8 * pass;
+            int[] inKeys = sourceKeys, inFrom = sourceFrom, inTo = sourceTo;
+            int[] outKeys = targetKeys, outFrom = targetFrom, outTo = targetTo;
+            
+            // Count each chunk's digits, then give chunk c the slots of each digit after those of the chunks before it.
+            int[][] cursor = new int[chunks][RADIX];
+            run(pool, chunks, c -> {
+                int[] histogram = cursor[c];
+                for (int i = start(c, chunks, count), end = start(c + 1, chunks, count); i < end; i++)
+                    histogram[inKeys[i] >>> shift & 0xFF]++;
+            });
+            int total = 0;
+            for (int digit = 0; digit < RADIX; digit++)
+                for (int c = 0; c < chunks; c++) {
+                    int entries = cursor[c][digit];
+                    cursor[c][digit] = total;
+                    total += entries;
+                }
+            
+            run(pool, chunks, c -> {
+                int[] fill = cursor[c];
+                for (int i = start(c, chunks, count), end = start(c + 1, chunks, count); i < end; i++) {
+                    int slot = fill[inKeys[i] >>> shift & 0xFF]++;
+                    outKeys[slot] = inKeys[i];
+                    outFrom[slot] = inFrom[i];
+                    outTo[slot] = inTo[i];
+                }
+            });
+            targetKeys = sourceKeys;
+            targetFrom = sourceFrom;
+            targetTo = sourceTo;
+            sourceKeys = outKeys;
+            sourceFrom = outFrom;
+            sourceTo = outTo;
+        }
+        
+        // Copy the endpoints back if the last pass left them in the scratch arrays, and turn the keys back into weights.
+        if (sourceFrom != from) {
+            System.arraycopy(sourceFrom, 0, from, 0, count);
+            System.arraycopy(sourceTo, 0, to, 0, count);
+        }
+        int[] sorted = sourceKeys;
+        run(pool, chunks, c -> {
+            for (int i = start(c, chunks, count), end = start(c + 1, chunks, count); i < end; i++) {
+                int key = sorted[i];
+                weights[i] = Float.intBitsToFloat(key < 0 ? key ^ 0x80000000 : ~key);
+            }
+        });
+    }
+    
+    /** isConstant returns whether every key has the same byte in the passed-in pass.
+     * 
+     * @param histograms The byte histograms of every chunk, for all four passes.
+     * @param pass The pass, from 0 for the lowest byte to 3 for the highest.
+     * @param count The number of keys.
+     * @return True if one bucket of the pass holds every key.
+     */
+    private static boolean isConstant(int[][] histograms, int pass, int count) {
+        for (int digit = 0; digit < RADIX; digit++) {
+            long total = 0;
+            for (int[] histogram : histograms)
+                total += histogram[pass * RADIX + digit];
+            if (total != 0)
+                return total == count;
+        }
+        return true;
+    }
+    
+    /** start returns the first edge of the passed-in chunk.
+     * 
+     * @param chunk The chunk, or chunks for the end of the last chunk.
+     * @param chunks The number of chunks.
+     * @param count The number of edges.
+     * @return The index of the chunk's first edge.
+     */
+    private static int start(int chunk, int chunks, int count) {
+        return (int) ((long) count * chunk / chunks);
+    }
+    
+    /** run runs the passed-in action for every chunk, on the pool if there is more than one.
+     * 
+     * @param pool The pool to run the chunks on.
+     * @param chunks The number of chunks.
+     * @param action The action to run with each chunk number.
+     */
+    private static void run(ForkJoinPool pool, int chunks, IntConsumer action) {
+        if (chunks == 1)
+            action.accept(0);
+        else
+            pool.invoke(new ChunkTask(0, chunks, action));
+    }
+    
+    /** ChunkTask runs an action for a range of chunks, splitting the range in
+     *  half until each task has a single chunk.
+     */
+    private static class ChunkTask extends RecursiveAction {
+        /** serialVersionUID identifies this version of the serialized class.
+         */
+        private static final long serialVersionUID = 1L;
+        /** low and high bound the chunks of this task, high exclusive.
+         */
+        private final int low, high;
+        /** action is run with each chunk number.
+         */
+        private final IntConsumer action;
+        
+        /** Constructor that creates a new ChunkTask for the passed-in chunks.
+         * 
+         * @param newLow The first chunk.
+         * @param newHigh One past the last chunk.
+         * @param newAction The action to run with each chunk number.
+         */
+        ChunkTask(int newLow, int newHigh, IntConsumer newAction) {
+            low = newLow;
+            high = newHigh;
+            action = newAction;
+        }
+        
+        @Override
+        protected void compute() {
+            if (high - low == 1)
+                action.accept(low);
+            else {
+                int middle = (low + high) >>> 1;
+                invokeAll(new ChunkTask(low, middle, action), new ChunkTask(middle, high, action));
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,112 @@
+/* Author:     Ryan McAllister-Grum
+ * UIN:        661880584
+ * Class:      20FA - Algorithms & Computation (20FA-OL-CSC482A-15037)
+ * Assignment: 3 (Implement Prim's Algorithm)
+ */
+
+/** FloatScanKernel holds the inner loops that the primitive engines spend
+ *  almost all of their time in: collecting the neighbors whose attachment
+ *  cost an edge may lower, relaxing a dense matrix row, and finding the
+ *  minimum of a cost array. This class is the plain scalar version.
+ * 
+ *  VectorScanKernel, in vector/VectorScanKernel.java, overrides each loop
+ *  with the jdk.incubator.vector API, comparing a whole vector of weights
+ *  per step. It is optional: it is only compiled and loaded with the
+ *  incubator module, for example
+ *  <pre>
+ *  javac -d out *.java
+ *  javac --add-modules jdk.incubator.vector -cp out -d out vector/VectorScanKernel.java
+ *  java --add-modules jdk.incubator.vector -cp out ScanBenchmark
+ *  </pre>
+ *  and load falls back to this class whenever it is missing.
+ */
+class FloatScanKernel {
+    /** VECTOR_KERNEL is the name of the optional Vector API kernel class.
+     */
+    private static final String VECTOR_KERNEL = "VectorScanKernel";
+    /** DEFAULT is the kernel the engines use unless told otherwise.
+     */
+    static final FloatScanKernel DEFAULT = load();
+    
+    /** load returns a new VectorScanKernel if it was compiled and the
+     *  jdk.incubator.vector module is available, and a new scalar
+     *  FloatScanKernel otherwise.
+     * 
+     * @return The fastest available kernel.
+     */
+    static FloatScanKernel load() {
+        try {
+            return (FloatScanKernel) Class.forName(VECTOR_KERNEL).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return new FloatScanKernel();
+        }
+    }
+    
+    /** getName returns a short description of this kernel for reports.
+     * 
+     * @return The name of this kernel.
+     */
+    String getName() {
+        return "scalar";
+    }
+    
+    /** improving writes, in order, the positions i (from 0 to count - 1)
+     *  whose edge may lower the attachment cost of its neighbor: those where
+     *  weights[i] is less than cost[targets[i]], or where that cost is still
+     *  Float.POSITIVE_INFINITY because the neighbor has not been reached.
+     *  The caller still checks each written position exactly.
+     * 
+     * @param count The number of neighbors in targets and weights.
+     * @param targets The neighbor indexes.
+     * @param weights The weights of the edges leading to the neighbors.
+     * @param cost The current attachment cost of every vertex.
+     * @param candidates The buffer to write the positions into; it must hold count entries.
+     * @return The number of positions written.
+     */
+    int improving(int count, int[] targets, float[] weights, float[] cost, int[] candidates) {
+        int found = 0;
+        for (int i = 0; i < count; i++) {
+            float current = cost[targets[i]];
+            if (weights[i] < current || current == Float.POSITIVE_INFINITY)
+                candidates[found++] = i;
+        }
+        return found;
+    }
+    
+    /** min returns the smallest of values[0] to values[n - 1], skipping NaN
+     *  values, or Float.POSITIVE_INFINITY if there is none.
+     * 
+     * @param values The values to scan.
+     * @param n The number of values to scan.
+     * @return The smallest value that is not NaN.
+     */
+    float min(float[] values, int n) {
+        float min = Float.POSITIVE_INFINITY;
+        for (int i = 0; i < n; i++)
+            if (values[i] < min)
+                min = values[i];
+        return min;
+    }
+    
+    /** relaxRow lowers minCost[v] to matrix[row + v], and sets parent[v] to
+     *  vertex, for every v from 0 to n - 1 where the matrix entry is cheaper.
+     *  A NaN minCost never compares as more expensive, so it marks a vertex
+     *  that must not be relaxed.
+     * 
+     * @param matrix The adjacency matrix.
+     * @param row The offset of the relaxed vertex's row in the matrix.
+     * @param n The number of vertices.
+     * @param vertex The relaxed vertex.
+     * @param minCost The cheapest known attachment cost of every vertex.
+     * @param parent The vertex that offered each vertex its minCost.
+     */
+    void relaxRow(float[] matrix, int row, int n, int vertex, float[] minCost, int[] parent) {
+        for (int v = 0; v < n; v++) {
+            float weight = matrix[row + v];
+            if (weight < minCost[v]) {
+                minCost[v] = weight;
+                parent[v] = vertex;
+            }
+        }
+    }
+}
\ No newline at end of file
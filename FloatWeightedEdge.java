@@ -0,0 +1,125 @@
+/* Author:     Ryan McAllister-Grum
+ * UIN:        661880584
+ * Class:      20FA - Algorithms & Computation (20FA-OL-CSC482A-15037)
+ * Assignment: 3 (Implement Prim's Algorithm)
+ */
+
+/** The FloatWeightedEdge is a WeightedEdge specialized for primitive float weights.
+ *  It stores its weight unboxed and compares weights with Float.compare, so it
+ *  can replace a WeightedEdge{@literal <}Float{@literal >} anywhere without a boxed weight per edge.
+ */
+public class FloatWeightedEdge extends WeightedEdge<Float> {
+    /** The primitive weight value assigned to this FloatWeightedEdge.
+     */
+    float floatWeight;
+    
+    /** Constructor that creates a new FloatWeightedEdge using the passed-in
+     *  destination Vertex and edge cost.
+     * 
+     * @param to The destination Vertex of this FloatWeightedEdge.
+     * @param newWeight The new weight value/cost to assign to this
+     * FloatWeightedEdge.
+     */
+    public FloatWeightedEdge(Vertex to, float newWeight) {
+        super(to, null);
+        floatWeight = newWeight;
+    }
+    
+    /** getFloatWeight returns the primitive cost of this FloatWeightedEdge.
+     * 
+     * @return The floatWeight attribute of this FloatWeightedEdge.
+     */
+    public float getFloatWeight() {
+        return floatWeight;
+    }
+    
+    /** getWeight returns the boxed cost of this FloatWeightedEdge; prefer
+     *  getFloatWeight in hot loops.
+     * 
+     * @return The floatWeight attribute of this FloatWeightedEdge, boxed.
+     */
+    @Override
+    public Float getWeight() {
+        return floatWeight;
+    }
+    
+    /** setWeight sets a new edge cost to this FloatWeightedEdge.
+     * 
+     * @param newWeight The new edge cost to set to this FloatWeightedEdge.
+     * @throws IllegalArgumentException If the newWeight parameter is null.
+     * @throws IllegalStateException If this FloatWeightedEdge belongs to a frozen Graph.
+     */
+    @Override
+    public void setWeight(Float newWeight) throws IllegalArgumentException, IllegalStateException {
+        if (newWeight == null)
+            throw new IllegalArgumentException("Error while executing setWeight(Float) in FloatWeightedEdge: The newWeight parameter is null!");
+        else if (frozen)
+            throw new IllegalStateException("Error while executing setWeight(Float) in FloatWeightedEdge: The edge belongs to a frozen graph!");
+        
+        floatWeight = newWeight;
+    }
+    
+    /** equals compares this FloatWeightedEdge with the passed-in Object for
+     *  equality; in particular, it compares their weight, and then their
+     *  destination Vertex, for equality.
+     * 
+     * @param o The Object to compare to this FloatWeightedEdge.
+     * @return True if this FloatWeightedEdge equals the passed-in Object.
+     * @throws IllegalArgumentException If the passed-in Object is not a
+     * FloatWeightedEdge or is null.
+     */
+    @Override
+    public boolean equals(Object o) throws IllegalArgumentException {
+        if (o == this)
+            return true;
+        else if (o == null)
+            throw new IllegalArgumentException("Error while executing equals(Object) in FloatWeightedEdge: The o parameter is null!");
+        else if (o.getClass() != getClass())
+            throw new IllegalArgumentException("Error while executing equals(Object) in FloatWeightedEdge: Cannot compare a FloatWeightedEdge to a " + o.getClass() + "!");
+        
+        FloatWeightedEdge edge = (FloatWeightedEdge) o;
+        return Float.compare(floatWeight, edge.getFloatWeight()) == 0 && getTo().equals(edge.getTo());
+    }
+    
+    /** hashCode returns the combined hashCode value of this FloatWeightedEdge's weight
+     *  and destination Vertex.
+     * 
+     * @return The combined hashCode of this FloatWeightedEdge's weight and to Vertex.
+     */
+    @Override
+    public int hashCode() {
+        return Float.hashCode(floatWeight) + getTo().hashCode();
+    }
+    
+    /** compareTo compares this FloatWeightedEdge with the passed-in WeightedEdge;
+     *  in particular, it compares their weight, and then their
+     *  destination Vertex.
+     * 
+     * @param edge The WeightedEdge to compare to this FloatWeightedEdge.
+     * @return {@literal <} 0 if this FloatWeightedEdge is less than the passed-in
+     * WeightedEdge, 0 if equal, and {@literal >} 0 if this FloatWeightedEdge is greater
+     * than the passed-in WeightedEdge.
+     * @throws IllegalArgumentException If the passed-in WeightedEdge is null.
+     */
+    @Override
+    public int compareTo(WeightedEdge<Float> edge) throws IllegalArgumentException {
+        if (edge == this)
+            return 0;
+        else if (edge == null)
+            throw new IllegalArgumentException("Error while executing compareTo(WeightedEdge<Float>) in FloatWeightedEdge: The edge parameter is null!");
+        
+        int result = Float.compare(floatWeight, edge instanceof FloatWeightedEdge ? ((FloatWeightedEdge) edge).getFloatWeight() : edge.getWeight());
+        return result != 0 ? result : getTo().compareTo(edge.getTo());
+    }
+    
+    /** toString outputs this FloatWeightedEdge's Vertex, followed by its weight,
+     *  in a set of parenthesis.
+     * 
+     * @return This FloatWeightedEdge's Vertex, followed by its weight, in a set
+     * of parenthesis.
+     */
+    @Override
+    public String toString() {
+        return "(" + getTo() + ", " + floatWeight + ")";
+    }
+}
\ No newline at end of file
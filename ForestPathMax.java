@@ -0,0 +1,124 @@
+/* Author:     Ryan McAllister-Grum
+ * UIN:        661880584
+ * Class:      20FA - Algorithms & Computation (20FA-OL-CSC482A-15037)
+ * Assignment: 3 (Implement Prim's Algorithm)
+ */
+
+/** ForestPathMax answers, for two vertices of a rooted forest, the heaviest
+ *  edge weight on the path between them, by binary lifting: for every vertex
+ *  it keeps its 2^j-th ancestor and the heaviest edge on the way there, so a
+ *  query climbs O(log depth) levels from each end to their lowest common
+ *  ancestor. Only as many levels are built as the deepest tree needs.
+ */
+class ForestPathMax {
+    /** depth holds the number of edges from each vertex up to the root of its tree.
+     */
+    private final int[] depth;
+    /** root holds the root of each vertex's tree.
+     */
+    private final int[] root;
+    /** up holds, for each level j, the 2^j-th ancestor of every vertex (a root is its own ancestor).
+     */
+    private final int[][] up;
+    /** max holds, for each level j, the heaviest edge weight between every vertex and up[j] of it.
+     */
+    private final float[][] max;
+    
+    /** Constructor that indexes the forest given by the passed-in parent and cost arrays.
+     * 
+     * @param parent The parent of each vertex, or -1 for a root.
+     * @param cost The weight of the edge to each vertex's parent.
+     * @param order The vertices with every parent before its children, such as an engine's getOrder().
+     * @param count The number of entries of order to use; it must cover every vertex.
+     * @throws IllegalArgumentException If order does not list every vertex after its parent.
+     */
+    ForestPathMax(int[] parent, float[] cost, int[] order, int count) throws IllegalArgumentException {
+        int n = parent.length;
+        if (count != n)
+            throw new IllegalArgumentException("Error while creating a new ForestPathMax: The order lists " + count + " of " + n + " vertices!");
+        
+        depth = new int[n];
+        root = new int[n];
+        boolean[] placed = new boolean[n];
+        int deepest = 0;
+        for (int i = 0; i < count; i++) {
+            int v = order[i];
+            int p = parent[v];
+            if (p >= 0 && !placed[p])
+                throw new IllegalArgumentException("Error while creating a new ForestPathMax: Vertex " + v + " comes before its parent " + p + " in the order!");
+            depth[v] = p < 0 ? 0 : depth[p] + 1;
+            root[v] = p < 0 ? v : root[p];
+            placed[v] = true;
+            deepest = Math.max(deepest, depth[v]);
+        }
+        
+        int levels = 1;
+        while ((1 << levels) <= deepest)
+            levels++;
+        up = new int[levels][n];
+        max = new float[levels][n];
+        for (int v = 0; v < n; v++) {
+            up[0][v] = parent[v] < 0 ? v : parent[v];
+            max[0][v] = parent[v] < 0 ? Float.NEGATIVE_INFINITY : cost[v];
+        }
+        for (int j = 1; j < levels; j++)
+            for (int v = 0; v < n; v++) {
+                int middle = up[j - 1][v];
+                up[j][v] = up[j - 1][middle];
+                max[j][v] = Math.max(max[j - 1][v], max[j - 1][middle]);
+            }
+    }
+    
+    /** connected returns whether the passed-in vertices are in the same tree.
+     * 
+     * @param u The first vertex.
+     * @param v The second vertex.
+     * @return True if u and v are in the same tree.
+     */
+    boolean connected(int u, int v) {
+        return root[u] == root[v];
+    }
+    
+    /** pathMax returns the heaviest edge weight on the tree path between the passed-in vertices.
+     * 
+     * @param u The first vertex.
+     * @param v The second vertex.
+     * @return The heaviest weight on the path, -infinity if u is v, or +infinity if they are in different trees.
+     */
+    float pathMax(int u, int v) {
+        if (root[u] != root[v])
+            return Float.POSITIVE_INFINITY;
+        
+        float result = Float.NEGATIVE_INFINITY;
+        if (depth[u] < depth[v]) {
+            int temp = u;
+            u = v;
+            v = temp;
+        }
+        // Lift u to the depth of v...
+        for (int j = up.length - 1, gap = depth[u] - depth[v]; j >= 0; j--)
+            if ((gap >> j & 1) != 0) {
+                result = Math.max(result, max[j][u]);
+                u = up[j][u];
+            }
+        if (u == v)
+            return result;
+        // ...and then both to just below their lowest common ancestor.
+        for (int j = up.length - 1; j >= 0; j--)
+            if (up[j][u] != up[j][v]) {
+                result = Math.max(result, Math.max(max[j][u], max[j][v]));
+                u = up[j][u];
+                v = up[j][v];
+            }
+        return Math.max(result, Math.max(max[0][u], max[0][v]));
+    }
+    
+    /** depth returns the number of edges from the passed-in vertex up to the root of its tree.
+     * 
+     * @param v The vertex.
+     * @return The depth of v.
+     */
+    int depth(int v) {
+        return depth[v];
+    }
+}
\ No newline at end of file
@@ -0,0 +1,217 @@
+/* Author:     Ryan McAllister-Grum
+ * UIN:        661880584
+ * Class:      20FA - Algorithms & Computation (20FA-OL-CSC482A-15037)
+ * Assignment: 3 (Implement Prim's Algorithm)
+ */
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/** GLCache is a process-wide cache of the Graphs parsed by GLParser. Entries
+ *  are keyed by a .gl file's canonical path, length and last-modified time,
+ *  so an edited file is never served from the cache. Cached Graphs are frozen
+ *  because every GLParser that hits the same entry shares the same Graph;
+ *  freezing also locks the setters of the Graph's Vertex and Edge objects.
+ *  Once the estimated size of all entries exceeds the memory budget, the
+ *  least-recently-used entries are evicted.
+ */
+public final class GLCache {
+    /** The default memory budget is a quarter of the maximum heap size.
+     */
+    static final long DEFAULT_MEMORY_BUDGET = Runtime.getRuntime().maxMemory() / 4;
+    
+    /** entries holds the cached Graphs in least-recently-used order.
+     */
+    private static final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    /** memoryBudget is the maximum estimated number of bytes the cached Graphs may use.
+     */
+    private static long memoryBudget = DEFAULT_MEMORY_BUDGET;
+    /** usedMemory is the estimated number of bytes used by the cached Graphs.
+     */
+    private static long usedMemory = 0;
+    
+    /** Key identifies one version of a .gl file.
+     */
+    static final class Key {
+        /** The canonical path of the .gl file.
+         */
+        final String path;
+        /** The length of the .gl file in bytes.
+         */
+        final long length;
+        /** The last-modified time of the .gl file.
+         */
+        final long lastModified;
+        /** Whether parallel edges were collapsed while parsing the .gl file.
+         */
+        final boolean collapsed;
+        
+        /** Constructor that creates a new Key for the passed-in file's current version.
+         * 
+         * @param file The .gl file to create a Key for.
+         * @param newCollapsed Whether parallel edges are collapsed while parsing the file.
+         * @throws IOException If the file's canonical path cannot be resolved.
+         */
+        Key(File file, boolean newCollapsed) throws IOException {
+            path = file.getCanonicalPath();
+            length = file.length();
+            lastModified = file.lastModified();
+            collapsed = newCollapsed;
+        }
+        
+        @Override
+        public boolean equals(Object o) {
+            if (o == this)
+                return true;
+            else if (!(o instanceof Key))
+                return false;
+            
+            Key key = (Key) o;
+            return length == key.length && lastModified == key.lastModified && collapsed == key.collapsed && path.equals(key.path);
+        }
+        
+        /** hashCode returns the combined hash code of this Key's attributes.
+         * 
+         * @return The hash code of this Key.
+         */
+        @Override
+        public int hashCode() {
+            return path.hashCode() * 31 + Long.hashCode(length) * 17 + Long.hashCode(lastModified) + (collapsed ? 1 : 0);
+        }
+    }
+    
+    /** Entry holds a cached, frozen Graph along with the heading flags GLParser reports.
+     */
+    static final class Entry {
+        /** The frozen Graph parsed from the .gl file.
+         */
+        final Graph<String> graph;
+        /** Whether the Graph is directed.
+         */
+        final boolean directed;
+        /** Whether the Graph is weighted.
+         */
+        final boolean weighted;
+        /** The estimated number of bytes used by the Graph.
+         */
+        final long bytes;
+        
+        /** Constructor that creates a new Entry for the passed-in frozen Graph.
+         * 
+         * @param newGraph The frozen Graph to cache.
+         * @param newDirected Whether newGraph is directed.
+         * @param newWeighted Whether newGraph is weighted.
+         */
+        Entry(Graph<String> newGraph, boolean newDirected, boolean newWeighted) {
+            graph = newGraph;
+            directed = newDirected;
+            weighted = newWeighted;
+            bytes = estimateBytes(newGraph);
+        }
+    }
+    
+    /** GLCache only has static members.
+     */
+    private GLCache() {
+    }
+    
+    /** get returns the cached Entry for the passed-in Key, or null if there is none.
+     * 
+     * @param key The Key of the .gl file to look up.
+     * @return The cached Entry, or null on a miss.
+     */
+    static synchronized Entry get(Key key) {
+        return entries.get(key);
+    }
+    
+    /** put caches the passed-in Entry, replacing any older version of the same
+     *  file, and then evicts least-recently-used entries until the cache fits
+     *  in its memory budget. An Entry larger than the whole budget is not cached.
+     * 
+     * @param key The Key of the parsed .gl file.
+     * @param entry The Entry to cache.
+     */
+    static synchronized void put(Key key, Entry entry) {
+        // Drop stale versions of this file.
+        for (Iterator<Map.Entry<Key, Entry>> it = entries.entrySet().iterator(); it.hasNext(); ) {
+            Map.Entry<Key, Entry> cached = it.next();
+            if (cached.getKey().path.equals(key.path) && cached.getKey().collapsed == key.collapsed) {
+                usedMemory -= cached.getValue().bytes;
+                it.remove();
+            }
+        }
+        
+        if (entry.bytes > memoryBudget)
+            return;
+        
+        entries.put(key, entry);
+        usedMemory += entry.bytes;
+        evict();
+    }
+    
+    /** evict removes least-recently-used entries until the cache fits in its memory budget.
+     */
+    private static void evict() {
+        for (Iterator<Entry> it = entries.values().iterator(); usedMemory > memoryBudget && it.hasNext(); ) {
+            usedMemory -= it.next().bytes;
+            it.remove();
+        }
+    }
+    
+    /** estimateBytes estimates the number of bytes used by the passed-in Graph.
+     * 
+     * @param graph The Graph to estimate.
+     * @return The estimated size of the Graph in bytes.
+     */
+    static long estimateBytes(Graph<?> graph) {
+        return MemoryFootprint.graphBytes(graph);
+    }
+    
+    /** setMemoryBudget sets the maximum estimated number of bytes the cached
+     *  Graphs may use, evicting entries if they no longer fit.
+     * 
+     * @param bytes The new memory budget in bytes.
+     * @throws IllegalArgumentException If the bytes parameter is negative.
+     */
+    public static synchronized void setMemoryBudget(long bytes) throws IllegalArgumentException {
+        if (bytes < 0)
+            throw new IllegalArgumentException("Error while executing setMemoryBudget(long) in GLCache: The bytes parameter (" + bytes + ") is negative!");
+        
+        memoryBudget = bytes;
+        evict();
+    }
+    
+    /** getMemoryBudget returns the maximum estimated number of bytes the cached Graphs may use.
+     * 
+     * @return The memoryBudget attribute.
+     */
+    public static synchronized long getMemoryBudget() {
+        return memoryBudget;
+    }
+    
+    /** getUsedMemory returns the estimated number of bytes used by the cached Graphs.
+     * 
+     * @return The usedMemory attribute.
+     */
+    public static synchronized long getUsedMemory() {
+        return usedMemory;
+    }
+    
+    /** size returns the number of cached Graphs.
+     * 
+     * @return The number of entries in the cache.
+     */
+    public static synchronized int size() {
+        return entries.size();
+    }
+    
+    /** clear removes every cached Graph.
+     */
+    public static synchronized void clear() {
+        entries.clear();
+        usedMemory = 0;
+    }
+}
\ No newline at end of file
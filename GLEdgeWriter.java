@@ -0,0 +1,82 @@
+/* Author:     Ryan McAllister-Grum
+ * UIN:        661880584
+ * Class:      20FA - Algorithms & Computation (20FA-OL-CSC482A-15037)
+ * Assignment: 3 (Implement Prim's Algorithm)
+ */
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+
+/** GLEdgeWriter is an MSTEdgeConsumer that writes each tree edge to a .gl
+ *  file as soon as it is received, using the same heading and line format as
+ *  Prim.save. Unlike Prim.save, the edges are written in the order they are
+ *  found instead of sorted root-first, so nothing has to be held in memory.
+ */
+public class GLEdgeWriter implements MSTEdgeConsumer, Closeable {
+    /** The writer the .gl lines are written to.
+     */
+    private final Writer writer;
+    /** index maps the received vertex indexes to their items.
+     */
+    private final VertexIndex<?> index;
+    /** edges counts the tree edges written so far.
+     */
+    private long edges;
+    
+    /** Constructor that creates the passed-in .gl file and writes its heading.
+     * 
+     * @param filePath The .gl file to write the tree edges to.
+     * @param newIndex The VertexIndex that maps the received vertex indexes to their items.
+     * @throws IllegalArgumentException If either parameter is null.
+     * @throws IOException If there is an issue creating the file.
+     */
+    public GLEdgeWriter(String filePath, VertexIndex<?> newIndex) throws IllegalArgumentException, IOException {
+        if (filePath == null)
+            throw new IllegalArgumentException("Error while constructing a new GLEdgeWriter(String, VertexIndex<?>): The filePath parameter is null!");
+        else if (newIndex == null)
+            throw new IllegalArgumentException("Error while constructing a new GLEdgeWriter(String, VertexIndex<?>): The newIndex parameter is null!");
+        
+        writer = new BufferedWriter(new FileWriter(filePath));
+        index = newIndex;
+        edges = 0;
+        writer.write(String.format("%s %s%s", "undirected", "weighted", System.lineSeparator()));
+    }
+    
+    /** accept writes one tree edge to the .gl file.
+     * 
+     * @param parent The index of the vertex already in the tree.
+     * @param child The index of the vertex the edge attached to the tree.
+     * @param weight The weight of the edge.
+     * @throws UncheckedIOException If there is an issue writing the file.
+     */
+    @Override
+    public void accept(int parent, int child, float weight) throws UncheckedIOException {
+        try {
+            writer.write(Prim.glLine(index.label(parent), index.label(child), weight));
+            edges++;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error while executing accept(int, int, float) in GLEdgeWriter: Unable to write edge " + index.label(parent) + "=" + index.label(child) + "!", e);
+        }
+    }
+    
+    /** getEdgeCount returns the number of tree edges written so far.
+     * 
+     * @return The edges attribute.
+     */
+    public long getEdgeCount() {
+        return edges;
+    }
+    
+    /** close flushes and closes the .gl file.
+     * 
+     * @throws IOException If there is an issue closing the file.
+     */
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+}
\ No newline at end of file
@@ -8,6 +8,8 @@ import java.io.BufferedReader;
 import java.io.File;
 import java.io.FileReader;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
 
 /** GLParser parses a .gl file and stores it in the appropriate Graph
  *  (held in a Graph superclass for convenience).
@@ -41,21 +43,55 @@ public class GLParser {
      * @throws SecurityException If GLParser is unable to read the file.
      */
     public GLParser(String filePath) throws IllegalArgumentException, IOException, SecurityException {
+        this(filePath, false);
+    }
+    
+    /** Constructor that takes in a .gl file and, if useCache is true, first
+     *  consults the process-wide GLCache for an unchanged copy of the file's
+     *  Graph. On a cache hit the shared, frozen Graph is returned without
+     *  reading the file; on a miss the file is parsed and, if useCache is
+     *  true, its frozen Graph is added to the cache.
+     * 
+     * @param filePath The .gl file to parse and load into a Graph.
+     * @param useCache Whether to look up and store the Graph in the GLCache.
+     * @throws IllegalArgumentException If the filePath is null, empty,
+     * or is not a .gl file.
+     * @throws IOException If there is an issue reading the .gl file.
+     * @throws SecurityException If GLParser is unable to read the file.
+     */
+    public GLParser(String filePath, boolean useCache) throws IllegalArgumentException, IOException, SecurityException {
+        this(filePath, useCache, false);
+    }
+    
+    /** Constructor that takes in a .gl file, optionally served from the
+     *  GLCache, and, if collapseParallelEdges is true, keeps only the cheapest
+     *  of several weighted edges between the same pair of vertices. Without
+     *  collapsing, the first edge listed between two vertices is kept.
+     * 
+     * @param filePath The .gl file to parse and load into a Graph.
+     * @param useCache Whether to look up and store the Graph in the GLCache.
+     * @param collapseParallelEdges Whether parallel weighted edges collapse to the cheapest one.
+     * @throws IllegalArgumentException If the filePath is null, empty,
+     * or is not a .gl file.
+     * @throws IOException If there is an issue reading the .gl file.
+     * @throws SecurityException If GLParser is unable to read the file.
+     */
+    public GLParser(String filePath, boolean useCache, boolean collapseParallelEdges) throws IllegalArgumentException, IOException, SecurityException {
         // First check that filePath is not null.
         if (filePath == null)
-            throw new IllegalArgumentException("Error while constructing a new GLParser(String): The filePath parameter is null!");
+            throw new IllegalArgumentException("Error while constructing a new GLParser(String, boolean, boolean): The filePath parameter is null!");
         else if (filePath.isEmpty())
-            throw new IllegalArgumentException("Error while constructing a new GLParser(String): The filePath parameter is empty!");
+            throw new IllegalArgumentException("Error while constructing a new GLParser(String, boolean, boolean): The filePath parameter is empty!");
         else if (filePath.isBlank())
-            throw new IllegalArgumentException("Error while constructing a new GLParser(String): The filePath parameter is only spaces!");
+            throw new IllegalArgumentException("Error while constructing a new GLParser(String, boolean, boolean): The filePath parameter is only spaces!");
         
         // Create a new File object to further verify that filePath is actually a .gl file.
         File file = new File(filePath);
         
         if (!file.canRead())
-            throw new SecurityException("Error while constructing a new GLParser(String): The filePath parameter \"" + filePath + "\" cannot be opened for reading!");
+            throw new SecurityException("Error while constructing a new GLParser(String, boolean, boolean): The filePath parameter \"" + filePath + "\" cannot be opened for reading!");
         else if (file.isDirectory())
-            throw new IllegalArgumentException("Error while constructing a new GLParser(String): The filePath parameter \"" + filePath + "\" is a directory, not a .gl file!");
+            throw new IllegalArgumentException("Error while constructing a new GLParser(String, boolean, boolean): The filePath parameter \"" + filePath + "\" is a directory, not a .gl file!");
         else if (file.isFile()) { // Verify that filePath is actually a .gl file.
             String extension = "";
             int i = filePath.lastIndexOf(".");
@@ -63,8 +99,43 @@ public class GLParser {
                 extension = filePath.substring(filePath.lastIndexOf(".") + 1);
             
             if (!extension.toLowerCase().equals("gl"))
-                throw new IllegalArgumentException("Error while constructing a new GLParser(String): The filePath parameter \"" + filePath + "\" is not a .gl file!");
+                throw new IllegalArgumentException("Error while constructing a new GLParser(String, boolean, boolean): The filePath parameter \"" + filePath + "\" is not a .gl file!");
+        }
+        
+        // Return the shared Graph if this version of the file has already been parsed.
+        GLCache.Key key = null;
+        if (useCache) {
+            key = new GLCache.Key(file, collapseParallelEdges);
+            GLCache.Entry entry = GLCache.get(key);
+            if (entry != null) {
+                graph = entry.graph;
+                directed = entry.directed;
+                weighted = entry.weighted;
+                return;
+            }
+        }
+        
+        parse(file, collapseParallelEdges);
+        
+        if (useCache) {
+            graph.freeze();
+            GLCache.put(key, new GLCache.Entry(graph, directed, weighted));
         }
+    }
+    
+    /** parse reads the passed-in .gl file line-by-line into a new Graph.
+     *  When collapsing parallel edges of a weighted graph, the edges are first
+     *  gathered into a PairWeightMap keyed by vertex index, and only the
+     *  cheapest edge of each pair is then added to the Graph.
+     * 
+     * @param file The .gl file to parse.
+     * @param collapseParallelEdges Whether parallel weighted edges collapse to the cheapest one.
+     * @throws IOException If there is an issue reading the .gl file.
+     */
+    private void parse(File file, boolean collapseParallelEdges) throws IOException {
+        PairWeightMap pairs = null; // pairs holds the cheapest edge of each vertex pair when collapsing.
+        HashMap<String, Integer> ids = new HashMap<>(); // ids maps each vertex name to its index in pairs.
+        ArrayList<Vertex<String>> vertices = new ArrayList<>();
         
         // Read the .gl file line-by-line.
         try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
@@ -83,11 +154,16 @@ public class GLParser {
                     else if (!directed & !weighted)
                         graph = new UndirectedUnweightedGraph<>();
                     
+                    if (collapseParallelEdges & weighted)
+                        pairs = new PairWeightMap(!directed);
+                    
                     firstLine = false;
                 } else if (!line.isEmpty() && !line.isBlank()) { // Read the Vertices and Edges into the Graph.
                     String[] lines = line.split("=");
                     
-                    if (directed & weighted)
+                    if (pairs != null) // Only remember the cheapest edge per pair for now.
+                        pairs.putMin(idOf(lines[0], ids, vertices), idOf(lines[1], ids, vertices), Float.parseFloat(lines[2]));
+                    else if (directed & weighted)
                         ((DirectedWeightedGraph<String, Float>)(graph)).addEdge(
                             ( // Get existing Vertex, if it exists, else add a new one.
                                 graph.getVertices().contains(new Vertex<>(lines[0])) ?
@@ -140,9 +216,36 @@ public class GLParser {
             }
         }
         
+        // Add the cheapest edge of each vertex pair.
+        if (pairs != null)
+            for (int i = 0; i < pairs.size(); i++)
+                if (directed)
+                    ((DirectedWeightedGraph<String, Float>)(graph)).addEdge(vertices.get(pairs.from(i)), vertices.get(pairs.to(i)), pairs.weight(i));
+                else
+                    ((UndirectedWeightedGraph<String, Float>)(graph)).addEdge(vertices.get(pairs.from(i)), vertices.get(pairs.to(i)), pairs.weight(i));
     }
-
-    /** getGraph returns the Graph stored in this GLParser.
+    
+    /** idOf returns the index of the Vertex with the passed-in name, creating
+     *  the Vertex if this is the first time the name is seen.
+     * 
+     * @param name The name of the Vertex.
+     * @param ids The index of each Vertex name seen so far.
+     * @param vertices The Vertexes seen so far, by index.
+     * @return The index of the Vertex with the passed-in name.
+     */
+    private static int idOf(String name, HashMap<String, Integer> ids, ArrayList<Vertex<String>> vertices) {
+        Integer id = ids.get(name);
+        if (id == null) {
+            id = vertices.size();
+            ids.put(name, id);
+            vertices.add(new Vertex<>(name));
+        }
+        return id;
+    }
+    
+    /** getGraph returns the Graph stored in this GLParser. If this GLParser
+     *  was served from the GLCache, the Graph is frozen and shared, so neither
+     *  it nor its Vertex and Edge objects can be modified.
      * 
      * @return The graph attribute.
      */
@@ -4,6 +4,9 @@
  * Assignment: 3 (Implement Prim's Algorithm)
  */
 
+import java.util.Collections;
+import java.util.Map;
+import java.util.NavigableSet;
 import java.util.TreeMap;
 import java.util.TreeSet;
 
@@ -16,16 +19,23 @@ public class Graph<K extends Comparable<? super K>> {
     /** graph holds the mappings between this Graph's Vertices and Edges.
      */
     TreeMap<Vertex<K>, TreeSet<Edge>> graph;
+    /** frozen indicates that this Graph may no longer be modified, which is
+     *  the case for Graphs shared through the GLCache.
+     */
+    boolean frozen;
     
     /** addVertex adds a new Vertex to this graph with an empty Edge list.
      * 
      * @param vertex The new Vertex to add to this graph.
      * @throws IllegalArgumentException If vertex parameter is null.
+     * @throws IllegalStateException If this Graph is frozen.
      */
-    public void addVertex(Vertex<K> vertex) throws IllegalArgumentException {
+    public void addVertex(Vertex<K> vertex) throws IllegalArgumentException, IllegalStateException {
         // First check that the vertex parameter is not null.
         if (vertex == null)
             throw new IllegalArgumentException("Error while executing addVertex(Vertex<K>) in UndirectedUnweightedGraph: The vertex parameter is null!");
+        else if (frozen)
+            throw new IllegalStateException("Error while executing addVertex(Vertex<K>) in Graph for vertex \"" + vertex + "\": The graph is frozen!");
         
         // Add the new Vertex if it does not already exist.
         if (!graph.containsKey(vertex))
@@ -33,18 +43,21 @@ public class Graph<K extends Comparable<? super K>> {
     }
     
     /** getEdges returns a LinkedList of Edge objects associated with the passed-in Vertex.
+     *  If this Graph is frozen, the list is an unmodifiable view.
      * 
      * @param vertex The Vertex whose Edge objects to return in which is a from Vertex.
      * @return A LinkedList of Edge objects associated with this Vertex.
      * @throws IllegalArgumentException If the vertex parameter is null.
      * @throws NullPointerException If the Vertex does not exist in this graph.
      */
-    public TreeSet<Edge> getEdges(Vertex<K> vertex) throws IllegalArgumentException, NullPointerException {
+    public NavigableSet<Edge> getEdges(Vertex<K> vertex) throws IllegalArgumentException, NullPointerException {
         // First check that the vertex parameter is not null and that the Vertex exists in the graph.
         if (vertex == null)
             throw new IllegalArgumentException("Error while executing getEdges(Vertex<K>) in UndirectedUnweightedGraph: The vertex parameter is null!");
         else if (!graph.containsKey(vertex))
             throw new NullPointerException("Error while executing getEdges(Vertex<K>) in UndirectedUnweightedGraph: The vertex does not exist in the graph!");
+        else if (frozen)
+            return Collections.unmodifiableNavigableSet(graph.get(vertex)); // A shared Graph's Edges cannot be changed through the view.
         else
             return graph.get(vertex); // Return the list of Edges associated with this Vertex.
     }
@@ -56,4 +69,27 @@ public class Graph<K extends Comparable<? super K>> {
     public TreeSet<Vertex<K>> getVertices() {
         return new TreeSet<>(graph.keySet());
     }
+    
+    /** freeze marks this Graph as immutable; any further attempt to add a
+     *  Vertex or an edge, or to change one of its Vertexes or Edges through
+     *  their setters, throws an IllegalStateException.
+     */
+    public void freeze() {
+        frozen = true;
+        for (Map.Entry<Vertex<K>, TreeSet<Edge>> entry : graph.entrySet()) {
+            entry.getKey().frozen = true;
+            for (Edge edge : entry.getValue()) {
+                edge.frozen = true;
+                edge.getTo().frozen = true;
+            }
+        }
+    }
+    
+    /** isFrozen returns whether this Graph has been frozen.
+     * 
+     * @return True if this Graph can no longer be modified.
+     */
+    public boolean isFrozen() {
+        return frozen;
+    }
 }
\ No newline at end of file
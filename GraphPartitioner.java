@@ -0,0 +1,60 @@
+/* Author:     Ryan McAllister-Grum
+ * UIN:        661880584
+ * Class:      20FA - Algorithms & Computation (20FA-OL-CSC482A-15037)
+ * Assignment: 3 (Implement Prim's Algorithm)
+ */
+
+/** GraphPartitioner splits the vertices of a FloatGraph into parts for
+ *  PartitionedMST. Each part is a contiguous range of vertex indexes holding
+ *  about the same number of edge endpoints, so the workers get similar
+ *  amounts of work. Contiguous ranges keep neighbors together when the graph
+ *  was frozen with a locality ordering such as
+ *  VertexOrdering.REVERSE_CUTHILL_MCKEE, which keeps the cut small.
+ */
+public class GraphPartitioner {
+    /** partition returns the part of each vertex of the passed-in graph.
+     * 
+     * @param graph The graph whose vertices to split.
+     * @param parts The number of parts.
+     * @return The part, from 0 to parts - 1, of each vertex.
+     * @throws IllegalArgumentException If graph is null or parts is not positive.
+     */
+    public static int[] partition(FloatGraph<?> graph, int parts) throws IllegalArgumentException {
+        if (graph == null)
+            throw new IllegalArgumentException("Error while executing partition(FloatGraph<?>, int) in GraphPartitioner: The graph parameter is null!");
+        else if (parts <= 0)
+            throw new IllegalArgumentException("Error while executing partition(FloatGraph<?>, int) in GraphPartitioner: The parts parameter (" + parts + ") is not positive!");
+        
+        int n = graph.vertexCount();
+        long total = 0;
+        for (int v = 0; v < n; v++)
+            total += graph.degree(v) + 1; // Count the vertex itself too, so isolated vertices are spread out as well.
+        
+        int[] part = new int[n];
+        long seen = 0;
+        for (int v = 0; v < n; v++) {
+            part[v] = (int) Math.min(parts - 1, seen * parts / Math.max(total, 1));
+            seen += graph.degree(v) + 1;
+        }
+        return part;
+    }
+    
+    /** cutEdges returns the number of edges of the passed-in graph whose endpoints are in different parts.
+     * 
+     * @param graph The partitioned graph.
+     * @param part The part of each vertex.
+     * @return The number of cut edges.
+     */
+    public static long cutEdges(FloatGraph<?> graph, int[] part) {
+        int[] targets = new int[graph.maxDegree()];
+        float[] weights = new float[targets.length];
+        long cut = 0;
+        for (int v = 0; v < graph.vertexCount(); v++) {
+            int count = graph.neighbors(v, targets, weights);
+            for (int i = 0; i < count; i++)
+                if (part[targets[i]] != part[v])
+                    cut++;
+        }
+        return graph.isDirected() ? cut : cut / 2;
+    }
+}
\ No newline at end of file
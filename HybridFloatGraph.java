@@ -0,0 +1,287 @@
+/* Author:     Ryan McAllister-Grum
+ * UIN:        661880584
+ * Class:      20FA - Algorithms & Computation (20FA-OL-CSC482A-15037)
+ * Assignment: 3 (Implement Prim's Algorithm)
+ */
+
+/** HybridFloatGraph is an immutable copy of a FloatGraph laid out for
+ *  skewed, power-law degree distributions. Vertices with fewer than
+ *  hubDegree neighbors are packed back to back in one pair of target and
+ *  weight arrays, as in a FloatCSRGraph, with their neighbors in the order
+ *  the source graph lists them. Each hub (a vertex with at least hubDegree
+ *  neighbors) gets its own pair of arrays instead, sorted by weight, so its
+ *  cheapest edge is its first entry and the neighbors up to a weight bound
+ *  are a prefix found by binary search. A hub's list is never copied into
+ *  or moved around the shared arrays, which stay small.
+ * 
+ * @param <K> The type stored in this graph's vertices.
+ */
+public class HybridFloatGraph<K extends Comparable<? super K>> implements SortedFloatGraph<K> {
+    /** DEFAULT_HUB_DEGREE is the degree from which a vertex is a hub unless told otherwise.
+     */
+    public static final int DEFAULT_HUB_DEGREE = 256;
+    
+    /** index maps vertex indexes to the items stored in the original Vertexes.
+     */
+    private final VertexIndex<K> index;
+    /** offsets holds, for each vertex, where its neighbors start in targets and weights; a hub's range is empty.
+     */
+    private final int[] offsets;
+    /** targets holds the neighbor indexes of every vertex that is not a hub, back to back.
+     */
+    private final int[] targets;
+    /** weights holds the weight of the edge leading to each entry of targets.
+     */
+    private final float[] weights;
+    /** hub holds each vertex's hub number, or -1 if it is not a hub.
+     */
+    private final int[] hub;
+    /** hubTargets holds the neighbor indexes of every hub, sorted by edge weight.
+     */
+    private final int[][] hubTargets;
+    /** hubWeights holds the edge weights of every hub, in ascending order.
+     */
+    private final float[][] hubWeights;
+    /** edges is the number of edges in this graph.
+     */
+    private final long edges;
+    /** maxDegree is the largest degree of any vertex in this graph.
+     */
+    private final int maxDegree;
+    /** directed indicates whether each edge is listed only at its from vertex.
+     */
+    private final boolean directed;
+    
+    /** Constructor that copies the passed-in graph, making every vertex with
+     *  at least DEFAULT_HUB_DEGREE neighbors a hub.
+     * 
+     * @param graph The graph to copy.
+     * @throws IllegalArgumentException If the graph parameter is null.
+     */
+    public HybridFloatGraph(FloatGraph<K> graph) throws IllegalArgumentException {
+        this(graph, DEFAULT_HUB_DEGREE);
+    }
+    
+    /** Constructor that copies the passed-in graph, making every vertex with
+     *  at least hubDegree neighbors a hub. Each hub's list is sorted by weight
+     *  with FloatRadixSort, which splits large lists across the common ForkJoinPool.
+     * 
+     * @param graph The graph to copy.
+     * @param hubDegree The fewest neighbors a hub has.
+     * @throws IllegalArgumentException If the graph parameter is null or hubDegree is not positive.
+     */
+    public HybridFloatGraph(FloatGraph<K> graph, int hubDegree) throws IllegalArgumentException {
+        if (graph == null)
+            throw new IllegalArgumentException("Error while creating a new HybridFloatGraph: The graph parameter is null!");
+        else if (hubDegree <= 0)
+            throw new IllegalArgumentException("Error while creating a new HybridFloatGraph: The hubDegree parameter (" + hubDegree + ") is not positive!");
+        
+        int n = graph.vertexCount();
+        index = graph.getIndex();
+        directed = graph.isDirected();
+        edges = graph.edgeCount();
+        
+        // Number the hubs, and lay out the offsets of everyone else.
+        hub = new int[n];
+        offsets = new int[n + 1];
+        int hubs = 0, max = 0;
+        for (int v = 0; v < n; v++) {
+            int degree = graph.degree(v);
+            max = Math.max(max, degree);
+            hub[v] = degree >= hubDegree ? hubs++ : -1;
+            offsets[v + 1] = offsets[v] + (hub[v] >= 0 ? 0 : degree);
+        }
+        maxDegree = max;
+        
+        targets = new int[offsets[n]];
+        weights = new float[offsets[n]];
+        hubTargets = new int[hubs][];
+        hubWeights = new float[hubs][];
+        int[] bufferTargets = new int[max];
+        float[] bufferWeights = new float[max];
+        int[] scratch = new int[max];
+        for (int v = 0; v < n; v++) {
+            int count = graph.neighbors(v, bufferTargets, bufferWeights);
+            if (hub[v] < 0) {
+                System.arraycopy(bufferTargets, 0, targets, offsets[v], count);
+                System.arraycopy(bufferWeights, 0, weights, offsets[v], count);
+            } else {
+                int[] sortedTargets = new int[count];
+                float[] sortedWeights = new float[count];
+                System.arraycopy(bufferTargets, 0, sortedTargets, 0, count);
+                System.arraycopy(bufferWeights, 0, sortedWeights, 0, count);
+                FloatRadixSort.sort(sortedWeights, sortedTargets, scratch, count);
+                hubTargets[hub[v]] = sortedTargets;
+                hubWeights[hub[v]] = sortedWeights;
+            }
+        }
+    }
+    
+    /** vertexCount returns the number of vertices in this graph.
+     * 
+     * @return The number of vertices.
+     */
+    @Override
+    public int vertexCount() {
+        return index.size();
+    }
+    
+    /** edgeCount returns the number of edges in this graph; an undirected
+     *  edge is counted once even though both of its endpoints list it.
+     * 
+     * @return The edges attribute.
+     */
+    @Override
+    public long edgeCount() {
+        return edges;
+    }
+    
+    /** isDirected returns whether this graph is directed.
+     * 
+     * @return The directed attribute.
+     */
+    @Override
+    public boolean isDirected() {
+        return directed;
+    }
+    
+    /** degree returns the number of neighbors listed for the passed-in vertex.
+     * 
+     * @param vertex The index of the vertex.
+     * @return The number of neighbors of the vertex.
+     */
+    @Override
+    public int degree(int vertex) {
+        return hub[vertex] >= 0 ? hubTargets[hub[vertex]].length : offsets[vertex + 1] - offsets[vertex];
+    }
+    
+    /** maxDegree returns the largest degree of any vertex in this graph.
+     * 
+     * @return The maxDegree attribute.
+     */
+    @Override
+    public int maxDegree() {
+        return maxDegree;
+    }
+    
+    /** neighbors writes the neighbors of the passed-in vertex and the weights
+     *  of the edges leading to them into the passed-in buffers; a hub's are
+     *  written in ascending order of weight.
+     * 
+     * @param vertex The index of the vertex whose neighbors to write.
+     * @param neighborTargets The buffer to write the neighbor indexes into.
+     * @param neighborWeights The buffer to write the edge weights into.
+     * @return The number of neighbors written.
+     */
+    @Override
+    public int neighbors(int vertex, int[] neighborTargets, float[] neighborWeights) {
+        int h = hub[vertex];
+        if (h >= 0) {
+            int count = hubTargets[h].length;
+            System.arraycopy(hubTargets[h], 0, neighborTargets, 0, count);
+            System.arraycopy(hubWeights[h], 0, neighborWeights, 0, count);
+            return count;
+        }
+        int start = offsets[vertex], count = offsets[vertex + 1] - start;
+        System.arraycopy(targets, start, neighborTargets, 0, count);
+        System.arraycopy(weights, start, neighborWeights, 0, count);
+        return count;
+    }
+    
+    /** neighborsUpTo writes the neighbors of the passed-in vertex whose edges
+     *  weigh at most the passed-in bound. A hub's are the prefix of its sorted
+     *  list before the first heavier edge, found by binary search; any other
+     *  vertex's short list is filtered.
+     * 
+     * @param vertex The index of the vertex whose neighbors to write.
+     * @param bound The largest edge weight to write.
+     * @param neighborTargets The buffer to write the neighbor indexes into.
+     * @param neighborWeights The buffer to write the edge weights into.
+     * @return The number of neighbors written.
+     */
+    @Override
+    public int neighborsUpTo(int vertex, float bound, int[] neighborTargets, float[] neighborWeights) {
+        int h = hub[vertex];
+        if (h >= 0) {
+            float[] sorted = hubWeights[h];
+            int low = 0, high = sorted.length;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (sorted[middle] <= bound)
+                    low = middle + 1;
+                else
+                    high = middle;
+            }
+            System.arraycopy(hubTargets[h], 0, neighborTargets, 0, low);
+            System.arraycopy(sorted, 0, neighborWeights, 0, low);
+            return low;
+        }
+        int count = 0;
+        for (int i = offsets[vertex]; i < offsets[vertex + 1]; i++)
+            if (weights[i] <= bound) {
+                neighborTargets[count] = targets[i];
+                neighborWeights[count++] = weights[i];
+            }
+        return count;
+    }
+    
+    /** cheapestNeighbor returns the neighbor of the passed-in vertex across
+     *  its lightest edge, which is a hub's first entry.
+     * 
+     * @param vertex The index of the vertex.
+     * @return The index of the neighbor, or -1 if the vertex has none.
+     */
+    @Override
+    public int cheapestNeighbor(int vertex) {
+        int h = hub[vertex];
+        if (h >= 0)
+            return hubTargets[h].length > 0 ? hubTargets[h][0] : -1;
+        int best = -1;
+        for (int i = offsets[vertex]; i < offsets[vertex + 1]; i++)
+            if (best < 0 || weights[i] < weights[best])
+                best = i;
+        return best < 0 ? -1 : targets[best];
+    }
+    
+    /** cheapestWeight returns the weight of the passed-in vertex's lightest edge, which is a hub's first entry.
+     * 
+     * @param vertex The index of the vertex.
+     * @return The weight of the edge, or Float.POSITIVE_INFINITY if the vertex has none.
+     */
+    @Override
+    public float cheapestWeight(int vertex) {
+        int h = hub[vertex];
+        if (h >= 0)
+            return hubWeights[h].length > 0 ? hubWeights[h][0] : Float.POSITIVE_INFINITY;
+        float best = Float.POSITIVE_INFINITY;
+        for (int i = offsets[vertex]; i < offsets[vertex + 1]; i++)
+            best = Math.min(best, weights[i]);
+        return best;
+    }
+    
+    /** isHub returns whether the passed-in vertex keeps its own sorted list.
+     * 
+     * @param vertex The index of the vertex.
+     * @return True if the vertex is a hub.
+     */
+    public boolean isHub(int vertex) {
+        return hub[vertex] >= 0;
+    }
+    
+    /** getHubCount returns the number of hubs in this graph.
+     * 
+     * @return The number of vertices with their own sorted list.
+     */
+    public int getHubCount() {
+        return hubTargets.length;
+    }
+    
+    /** getIndex returns the VertexIndex that maps this graph's vertex indexes to their items.
+     * 
+     * @return The index attribute.
+     */
+    @Override
+    public VertexIndex<K> getIndex() {
+        return index;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,189 @@
+/* Author:     Ryan McAllister-Grum
+ * UIN:        661880584
+ * Class:      20FA - Algorithms & Computation (20FA-OL-CSC482A-15037)
+ * Assignment: 3 (Implement Prim's Algorithm)
+ */
+
+/** The IndexedLongMinHeap is a BinaryMinHeap specialized for items that are
+ *  the vertex indexes 0 to capacity - 1 of a compact graph, ordered by a
+ *  primitive long priority value and then by index. Positions are tracked in
+ *  an int array instead of a TreeMap, so no operation boxes or allocates.
+ */
+public class IndexedLongMinHeap {
+    /** heap holds the items in binary heap order starting at index 1.
+     */
+    private final int[] heap;
+    /** position holds the index of each item in heap, or 0 if the item is not in the heap.
+     */
+    private final int[] position;
+    /** value holds the priority value of each item.
+     */
+    private final long[] value;
+    /** size tracks the current number of items in the heap.
+     */
+    private int size;
+    
+    /** Constructor that creates a new IndexedLongMinHeap for the items 0 to newCapacity - 1.
+     * 
+     * @param newCapacity The number of distinct items this heap can hold.
+     * @throws IllegalArgumentException If the newCapacity parameter is less than zero.
+     */
+    public IndexedLongMinHeap(int newCapacity) throws IllegalArgumentException {
+        if (newCapacity < 0)
+            throw new IllegalArgumentException("Error while creating IndexedLongMinHeap: newCapacity parameter (" + newCapacity + ") is less than 0!");
+        
+        heap = new int[newCapacity + 1]; // +1 so that the root is at index 1, as in BinaryMinHeap.
+        position = new int[newCapacity];
+        value = new long[newCapacity];
+        size = 0;
+    }
+    
+    /** less returns whether item a comes before item b, comparing their priority values and then their indexes.
+     * 
+     * @param a The first item.
+     * @param b The second item.
+     * @return True if a should be closer to the root than b.
+     */
+    private boolean less(int a, int b) {
+        return value[a] < value[b] || (value[a] == value[b] && a < b);
+    }
+    
+    /** Heapify_Up shifts the item at the passed-in heap index up until it is in its proper place.
+     * 
+     * @param index The heap index of the item to shift up.
+     */
+    private void Heapify_Up(int index) {
+        int item = heap[index];
+        while (index > 1) {
+            int j = index >>> 1; // j is index's parent.
+            if (!less(item, heap[j]))
+                break;
+            heap[index] = heap[j];
+            position[heap[index]] = index;
+            index = j;
+        }
+        heap[index] = item;
+        position[item] = index;
+    }
+    
+    /** Heapify_Down shifts the item at the passed-in heap index down until it is in its proper place.
+     * 
+     * @param index The heap index of the item to shift down.
+     */
+    private void Heapify_Down(int index) {
+        int item = heap[index];
+        while (2*index <= size) {
+            int j = 2*index; // Bring up the smaller of the two children.
+            if (j < size && less(heap[j + 1], heap[j]))
+                j++;
+            if (!less(heap[j], item))
+                break;
+            heap[index] = heap[j];
+            position[heap[index]] = index;
+            index = j;
+        }
+        heap[index] = item;
+        position[item] = index;
+    }
+    
+    /** Insert adds a new item to the heap with the given priority value, or
+     *  changes its priority value if it is already in the heap.
+     * 
+     * @param item The item to add to the heap.
+     * @param newValue The priority value to set for the item.
+     * @throws IndexOutOfBoundsException If the item is outside of this heap's capacity.
+     */
+    public void Insert(int item, long newValue) throws IndexOutOfBoundsException {
+        if (item < 0 || item >= position.length)
+            throw new IndexOutOfBoundsException("Error while executing Insert(int, long) in IndexedLongMinHeap: item " + item + " is out of bounds (capacity: " + position.length + ")!");
+        
+        if (position[item] != 0)
+            ChangeKey(item, newValue);
+        else {
+            size++;
+            heap[size] = item;
+            value[item] = newValue;
+            Heapify_Up(size);
+        }
+    }
+    
+    /** FindMin returns the item with the minimum value, then index, but does not remove it from the heap.
+     * 
+     * @return The item with the lowest priority value, or -1 if the heap is empty.
+     */
+    public int FindMin() {
+        return size == 0 ? -1 : heap[1];
+    }
+    
+    /** GetValue returns the priority value associated with the passed-in item.
+     *  The value of an item that was extracted is the value it had when it was extracted.
+     * 
+     * @param item The item whose priority value we want to return.
+     * @return The priority value assigned to the passed-in item.
+     */
+    public long GetValue(int item) {
+        return value[item];
+    }
+    
+    /** ExtractMin removes the item with the minimum value, then index, from the heap.
+     * 
+     * @return The item with the lowest priority value, or -1 if the heap is empty.
+     */
+    public int ExtractMin() {
+        if (size == 0)
+            return -1;
+        
+        int result = heap[1];
+        position[result] = 0;
+        heap[1] = heap[size];
+        size--;
+        if (size > 0)
+            Heapify_Down(1);
+        return result;
+    }
+    
+    /** ChangeKey changes the priority value of the given item, and then
+     *  readjusts its position in the heap as appropriate.
+     * 
+     * @param item The item whose priority value we wish to modify.
+     * @param newValue The item's new priority value.
+     * @throws IllegalStateException If the item is not in the heap.
+     */
+    public void ChangeKey(int item, long newValue) throws IllegalStateException {
+        int pos = position[item];
+        if (pos == 0)
+            throw new IllegalStateException("Error while executing ChangeKey(int, long) in IndexedLongMinHeap for item " + item + ", newValue " + newValue + ": The item does not exist!");
+        
+        long oldValue = value[item];
+        value[item] = newValue;
+        if (newValue < oldValue)
+            Heapify_Up(pos);
+        else if (newValue > oldValue)
+            Heapify_Down(pos);
+    }
+    
+    /** contains returns whether the passed-in item is currently in the heap.
+     * 
+     * @param item The item to look for.
+     * @return True if the item is in the heap.
+     */
+    public boolean contains(int item) {
+        return position[item] != 0;
+    }
+    
+    /** size returns the number of items currently in the heap.
+     * 
+     * @return The size attribute.
+     */
+    public int size() {
+        return size;
+    }
+    
+    /** isEmpty checks whether this heap is empty.
+     * 
+     * @return True if this heap is empty.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,156 @@
+/* Author:     Ryan McAllister-Grum
+ * UIN:        661880584
+ * Class:      20FA - Algorithms & Computation (20FA-OL-CSC482A-15037)
+ * Assignment: 3 (Implement Prim's Algorithm)
+ */
+
+import java.util.TreeSet;
+
+/** IntCSRGraph is an immutable, compressed sparse row copy of a weighted
+ *  Graph with primitive int weights. The neighbors of vertex v are
+ *  targets[offsets[v]] to targets[offsets[v + 1] - 1], with the matching
+ *  edge weights at the same positions of weights.
+ * 
+ * @param <K> The type stored in this graph's vertices.
+ */
+public class IntCSRGraph<K extends Comparable<? super K>> {
+    /** index maps vertex indexes to the items stored in the original Vertexes.
+     */
+    final VertexIndex<K> index;
+    /** offsets holds, for each vertex, where its neighbors start in targets and weights.
+     */
+    final int[] offsets;
+    /** targets holds the neighbor indexes of every vertex, back to back.
+     */
+    final int[] targets;
+    /** weights holds the weight of the edge leading to each entry of targets.
+     */
+    final int[] weights;
+    /** directed indicates whether each edge is listed only at its from vertex.
+     */
+    final boolean directed;
+    
+    /** Constructor that creates a new IntCSRGraph from already laid-out arrays.
+     * 
+     * @param newIndex The VertexIndex of the graph.
+     * @param newOffsets The start of each vertex's neighbors (length vertex count + 1).
+     * @param newTargets The neighbor indexes.
+     * @param newWeights The edge weights matching newTargets.
+     * @param newDirected Whether the graph is directed.
+     * @throws IllegalArgumentException If any parameter is null or the arrays do not line up.
+     */
+    IntCSRGraph(VertexIndex<K> newIndex, int[] newOffsets, int[] newTargets, int[] newWeights, boolean newDirected) throws IllegalArgumentException {
+        if (newIndex == null || newOffsets == null || newTargets == null || newWeights == null)
+            throw new IllegalArgumentException("Error while creating a new IntCSRGraph: A parameter is null!");
+        else if (newOffsets.length != newIndex.size() + 1 || newTargets.length != newWeights.length || newOffsets[newIndex.size()] != newTargets.length)
+            throw new IllegalArgumentException("Error while creating a new IntCSRGraph: The offsets, targets and weights arrays do not line up!");
+        
+        index = newIndex;
+        offsets = newOffsets;
+        targets = newTargets;
+        weights = newWeights;
+        directed = newDirected;
+    }
+    
+    /** of creates a new IntCSRGraph from the passed-in weighted Graph, which
+     *  is directed if it is a DirectedWeightedGraph and undirected otherwise.
+     * 
+     * @param <K> The type stored in the graph's vertices.
+     * @param graph The weighted Graph to copy.
+     * @return A compact copy of the graph.
+     * @throws IllegalArgumentException If the graph parameter is null or has an edge without a numerical weight.
+     */
+    public static <K extends Comparable<? super K>> IntCSRGraph<K> of(Graph<K> graph) throws IllegalArgumentException {
+        if (graph == null)
+            throw new IllegalArgumentException("Error while executing of(Graph<K>) in IntCSRGraph: The graph parameter is null!");
+        
+        VertexIndex<K> index = new VertexIndex<>(graph);
+        int n = index.size();
+        int[] offsets = new int[n + 1];
+        int v = 0;
+        for (TreeSet<Edge> list : graph.graph.values()) {
+            offsets[v + 1] = offsets[v] + list.size();
+            v++;
+        }
+        
+        int[] targets = new int[offsets[n]];
+        int[] weights = new int[offsets[n]];
+        int i = 0;
+        for (TreeSet<Edge> list : graph.graph.values())
+            for (Edge edge : list) {
+                targets[i] = index.indexOf((Vertex<K>) edge.getTo());
+                weights[i] = weightOf(edge);
+                i++;
+            }
+        
+        return new IntCSRGraph<>(index, offsets, targets, weights, graph instanceof DirectedWeightedGraph);
+    }
+    
+    /** weightOf returns the weight of the passed-in edge as a primitive int.
+     * 
+     * @param edge The edge whose weight to return.
+     * @return The weight of the edge.
+     * @throws IllegalArgumentException If the edge does not have a numerical weight.
+     */
+    static int weightOf(Edge edge) throws IllegalArgumentException {
+        if (edge instanceof IntWeightedEdge)
+            return ((IntWeightedEdge) edge).getIntWeight();
+        else if (edge instanceof WeightedEdge && ((WeightedEdge) edge).getWeight() instanceof Number)
+            return ((Number) ((WeightedEdge) edge).getWeight()).intValue();
+        else
+            throw new IllegalArgumentException("Error while executing weightOf(Edge) in IntCSRGraph: The edge \"" + edge + "\" does not have a numerical weight!");
+    }
+    
+    /** vertexCount returns the number of vertices in this graph.
+     * 
+     * @return The number of vertices.
+     */
+    public int vertexCount() {
+        return index.size();
+    }
+    
+    /** edgeCount returns the number of edges in this graph; an undirected
+     *  edge is counted once even though both of its endpoints list it.
+     * 
+     * @return The number of edges.
+     */
+    public long edgeCount() {
+        return directed ? targets.length : targets.length / 2;
+    }
+    
+    /** isDirected returns whether this graph is directed.
+     * 
+     * @return The directed attribute.
+     */
+    public boolean isDirected() {
+        return directed;
+    }
+    
+    /** degree returns the number of neighbors listed for the passed-in vertex.
+     * 
+     * @param vertex The index of the vertex.
+     * @return The number of neighbors of the vertex.
+     */
+    public int degree(int vertex) {
+        return offsets[vertex + 1] - offsets[vertex];
+    }
+    
+    /** maxDegree returns the largest degree of any vertex in this graph.
+     * 
+     * @return The largest degree in this graph.
+     */
+    public int maxDegree() {
+        int max = 0;
+        for (int v = 0; v < index.size(); v++)
+            max = Math.max(max, degree(v));
+        return max;
+    }
+    
+    /** getIndex returns the VertexIndex that maps this graph's vertex indexes to their items.
+     * 
+     * @return The index attribute.
+     */
+    public VertexIndex<K> getIndex() {
+        return index;
+    }
+}
\ No newline at end of file
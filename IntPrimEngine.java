@@ -0,0 +1,128 @@
+/* Author:     Ryan McAllister-Grum
+ * UIN:        661880584
+ * Class:      20FA - Algorithms & Computation (20FA-OL-CSC482A-15037)
+ * Assignment: 3 (Implement Prim's Algorithm)
+ */
+
+import java.util.Arrays;
+
+/** IntPrimEngine runs Prim's Algorithm over an IntCSRGraph using only
+ *  primitive arrays: the attachment cost and parent of every vertex are kept
+ *  in int arrays and the queue is an IndexedLongMinHeap (int weights widen
+ *  to long priority values exactly), so the relaxation loop never boxes,
+ *  unboxes or calls Comparable.compareTo. If the graph is disconnected, the
+ *  result is a minimum spanning forest whose extra trees are rooted at their
+ *  lowest-indexed vertex.
+ */
+public class IntPrimEngine {
+    /** The graph whose Minimum Spanning Tree this engine finds.
+     */
+    private final IntCSRGraph<?> graph;
+    /** parent holds the index of the vertex that attached each vertex to the tree, or -1 for a root.
+     */
+    private final int[] parent;
+    /** cost holds the weight of the edge that attached each vertex to the tree.
+     */
+    private final int[] cost;
+    /** order holds the vertex indexes in the order they were extracted from the queue.
+     */
+    private final int[] order;
+    /** extracted is the number of vertices added to the tree so far.
+     */
+    private int extracted;
+    
+    /** Constructor that creates a new IntPrimEngine for the passed-in graph.
+     * 
+     * @param newGraph The graph whose Minimum Spanning Tree to find.
+     * @throws IllegalArgumentException If the newGraph parameter is null.
+     */
+    public IntPrimEngine(IntCSRGraph<?> newGraph) throws IllegalArgumentException {
+        if (newGraph == null)
+            throw new IllegalArgumentException("Error while creating a new IntPrimEngine: The newGraph parameter is null!");
+        
+        graph = newGraph;
+        int n = graph.vertexCount();
+        parent = new int[n];
+        cost = new int[n];
+        order = new int[n];
+    }
+    
+    /** ExecutePrim finds the Minimum Spanning Tree (or forest) of this engine's
+     *  graph starting from the passed-in root. Each extracted vertex's
+     *  neighbors are relaxed with the weight of the connecting edge alone.
+     * 
+     * @param root The index of the root vertex, or -1 to start from vertex 0.
+     */
+    public void ExecutePrim(int root) {
+        int n = graph.vertexCount();
+        IndexedLongMinHeap queue = new IndexedLongMinHeap(n);
+        boolean[] inTree = new boolean[n];
+        Arrays.fill(parent, -1);
+        Arrays.fill(cost, Integer.MAX_VALUE);
+        extracted = 0;
+        
+        if (root >= 0) {
+            cost[root] = 0;
+            queue.Insert(root, 0);
+        }
+        
+        int[] offsets = graph.offsets, targets = graph.targets;
+        int[] weights = graph.weights;
+        int next = 0; // next is the lowest index that may still be outside the tree.
+        while (extracted < n) {
+            if (queue.isEmpty()) { // Start a new tree at the lowest-indexed remaining vertex.
+                while (inTree[next])
+                    next++;
+                queue.Insert(next, cost[next]);
+            }
+            
+            int vertex = queue.ExtractMin();
+            inTree[vertex] = true;
+            order[extracted++] = vertex;
+            
+            // Go through each adjacent vertex and see whether it is affected by the extraction.
+            for (int i = offsets[vertex]; i < offsets[vertex + 1]; i++) {
+                int to = targets[i];
+                int weight = weights[i];
+                if (!inTree[to] && (weight < cost[to] || parent[to] < 0)) { // A vertex with no parent yet has not been reached.
+                    cost[to] = weight;
+                    parent[to] = vertex;
+                    queue.Insert(to, weight);
+                }
+            }
+        }
+    }
+    
+    /** getParent returns the parent index of each vertex, or -1 for the root of each tree.
+     * 
+     * @return The parent attribute.
+     */
+    public int[] getParent() {
+        return parent;
+    }
+    
+    /** getCost returns the weight of the edge that attached each vertex to the tree.
+     * 
+     * @return The cost attribute.
+     */
+    public int[] getCost() {
+        return cost;
+    }
+    
+    /** getOrder returns the vertex indexes in the order they were added to the tree;
+     *  only the first getExtracted() entries are meaningful.
+     * 
+     * @return The order attribute.
+     */
+    public int[] getOrder() {
+        return order;
+    }
+    
+    /** getExtracted returns the number of vertices added to the tree.
+     * 
+     * @return The extracted attribute.
+     */
+    public int getExtracted() {
+        return extracted;
+    }
+}
\ No newline at end of file
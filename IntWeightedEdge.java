@@ -0,0 +1,125 @@
+/* Author:     Ryan McAllister-Grum
+ * UIN:        661880584
+ * Class:      20FA - Algorithms & Computation (20FA-OL-CSC482A-15037)
+ * Assignment: 3 (Implement Prim's Algorithm)
+ */
+
+/** The IntWeightedEdge is a WeightedEdge specialized for primitive int weights.
+ *  It stores its weight unboxed and compares weights with Integer.compare, so it
+ *  can replace a WeightedEdge{@literal <}Integer{@literal >} anywhere without a boxed weight per edge.
+ */
+public class IntWeightedEdge extends WeightedEdge<Integer> {
+    /** The primitive weight value assigned to this IntWeightedEdge.
+     */
+    int intWeight;
+    
+    /** Constructor that creates a new IntWeightedEdge using the passed-in
+     *  destination Vertex and edge cost.
+     * 
+     * @param to The destination Vertex of this IntWeightedEdge.
+     * @param newWeight The new weight value/cost to assign to this
+     * IntWeightedEdge.
+     */
+    public IntWeightedEdge(Vertex to, int newWeight) {
+        super(to, null);
+        intWeight = newWeight;
+    }
+    
+    /** getIntWeight returns the primitive cost of this IntWeightedEdge.
+     * 
+     * @return The intWeight attribute of this IntWeightedEdge.
+     */
+    public int getIntWeight() {
+        return intWeight;
+    }
+    
+    /** getWeight returns the boxed cost of this IntWeightedEdge; prefer
+     *  getIntWeight in hot loops.
+     * 
+     * @return The intWeight attribute of this IntWeightedEdge, boxed.
+     */
+    @Override
+    public Integer getWeight() {
+        return intWeight;
+    }
+    
+    /** setWeight sets a new edge cost to this IntWeightedEdge.
+     * 
+     * @param newWeight The new edge cost to set to this IntWeightedEdge.
+     * @throws IllegalArgumentException If the newWeight parameter is null.
+     * @throws IllegalStateException If this IntWeightedEdge belongs to a frozen Graph.
+     */
+    @Override
+    public void setWeight(Integer newWeight) throws IllegalArgumentException, IllegalStateException {
+        if (newWeight == null)
+            throw new IllegalArgumentException("Error while executing setWeight(Integer) in IntWeightedEdge: The newWeight parameter is null!");
+        else if (frozen)
+            throw new IllegalStateException("Error while executing setWeight(Integer) in IntWeightedEdge: The edge belongs to a frozen graph!");
+        
+        intWeight = newWeight;
+    }
+    
+    /** equals compares this IntWeightedEdge with the passed-in Object for
+     *  equality; in particular, it compares their weight, and then their
+     *  destination Vertex, for equality.
+     * 
+     * @param o The Object to compare to this IntWeightedEdge.
+     * @return True if this IntWeightedEdge equals the passed-in Object.
+     * @throws IllegalArgumentException If the passed-in Object is not a
+     * IntWeightedEdge or is null.
+     */
+    @Override
+    public boolean equals(Object o) throws IllegalArgumentException {
+        if (o == this)
+            return true;
+        else if (o == null)
+            throw new IllegalArgumentException("Error while executing equals(Object) in IntWeightedEdge: The o parameter is null!");
+        else if (o.getClass() != getClass())
+            throw new IllegalArgumentException("Error while executing equals(Object) in IntWeightedEdge: Cannot compare a IntWeightedEdge to a " + o.getClass() + "!");
+        
+        IntWeightedEdge edge = (IntWeightedEdge) o;
+        return Integer.compare(intWeight, edge.getIntWeight()) == 0 && getTo().equals(edge.getTo());
+    }
+    
+    /** hashCode returns the combined hashCode value of this IntWeightedEdge's weight
+     *  and destination Vertex.
+     * 
+     * @return The combined hashCode of this IntWeightedEdge's weight and to Vertex.
+     */
+    @Override
+    public int hashCode() {
+        return Integer.hashCode(intWeight) + getTo().hashCode();
+    }
+    
+    /** compareTo compares this IntWeightedEdge with the passed-in WeightedEdge;
+     *  in particular, it compares their weight, and then their
+     *  destination Vertex.
+     * 
+     * @param edge The WeightedEdge to compare to this IntWeightedEdge.
+     * @return {@literal <} 0 if this IntWeightedEdge is less than the passed-in
+     * WeightedEdge, 0 if equal, and {@literal >} 0 if this IntWeightedEdge is greater
+     * than the passed-in WeightedEdge.
+     * @throws IllegalArgumentException If the passed-in WeightedEdge is null.
+     */
+    @Override
+    public int compareTo(WeightedEdge<Integer> edge) throws IllegalArgumentException {
+        if (edge == this)
+            return 0;
+        else if (edge == null)
+            throw new IllegalArgumentException("Error while executing compareTo(WeightedEdge<Integer>) in IntWeightedEdge: The edge parameter is null!");
+        
+        int result = Integer.compare(intWeight, edge instanceof IntWeightedEdge ? ((IntWeightedEdge) edge).getIntWeight() : edge.getWeight());
+        return result != 0 ? result : getTo().compareTo(edge.getTo());
+    }
+    
+    /** toString outputs this IntWeightedEdge's Vertex, followed by its weight,
+     *  in a set of parenthesis.
+     * 
+     * @return This IntWeightedEdge's Vertex, followed by its weight, in a set
+     * of parenthesis.
+     */
+    @Override
+    public String toString() {
+        return "(" + getTo() + ", " + intWeight + ")";
+    }
+}
\ No newline at end of file
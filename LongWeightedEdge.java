@@ -0,0 +1,125 @@
+/* Author:     Ryan McAllister-Grum
+ * UIN:        661880584
+ * Class:      20FA - Algorithms & Computation (20FA-OL-CSC482A-15037)
+ * Assignment: 3 (Implement Prim's Algorithm)
+ */
+
+/** The LongWeightedEdge is a WeightedEdge specialized for primitive long weights.
+ *  It stores its weight unboxed and compares weights with Long.compare, so it
+ *  can replace a WeightedEdge{@literal <}Long{@literal >} anywhere without a boxed weight per edge.
+ */
+public class LongWeightedEdge extends WeightedEdge<Long> {
+    /** The primitive weight value assigned to this LongWeightedEdge.
+     */
+    long longWeight;
+    
+    /** Constructor that creates a new LongWeightedEdge using the passed-in
+     *  destination Vertex and edge cost.
+     * 
+     * @param to The destination Vertex of this LongWeightedEdge.
+     * @param newWeight The new weight value/cost to assign to this
+     * LongWeightedEdge.
+     */
+    public LongWeightedEdge(Vertex to, long newWeight) {
+        super(to, null);
+        longWeight = newWeight;
+    }
+    
+    /** getLongWeight returns the primitive cost of this LongWeightedEdge.
+     * 
+     * @return The longWeight attribute of this LongWeightedEdge.
+     */
+    public long getLongWeight() {
+        return longWeight;
+    }
+    
+    /** getWeight returns the boxed cost of this LongWeightedEdge; prefer
+     *  getLongWeight in hot loops.
+     * 
+     * @return The longWeight attribute of this LongWeightedEdge, boxed.
+     */
+    @Override
+    public Long getWeight() {
+        return longWeight;
+    }
+    
+    /** setWeight sets a new edge cost to this LongWeightedEdge.
+     * 
+     * @param newWeight The new edge cost to set to this LongWeightedEdge.
+     * @throws IllegalArgumentException If the newWeight parameter is null.
+     * @throws IllegalStateException If this LongWeightedEdge belongs to a frozen Graph.
+     */
+    @Override
+    public void setWeight(Long newWeight) throws IllegalArgumentException, IllegalStateException {
+        if (newWeight == null)
+            throw new IllegalArgumentException("Error while executing setWeight(Long) in LongWeightedEdge: The newWeight parameter is null!");
+        else if (frozen)
+            throw new IllegalStateException("Error while executing setWeight(Long) in LongWeightedEdge: The edge belongs to a frozen graph!");
+        
+        longWeight = newWeight;
+    }
+    
+    /** equals compares this LongWeightedEdge with the passed-in Object for
+     *  equality; in particular, it compares their weight, and then their
+     *  destination Vertex, for equality.
+     * 
+     * @param o The Object to compare to this LongWeightedEdge.
+     * @return True if this LongWeightedEdge equals the passed-in Object.
+     * @throws IllegalArgumentException If the passed-in Object is not a
+     * LongWeightedEdge or is null.
+     */
+    @Override
+    public boolean equals(Object o) throws IllegalArgumentException {
+        if (o == this)
+            return true;
+        else if (o == null)
+            throw new IllegalArgumentException("Error while executing equals(Object) in LongWeightedEdge: The o parameter is null!");
+        else if (o.getClass() != getClass())
+            throw new IllegalArgumentException("Error while executing equals(Object) in LongWeightedEdge: Cannot compare a LongWeightedEdge to a " + o.getClass() + "!");
+        
+        LongWeightedEdge edge = (LongWeightedEdge) o;
+        return Long.compare(longWeight, edge.getLongWeight()) == 0 && getTo().equals(edge.getTo());
+    }
+    
+    /** hashCode returns the combined hashCode value of this LongWeightedEdge's weight
+     *  and destination Vertex.
+     * 
+     * @return The combined hashCode of this LongWeightedEdge's weight and to Vertex.
+     */
+    @Override
+    public int hashCode() {
+        return Long.hashCode(longWeight) + getTo().hashCode();
+    }
+    
+    /** compareTo compares this LongWeightedEdge with the passed-in WeightedEdge;
+     *  in particular, it compares their weight, and then their
+     *  destination Vertex.
+     * 
+     * @param edge The WeightedEdge to compare to this LongWeightedEdge.
+     * @return {@literal <} 0 if this LongWeightedEdge is less than the passed-in
+     * WeightedEdge, 0 if equal, and {@literal >} 0 if this LongWeightedEdge is greater
+     * than the passed-in WeightedEdge.
+     * @throws IllegalArgumentException If the passed-in WeightedEdge is null.
+     */
+    @Override
+    public int compareTo(WeightedEdge<Long> edge) throws IllegalArgumentException {
+        if (edge == this)
+            return 0;
+        else if (edge == null)
+            throw new IllegalArgumentException("Error while executing compareTo(WeightedEdge<Long>) in LongWeightedEdge: The edge parameter is null!");
+        
+        int result = Long.compare(longWeight, edge instanceof LongWeightedEdge ? ((LongWeightedEdge) edge).getLongWeight() : edge.getWeight());
+        return result != 0 ? result : getTo().compareTo(edge.getTo());
+    }
+    
+    /** toString outputs this LongWeightedEdge's Vertex, followed by its weight,
+     *  in a set of parenthesis.
+     * 
+     * @return This LongWeightedEdge's Vertex, followed by its weight, in a set
+     * of parenthesis.
+     */
+    @Override
+    public String toString() {
+        return "(" + getTo() + ", " + longWeight + ")";
+    }
+}
\ No newline at end of file
@@ -0,0 +1,21 @@
+/* Author:     Ryan McAllister-Grum
+ * UIN:        661880584
+ * Class:      20FA - Algorithms & Computation (20FA-OL-CSC482A-15037)
+ * Assignment: 3 (Implement Prim's Algorithm)
+ */
+
+/** MSTEdgeConsumer receives the edges of a Minimum Spanning Tree one at a
+ *  time, as soon as an engine adds them to the tree. Vertices are passed as
+ *  their index in the engine's graph (see VertexIndex) and weights as a
+ *  primitive float, so streaming an edge never allocates.
+ */
+@FunctionalInterface
+public interface MSTEdgeConsumer {
+    /** accept receives one edge that was just added to the tree.
+     * 
+     * @param parent The index of the vertex already in the tree.
+     * @param child The index of the vertex the edge attached to the tree.
+     * @param weight The weight of the edge.
+     */
+    void accept(int parent, int child, float weight);
+}
\ No newline at end of file
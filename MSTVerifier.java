@@ -0,0 +1,266 @@
+/* Author:     Ryan McAllister-Grum
+ * UIN:        661880584
+ * Class:      20FA - Algorithms & Computation (20FA-OL-CSC482A-15037)
+ * Assignment: 3 (Implement Prim's Algorithm)
+ */
+
+import java.util.TreeSet;
+
+/** MSTVerifier checks that a candidate tree, such as Prim.getMST(), is a
+ *  Minimum Spanning Tree (or forest) of a graph without finding one again.
+ *  The candidate must use only edges of the graph with their weights, have
+ *  no cycle, and span every connected component of the graph. It is then
+ *  minimum exactly when no graph edge is lighter than the heaviest tree edge
+ *  on the path between its endpoints (the cycle property). All of those path
+ *  maximums are found together with Tarjan's offline lowest common ancestor
+ *  algorithm, whose union-find also remembers the heaviest edge from each
+ *  vertex up to its set's root, so the whole check runs in near-linear time.
+ */
+public class MSTVerifier {
+    /** problem describes the first reason the candidate failed, or is null if it passed.
+     */
+    private String problem;
+    /** checkedEdges is the number of graph edges whose cycle property was checked.
+     */
+    private long checkedEdges;
+    /** totalWeight is the total weight of the candidate's edges.
+     */
+    private double totalWeight;
+    /** path is scratch space for the union-find path being compressed.
+     */
+    private int[] path;
+    
+    /** Constructor that verifies the passed-in candidate tree against the passed-in graph.
+     * 
+     * @param <K> The type stored in the Vertexes of the graphs.
+     * @param graph The graph the candidate should be a Minimum Spanning Tree of.
+     * @param candidate The candidate tree, such as Prim.getMST().
+     * @throws IllegalArgumentException If either parameter is null, or an edge has no numerical weight.
+     */
+    public <K extends Comparable<? super K>> MSTVerifier(Graph<K> graph, Graph<K> candidate) throws IllegalArgumentException {
+        if (graph == null)
+            throw new IllegalArgumentException("Error while constructing a new MSTVerifier(Graph<K>, Graph<K>): The graph parameter is null!");
+        else if (candidate == null)
+            throw new IllegalArgumentException("Error while constructing a new MSTVerifier(Graph<K>, Graph<K>): The candidate parameter is null!");
+        
+        problem = verify(graph, candidate);
+    }
+    
+    /** verify runs every check and returns the first problem found.
+     * 
+     * @param <K> The type stored in the Vertexes of the graphs.
+     * @param graph The graph the candidate should be a Minimum Spanning Tree of.
+     * @param candidate The candidate tree.
+     * @return A description of the first problem, or null if there is none.
+     */
+    private <K extends Comparable<? super K>> String verify(Graph<K> graph, Graph<K> candidate) {
+        FloatCSRGraph<K> compact = FloatCSRGraph.of(graph);
+        VertexIndex<K> index = compact.getIndex();
+        int n = index.size();
+        
+        // The candidate must hold exactly the graph's vertices...
+        if (candidate.graph.size() != n)
+            return "The candidate has " + candidate.graph.size() + " vertices but the graph has " + n + "!";
+        for (Vertex<K> vertex : candidate.graph.keySet())
+            if (index.indexOf(vertex) < 0)
+                return "The candidate's vertex " + vertex.get() + " is not in the graph!";
+        
+        // ...and only graph edges with the graph's weights, without a cycle.
+        int[] component = new int[n];
+        for (int v = 0; v < n; v++)
+            component[v] = v;
+        int[] from = new int[Math.max(n - 1, 0)], to = new int[from.length];
+        float[] weights = new float[from.length];
+        int treeEdges = 0;
+        totalWeight = 0;
+        for (Vertex<K> vertex : candidate.graph.keySet()) {
+            int u = index.indexOf(vertex);
+            for (Edge edge : candidate.graph.get(vertex)) {
+                int v = index.indexOf((Vertex<K>) edge.getTo());
+                if (v < 0)
+                    return "The candidate's vertex " + edge.getTo().get() + " is not in the graph!";
+                else if (u > v)
+                    continue; // Undirected edges are listed at both endpoints.
+                float weight = FloatCSRGraph.weightOf(edge);
+                TreeSet<Edge> original = graph.graph.get(vertex);
+                Edge match = original == null ? null : original.floor(new Edge(edge.getTo()));
+                if (match == null || match.compareTo(new Edge(edge.getTo())) != 0)
+                    return "The candidate's edge " + vertex.get() + "=" + edge.getTo().get() + " is not in the graph!";
+                else if (FloatCSRGraph.weightOf(match) != weight)
+                    return "The candidate's edge " + vertex.get() + "=" + edge.getTo().get() + " weighs " + weight + " but the graph's weighs " + FloatCSRGraph.weightOf(match) + "!";
+                int a = UnionFind.find(component, u), b = UnionFind.find(component, v);
+                if (a == b)
+                    return "The candidate's edge " + vertex.get() + "=" + edge.getTo().get() + " closes a cycle!";
+                component[a] = b;
+                from[treeEdges] = u;
+                to[treeEdges] = v;
+                weights[treeEdges++] = weight;
+                totalWeight += weight;
+            }
+        }
+        
+        // The candidate spans every component of the graph if every graph edge stays within one of its trees.
+        for (int u = 0; u < n; u++)
+            for (int i = compact.offsets[u]; i < compact.offsets[u + 1]; i++)
+                if (UnionFind.find(component, u) != UnionFind.find(component, compact.targets[i]))
+                    return "The candidate does not connect " + index.label(u) + " and " + index.label(compact.targets[i]) + ", which are adjacent in the graph!";
+        
+        return checkCycleProperty(compact, FloatCSRGraph.of(n, from, to, weights, treeEdges, false));
+    }
+    
+    /** checkCycleProperty checks that no graph edge is lighter than the
+     *  heaviest tree edge on the path between its endpoints, with Tarjan's
+     *  offline lowest common ancestor algorithm over an iterative depth-first
+     *  search of the tree. When a vertex is finished, its set is linked below
+     *  its parent, remembering the weight of the edge between them; each graph
+     *  edge is filed at the lowest common ancestor of its endpoints as soon as
+     *  both are visited, and answered once that ancestor is finished, when
+     *  both endpoints' sets have been linked up to it.
+     * 
+     * @param <K> The type stored in the graph's vertices.
+     * @param graph The graph.
+     * @param tree The candidate tree over the same vertex indexes.
+     * @return A description of the first violation, or null if there is none.
+     */
+    private <K extends Comparable<? super K>> String checkCycleProperty(FloatCSRGraph<K> graph, FloatCSRGraph<Integer> tree) {
+        int n = graph.vertexCount();
+        int[] link = new int[n]; // link holds each vertex's union-find parent, itself for a set root.
+        float[] up = new float[n]; // up holds the heaviest tree edge between a vertex and its link.
+        boolean[] visited = new boolean[n];
+        int[] pending = new int[n]; // pending holds the first graph edge filed at each ancestor, or -1.
+        int[] next = new int[graph.targets.length]; // next holds the next graph edge filed at the same ancestor.
+        int[] edgeFrom = new int[graph.targets.length];
+        for (int v = 0; v < n; v++) {
+            link[v] = v;
+            up[v] = Float.NEGATIVE_INFINITY;
+            pending[v] = -1;
+        }
+        
+        path = new int[n];
+        int[] stack = new int[n], cursor = new int[n], parent = new int[n];
+        float[] parentWeight = new float[n];
+        checkedEdges = 0;
+        for (int start = 0; start < n; start++) {
+            if (visited[start])
+                continue;
+            int depth = 0;
+            stack[0] = start;
+            parent[start] = -1;
+            cursor[start] = tree.offsets[start];
+            visit(graph, start, link, up, visited, pending, next, edgeFrom);
+            while (depth >= 0) {
+                int vertex = stack[depth];
+                if (cursor[vertex] < tree.offsets[vertex + 1]) {
+                    int child = tree.targets[cursor[vertex]];
+                    float weight = tree.weights[cursor[vertex]++];
+                    if (visited[child]) // Only the parent can already be visited in a tree.
+                        continue;
+                    parent[child] = vertex;
+                    parentWeight[child] = weight;
+                    cursor[child] = tree.offsets[child];
+                    stack[++depth] = child;
+                    visit(graph, child, link, up, visited, pending, next, edgeFrom);
+                } else {
+                    // Answer the graph edges whose endpoints meet here, then link this vertex below its parent.
+                    for (int i = pending[vertex]; i >= 0; i = next[i]) {
+                        int u = edgeFrom[i], v = graph.targets[i];
+                        float max = Math.max(heaviest(link, up, u), heaviest(link, up, v));
+                        checkedEdges++;
+                        if (graph.weights[i] < max)
+                            return "The graph's edge " + graph.getIndex().label(u) + "=" + graph.getIndex().label(v) + " (" + graph.weights[i]
+                                + ") is lighter than the heaviest candidate edge (" + max + ") on the path between its endpoints!";
+                    }
+                    if (parent[vertex] >= 0) {
+                        link[vertex] = parent[vertex];
+                        up[vertex] = parentWeight[vertex];
+                    }
+                    depth--;
+                }
+            }
+        }
+        return null;
+    }
+    
+    /** visit marks the passed-in vertex visited and files each of its graph
+     *  edges whose other endpoint was already visited at the lowest common
+     *  ancestor of the two, which is the root of that endpoint's set.
+     * 
+     * @param graph The graph.
+     * @param vertex The vertex being visited.
+     * @param link The union-find parent of each vertex.
+     * @param up The heaviest tree edge between each vertex and its link.
+     * @param visited Whether each vertex has been visited.
+     * @param pending The first graph edge filed at each ancestor.
+     * @param next The next graph edge filed at the same ancestor.
+     * @param edgeFrom The vertex each graph edge entry was filed from.
+     */
+    private void visit(FloatCSRGraph<?> graph, int vertex, int[] link, float[] up, boolean[] visited, int[] pending, int[] next, int[] edgeFrom) {
+        visited[vertex] = true;
+        for (int i = graph.offsets[vertex]; i < graph.offsets[vertex + 1]; i++) {
+            int other = graph.targets[i];
+            if (!visited[other] || other == vertex)
+                continue;
+            heaviest(link, up, other); // Compress other's path so that link[other] is the set root.
+            int ancestor = link[other];
+            edgeFrom[i] = vertex;
+            next[i] = pending[ancestor];
+            pending[ancestor] = i;
+        }
+    }
+    
+    /** heaviest returns the heaviest tree edge between the passed-in vertex and
+     *  the root of its set, pointing every vertex on the way straight at the root.
+     * 
+     * @param link The union-find parent of each vertex.
+     * @param up The heaviest tree edge between each vertex and its link.
+     * @param vertex The vertex.
+     * @return The heaviest edge weight up to the set root, or -infinity for the root itself.
+     */
+    private float heaviest(int[] link, float[] up, int vertex) {
+        if (link[vertex] == vertex)
+            return Float.NEGATIVE_INFINITY;
+        
+        // Collect the path below the root, then fold the maxima down it from the top.
+        int length = 0;
+        for (int v = vertex; link[v] != v; v = link[v])
+            path[length++] = v;
+        int root = link[path[length - 1]];
+        for (int j = length - 2; j >= 0; j--) {
+            up[path[j]] = Math.max(up[path[j]], up[path[j + 1]]);
+            link[path[j]] = root;
+        }
+        return up[vertex];
+    }
+    
+    /** isValid returns whether the candidate is a Minimum Spanning Tree (or forest) of the graph.
+     * 
+     * @return True if every check passed.
+     */
+    public boolean isValid() {
+        return problem == null;
+    }
+    
+    /** getProblem returns the first reason the candidate failed.
+     * 
+     * @return The problem attribute, or null if the candidate passed.
+     */
+    public String getProblem() {
+        return problem;
+    }
+    
+    /** getCheckedEdges returns the number of graph edges whose cycle property was checked.
+     * 
+     * @return The checkedEdges attribute.
+     */
+    public long getCheckedEdges() {
+        return checkedEdges;
+    }
+    
+    /** getTotalWeight returns the total weight of the candidate's edges.
+     * 
+     * @return The totalWeight attribute.
+     */
+    public double getTotalWeight() {
+        return totalWeight;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,248 @@
+/* Author:     Ryan McAllister-Grum
+ * UIN:        661880584
+ * Class:      20FA - Algorithms & Computation (20FA-OL-CSC482A-15037)
+ * Assignment: 3 (Implement Prim's Algorithm)
+ */
+
+import java.util.TreeSet;
+
+/** MemoryFootprint estimates how many bytes each graph backend and a run of
+ *  Prim's Algorithm take on the heap, from the vertex and edge counts alone,
+ *  so a job can be placed on a JVM that can hold it before its .gl file is
+ *  even read. The estimates assume a 64-bit JVM with compressed references
+ *  (12 byte object headers, 16 byte array headers, 4 byte references and
+ *  every object padded to 8 bytes), which is the default below a 32 GB heap.
+ *  Edge counts are of undirected (or directed) edges as listed in a .gl
+ *  file; an undirected backend stores each of them at both endpoints.
+ */
+public final class MemoryFootprint {
+    /** OBJECT_HEADER is the size of an object header.
+     */
+    static final int OBJECT_HEADER = 12;
+    /** ARRAY_HEADER is the size of an array header, including its length.
+     */
+    static final int ARRAY_HEADER = 16;
+    /** REFERENCE is the size of a compressed object reference.
+     */
+    static final int REFERENCE = 4;
+    /** LABEL_LENGTH is the assumed length of a vertex name read from a .gl file.
+     */
+    static final int LABEL_LENGTH = 8;
+    /** TREE_ENTRY is the size of one TreeMap.Entry: key, value, left, right and parent references plus its color.
+     */
+    static final long TREE_ENTRY = align(OBJECT_HEADER + 5 * REFERENCE + 1);
+    /** TREE_SET is the size of an empty TreeSet with its backing TreeMap.
+     */
+    static final long TREE_SET = align(OBJECT_HEADER + REFERENCE) + align(OBJECT_HEADER + 7 * REFERENCE + 2 * Integer.BYTES);
+    /** LABEL is the size of a String vertex name of LABEL_LENGTH Latin-1 characters.
+     */
+    static final long LABEL = align(OBJECT_HEADER + REFERENCE + Integer.BYTES + 2) + array(LABEL_LENGTH, 1);
+    /** GRAPH_BYTES_PER_VERTEX is the size of one Vertex of a Graph: its TreeMap
+     *  entry, the Vertex, its String name and its empty TreeSet of Edges.
+     */
+    public static final long GRAPH_BYTES_PER_VERTEX = TREE_ENTRY + align(OBJECT_HEADER + 2 * REFERENCE + Float.BYTES) + LABEL + TREE_SET;
+    /** GRAPH_BYTES_PER_ENTRY is the size of one Edge stored in a Graph: its
+     *  TreeSet entry and a FloatWeightedEdge.
+     */
+    public static final long GRAPH_BYTES_PER_ENTRY = TREE_ENTRY + align(OBJECT_HEADER + 2 * REFERENCE + Float.BYTES);
+    
+    /** align rounds the passed-in size up to a multiple of 8 bytes.
+     * 
+     * @param bytes The unpadded size.
+     * @return The padded size.
+     */
+    static long align(long bytes) {
+        return (bytes + 7) & ~7L;
+    }
+    
+    /** array returns the size of an array with the passed-in length and element size.
+     * 
+     * @param length The number of elements.
+     * @param elementBytes The size of one element.
+     * @return The size of the array in bytes.
+     */
+    static long array(long length, int elementBytes) {
+        return align(ARRAY_HEADER + length * elementBytes);
+    }
+    
+    /** entries returns the number of adjacency entries a backend stores for the passed-in edges.
+     * 
+     * @param edges The number of edges.
+     * @param directed Whether the graph is directed.
+     * @return edges if directed, twice edges otherwise.
+     */
+    private static long entries(long edges, boolean directed) {
+        return directed ? edges : 2 * edges;
+    }
+    
+    /** graphBytes estimates the size of a Graph of Vertexes, TreeSets and
+     *  FloatWeightedEdges, such as a GLParser builds, with the passed-in size.
+     * 
+     * @param vertices The number of vertices.
+     * @param edges The number of edges.
+     * @param directed Whether the graph is directed.
+     * @return The estimated size in bytes.
+     */
+    public static long graphBytes(long vertices, long edges, boolean directed) {
+        return align(OBJECT_HEADER + 2 * REFERENCE + 1) + TREE_SET + vertices * GRAPH_BYTES_PER_VERTEX + entries(edges, directed) * GRAPH_BYTES_PER_ENTRY;
+    }
+    
+    /** graphBytes estimates the size of the passed-in Graph from its vertex and stored edge counts.
+     * 
+     * @param graph The Graph to estimate.
+     * @return The estimated size in bytes.
+     * @throws IllegalArgumentException If the graph parameter is null.
+     */
+    public static long graphBytes(Graph<?> graph) throws IllegalArgumentException {
+        if (graph == null)
+            throw new IllegalArgumentException("Error while executing graphBytes(Graph<?>) in MemoryFootprint: The graph parameter is null!");
+        
+        long stored = 0;
+        for (TreeSet<Edge> list : graph.graph.values())
+            stored += list.size();
+        return graphBytes(graph.graph.size(), stored, true);
+    }
+    
+    /** indexBytes estimates the size of a VertexIndex over the passed-in number of vertices, sharing the Graph's labels.
+     * 
+     * @param vertices The number of vertices.
+     * @return The estimated size in bytes.
+     */
+    public static long indexBytes(long vertices) {
+        return align(OBJECT_HEADER + 4 * REFERENCE) + array(vertices, REFERENCE);
+    }
+    
+    /** csrBytes estimates the size of a compressed sparse row backend
+     *  (FloatCSRGraph, IntCSRGraph, DoubleCSRGraph or LongCSRGraph) with the
+     *  passed-in size and weight width, including its VertexIndex.
+     * 
+     * @param vertices The number of vertices.
+     * @param edges The number of edges.
+     * @param directed Whether the graph is directed.
+     * @param weightBytes The size of one weight: 4 for float and int, 8 for double and long.
+     * @return The estimated size in bytes.
+     */
+    public static long csrBytes(long vertices, long edges, boolean directed, int weightBytes) {
+        long stored = entries(edges, directed);
+        return align(OBJECT_HEADER + 4 * REFERENCE + 1) + indexBytes(vertices) + array(vertices + 1, Integer.BYTES) + array(stored, Integer.BYTES) + array(stored, weightBytes);
+    }
+    
+    /** edgeListBytes estimates the size of an EdgeListFloatGraph with the
+     *  passed-in size, which stores each undirected edge once plus its id at
+     *  both endpoints, including its VertexIndex.
+     * 
+     * @param vertices The number of vertices.
+     * @param edges The number of undirected edges.
+     * @return The estimated size in bytes.
+     */
+    public static long edgeListBytes(long vertices, long edges) {
+        return align(OBJECT_HEADER + 6 * REFERENCE + Integer.BYTES) + indexBytes(vertices) + 3 * array(edges, Integer.BYTES) + array(vertices + 1, Integer.BYTES) + array(2 * edges, Integer.BYTES);
+    }
+    
+    /** denseBytes estimates the size of a DenseFloatGraph over the passed-in number of vertices.
+     * 
+     * @param vertices The number of vertices.
+     * @return The estimated size in bytes.
+     */
+    public static long denseBytes(long vertices) {
+        return align(OBJECT_HEADER + 2 * REFERENCE + Long.BYTES + 1) + indexBytes(vertices) + array(vertices * vertices, Float.BYTES);
+    }
+    
+    /** engineBytes estimates the size of a FloatPrimEngine and its queue
+     *  while running over a graph with the passed-in size.
+     * 
+     * @param vertices The number of vertices.
+     * @param maxDegree The largest number of neighbors of any vertex, which sizes the scan buffers.
+     * @return The estimated size in bytes.
+     */
+    public static long engineBytes(long vertices, long maxDegree) {
+        long state = 3 * array(vertices, Integer.BYTES) + array(vertices, 1);
+        long queue = 3 * array(vertices, Integer.BYTES);
+        long buffers = 3 * array(maxDegree, Integer.BYTES);
+        return align(OBJECT_HEADER + 7 * REFERENCE + Integer.BYTES) + state + queue + buffers;
+    }
+    
+    /** denseEngineBytes estimates the size of a DenseFloatPrimEngine over the passed-in number of vertices.
+     * 
+     * @param vertices The number of vertices.
+     * @return The estimated size in bytes.
+     */
+    public static long denseEngineBytes(long vertices) {
+        return align(OBJECT_HEADER + 5 * REFERENCE + Integer.BYTES) + 3 * array(vertices, Integer.BYTES);
+    }
+    
+    /** mstBytes estimates the size of the tree Graph Prim.getMST() returns for
+     *  a connected graph with the passed-in number of vertices; its Vertexes
+     *  are copies that share the original names.
+     * 
+     * @param vertices The number of vertices.
+     * @return The estimated size in bytes.
+     */
+    public static long mstBytes(long vertices) {
+        return graphBytes(vertices, Math.max(vertices - 1, 0), false) - vertices * LABEL + array(vertices, REFERENCE);
+    }
+    
+    /** loadBytes estimates the size of the undirected weighted Graph a
+     *  GLParser builds for the passed-in counts, at its peak while parsing.
+     *  Collapsing parallel edges first gathers every line into a PairWeightMap
+     *  and a name lookup, which are live alongside the Graph being filled.
+     * 
+     * @param vertices The number of vertices.
+     * @param edges The number of edge lines in the file.
+     * @param collapseParallelEdges Whether the parser collapses parallel edges.
+     * @return The estimated size in bytes.
+     */
+    public static long loadBytes(long vertices, long edges, boolean collapseParallelEdges) {
+        long graph = graphBytes(vertices, edges, false);
+        if (!collapseParallelEdges)
+            return graph;
+        // The pair map grows by doubling, so its arrays may be up to twice the entries they hold.
+        long pairs = array(4 * edges, Integer.BYTES) + array(2 * edges, Long.BYTES) + array(2 * edges, Float.BYTES);
+        long names = array(2 * vertices, REFERENCE) + vertices * (align(OBJECT_HEADER + 3 * REFERENCE + Integer.BYTES) + align(OBJECT_HEADER + Integer.BYTES));
+        return graph + pairs + names + array(vertices, REFERENCE);
+    }
+    
+    /** primBytes estimates the extra memory a run of Prim's Algorithm takes at
+     *  its peak on top of the input Graph: the compact copy, the engine Prim
+     *  picks for it (with the adjacency matrix if it is dense), and the tree
+     *  Graph being built. The scan buffers are sized for the worst case of a
+     *  vertex adjacent to every other.
+     * 
+     * @param vertices The number of vertices.
+     * @param edges The number of undirected edges.
+     * @return The estimated size in bytes.
+     */
+    public static long primBytes(long vertices, long edges) {
+        long compact = csrBytes(vertices, edges, false, Float.BYTES);
+        long engine;
+        if (vertices <= Integer.MAX_VALUE && DenseFloatGraph.isWorthwhile((int) vertices, edges))
+            engine = denseBytes(vertices) + denseEngineBytes(vertices);
+        else
+            engine = engineBytes(vertices, vertices);
+        return compact + engine + mstBytes(vertices);
+    }
+    
+    /** peakBytes estimates the peak memory of loading an undirected weighted
+     *  .gl file with the passed-in counts and finding its Minimum Spanning Tree.
+     * 
+     * @param vertices The number of vertices.
+     * @param edges The number of edge lines in the file.
+     * @param collapseParallelEdges Whether the parser collapses parallel edges.
+     * @return The estimated size in bytes.
+     */
+    public static long peakBytes(long vertices, long edges, boolean collapseParallelEdges) {
+        return Math.max(loadBytes(vertices, edges, collapseParallelEdges), graphBytes(vertices, edges, false) + primBytes(vertices, edges));
+    }
+    
+    /** fits returns whether loading and running Prim over a .gl file with the
+     *  passed-in counts should fit in the passed-in heap size.
+     * 
+     * @param vertices The number of vertices.
+     * @param edges The number of edge lines in the file.
+     * @param heapBytes The maximum heap size, such as Runtime.getRuntime().maxMemory().
+     * @return True if peakBytes, without collapsing parallel edges, is at most heapBytes.
+     */
+    public static boolean fits(long vertices, long edges, long heapBytes) {
+        return peakBytes(vertices, edges, false) <= heapBytes;
+    }
+}
\ No newline at end of file
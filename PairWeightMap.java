@@ -0,0 +1,144 @@
+/* Author:     Ryan McAllister-Grum
+ * UIN:        661880584
+ * Class:      20FA - Algorithms & Computation (20FA-OL-CSC482A-15037)
+ * Assignment: 3 (Implement Prim's Algorithm)
+ */
+
+import java.util.Arrays;
+
+/** PairWeightMap keeps the cheapest weight seen for each (from, to) pair of
+ *  vertex indexes, which is how parallel edges are collapsed while a
+ *  multigraph is loaded. Pairs are packed into a long and looked up in an
+ *  open-addressing table of primitives, so no key or weight is boxed. Pairs
+ *  are kept in the order they were first seen.
+ */
+public class PairWeightMap {
+    /** table holds, for each slot, the entry index + 1 of the pair stored there, or 0 if the slot is empty.
+     */
+    private int[] table;
+    /** keys holds the packed (from, to) pair of each entry.
+     */
+    private long[] keys;
+    /** weights holds the cheapest weight seen for each entry.
+     */
+    private float[] weights;
+    /** size is the number of distinct pairs stored.
+     */
+    private int size;
+    /** undirected indicates whether (from, to) and (to, from) are the same pair.
+     */
+    private final boolean undirected;
+    
+    /** Constructor that creates a new empty PairWeightMap.
+     * 
+     * @param newUndirected Whether (from, to) and (to, from) are the same pair.
+     */
+    public PairWeightMap(boolean newUndirected) {
+        undirected = newUndirected;
+        table = new int[16];
+        keys = new long[8];
+        weights = new float[8];
+        size = 0;
+    }
+    
+    /** slot returns the table slot holding the passed-in key, or the empty slot where it belongs.
+     * 
+     * @param key The packed pair to look for.
+     * @return The slot index of the key.
+     */
+    private int slot(long key) {
+        int mask = table.length - 1;
+        long h = key * 0x9E3779B97F4A7C15L; // Fibonacci hashing spreads neighboring ids apart.
+        int i = (int) (h ^ (h >>> 32)) & mask;
+        while (table[i] != 0 && keys[table[i] - 1] != key)
+            i = (i + 1) & mask;
+        return i;
+    }
+    
+    /** putMin records an edge between the passed-in vertexes, keeping only the
+     *  cheapest weight when the pair has already been seen.
+     * 
+     * @param from The index of the edge's from vertex.
+     * @param to The index of the edge's to vertex.
+     * @param weight The weight of the edge.
+     * @return True if the pair was new or its weight decreased.
+     * @throws IllegalArgumentException If from or to is negative.
+     */
+    public boolean putMin(int from, int to, float weight) throws IllegalArgumentException {
+        if (from < 0 || to < 0)
+            throw new IllegalArgumentException("Error while executing putMin(int, int, float) in PairWeightMap: The from (" + from + ") or to (" + to + ") parameter is negative!");
+        
+        if (undirected && to < from) { // Store each undirected pair once, lowest index first.
+            int temp = from;
+            from = to;
+            to = temp;
+        }
+        long key = ((long) from << 32) | to;
+        
+        int i = slot(key);
+        if (table[i] != 0) {
+            int entry = table[i] - 1;
+            if (weight < weights[entry]) {
+                weights[entry] = weight;
+                return true;
+            }
+            return false;
+        }
+        
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            weights = Arrays.copyOf(weights, size * 2);
+        }
+        keys[size] = key;
+        weights[size] = weight;
+        size++;
+        table[i] = size;
+        
+        if (size * 2 > table.length) // Keep the table at most half full.
+            rehash();
+        return true;
+    }
+    
+    /** rehash doubles the table and re-inserts every entry.
+     */
+    private void rehash() {
+        table = new int[table.length * 2];
+        for (int entry = 0; entry < size; entry++)
+            table[slot(keys[entry])] = entry + 1;
+    }
+    
+    /** size returns the number of distinct pairs stored.
+     * 
+     * @return The size attribute.
+     */
+    public int size() {
+        return size;
+    }
+    
+    /** from returns the from vertex index of the passed-in entry.
+     * 
+     * @param entry The entry, from 0 to size() - 1 in the order pairs were first seen.
+     * @return The from vertex index of the entry.
+     */
+    public int from(int entry) {
+        return (int) (keys[entry] >>> 32);
+    }
+    
+    /** to returns the to vertex index of the passed-in entry.
+     * 
+     * @param entry The entry, from 0 to size() - 1 in the order pairs were first seen.
+     * @return The to vertex index of the entry.
+     */
+    public int to(int entry) {
+        return (int) keys[entry];
+    }
+    
+    /** weight returns the cheapest weight seen for the passed-in entry.
+     * 
+     * @param entry The entry, from 0 to size() - 1 in the order pairs were first seen.
+     * @return The cheapest weight of the entry.
+     */
+    public float weight(int entry) {
+        return weights[entry];
+    }
+}
\ No newline at end of file
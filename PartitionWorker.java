@@ -0,0 +1,94 @@
+/* Author:     Ryan McAllister-Grum
+ * UIN:        661880584
+ * Class:      20FA - Algorithms & Computation (20FA-OL-CSC482A-15037)
+ * Assignment: 3 (Implement Prim's Algorithm)
+ */
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/** PartitionWorker finds the minimum spanning forest of one part of a graph
+ *  for PartitionedMST. Run as a program, it reads one part from its standard
+ *  input and writes the forest to its standard output, so the coordinator
+ *  can start one worker JVM per part and talk to it over pipes.
+ * 
+ *  Both messages are big-endian, as written by DataOutputStream:
+ *  the part is MAGIC, the vertex count, the edge count and then each edge as
+ *  (from, to, weight); the forest is MAGIC, the tree edge count and then each
+ *  tree edge as (parent, child, weight). Vertices are numbered 0 to the
+ *  vertex count - 1 within the part, and each undirected edge is sent once.
+ */
+public class PartitionWorker {
+    /** MAGIC starts every message, so a worker that is out of step fails fast.
+     */
+    public static final int MAGIC = 0x4D535450; // "MSTP"
+    
+    public static void main(String[] args) {
+        try {
+            DataInputStream in = new DataInputStream(new BufferedInputStream(System.in, 1 << 16));
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(System.out, 1 << 16));
+            solve(in, out);
+            out.flush();
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("Error while executing PartitionWorker: " + e);
+            System.exit(1);
+        }
+    }
+    
+    /** solve reads one part from the passed-in input, finds its minimum
+     *  spanning forest with the engine Prim picks for it, and writes the forest
+     *  to the passed-in output.
+     * 
+     * @param in The input to read the part from.
+     * @param out The output to write the forest to.
+     * @throws IllegalArgumentException If the part does not start with MAGIC or has negative counts.
+     * @throws IOException If there is an issue reading or writing.
+     */
+    public static void solve(DataInputStream in, DataOutputStream out) throws IllegalArgumentException, IOException {
+        if (in.readInt() != MAGIC)
+            throw new IllegalArgumentException("Error while executing solve(DataInputStream, DataOutputStream) in PartitionWorker: The part does not start with MAGIC!");
+        int vertices = in.readInt();
+        int edges = in.readInt();
+        if (vertices < 0 || edges < 0)
+            throw new IllegalArgumentException("Error while executing solve(DataInputStream, DataOutputStream) in PartitionWorker: The part has a negative vertex (" + vertices + ") or edge (" + edges + ") count!");
+        
+        int[] from = new int[edges], to = new int[edges];
+        float[] weights = new float[edges];
+        for (int e = 0; e < edges; e++) {
+            from[e] = in.readInt();
+            to[e] = in.readInt();
+            weights[e] = in.readFloat();
+        }
+        
+        FloatCSRGraph<Integer> graph = FloatCSRGraph.of(vertices, from, to, weights, edges, false);
+        FloatMSTEngine engine = Prim.floatEngine(graph);
+        engine.ExecutePrim(-1, null);
+        
+        out.writeInt(MAGIC);
+        out.writeInt(vertices - roots(engine));
+        for (int i = 0; i < engine.getExtracted(); i++) {
+            int vertex = engine.getOrder()[i];
+            if (engine.getParent()[vertex] >= 0) {
+                out.writeInt(engine.getParent()[vertex]);
+                out.writeInt(vertex);
+                out.writeFloat(engine.getCost()[vertex]);
+            }
+        }
+    }
+    
+    /** roots returns the number of trees in the forest found by the passed-in engine.
+     * 
+     * @param engine The engine that found the forest.
+     * @return The number of vertices without a parent.
+     */
+    private static int roots(FloatMSTEngine engine) {
+        int roots = 0;
+        for (int parent : engine.getParent())
+            if (parent < 0)
+                roots++;
+        return roots;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,409 @@
+/* Author:     Ryan McAllister-Grum
+ * UIN:        661880584
+ * Class:      20FA - Algorithms & Computation (20FA-OL-CSC482A-15037)
+ * Assignment: 3 (Implement Prim's Algorithm)
+ */
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.util.ArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/** PartitionedMST finds the Minimum Spanning Tree (or forest) of a graph by
+ *  splitting its vertices into parts with GraphPartitioner, handing each
+ *  part's internal edges to a PartitionWorker, and merging the workers'
+ *  local forests with the cut edges. An edge that is not in the minimum
+ *  spanning forest of its part is the heaviest edge on a cycle of the whole
+ *  graph too, so the Minimum Spanning Tree of the local forests plus the cut
+ *  edges, found here with Kruskal's Algorithm, is exactly the one of the
+ *  whole graph.
+ * 
+ *  Workers either run as separate JVMs started with this program's class
+ *  path, talking over their standard input and output, or as threads of
+ *  this JVM using the same protocol over in-memory pipes. Each request is
+ *  streamed to its worker as it is written rather than built up first.
+ */
+public class PartitionedMST {
+    /** Requests writes the worker request of any part straight from the
+     *  graph's edge list, so no part's request is ever held in memory.
+     */
+    private static final class Requests {
+        /** part holds the part of each vertex, and local its number within the part.
+         */
+        final int[] part, local;
+        /** size and internal hold the number of vertices and internal edges of each part.
+         */
+        final int[] size, internal;
+        /** edgeFrom, edgeTo and edgeWeight hold each of the graph's edges once.
+         */
+        final int[] edgeFrom, edgeTo;
+        final float[] edgeWeight;
+        /** edges is the number of edges.
+         */
+        final int edges;
+        
+        /** Constructor that creates new Requests for the passed-in partition and edges.
+         * 
+         * @param newPart The part of each vertex.
+         * @param newLocal The number of each vertex within its part.
+         * @param newSize The number of vertices of each part.
+         * @param newInternal The number of internal edges of each part.
+         * @param newEdgeFrom One endpoint of each edge.
+         * @param newEdgeTo The other endpoint of each edge.
+         * @param newEdgeWeight The weight of each edge.
+         * @param newEdges The number of edges.
+         */
+        Requests(int[] newPart, int[] newLocal, int[] newSize, int[] newInternal, int[] newEdgeFrom, int[] newEdgeTo, float[] newEdgeWeight, int newEdges) {
+            part = newPart;
+            local = newLocal;
+            size = newSize;
+            internal = newInternal;
+            edgeFrom = newEdgeFrom;
+            edgeTo = newEdgeTo;
+            edgeWeight = newEdgeWeight;
+            edges = newEdges;
+        }
+        
+        /** write writes the request of the passed-in part to the passed-in
+         *  stream. Each part scans the whole edge list for its own edges.
+         * 
+         * @param p The part.
+         * @param stream The stream to the part's worker.
+         * @throws IOException If there is an issue writing.
+         */
+        void write(int p, OutputStream stream) throws IOException {
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(stream, 1 << 16));
+            out.writeInt(PartitionWorker.MAGIC);
+            out.writeInt(size[p]);
+            out.writeInt(internal[p]);
+            for (int e = 0; e < edges; e++) {
+                int u = edgeFrom[e], v = edgeTo[e];
+                if (u != v && part[u] == p && part[v] == p) {
+                    out.writeInt(local[u]);
+                    out.writeInt(local[v]);
+                    out.writeFloat(edgeWeight[e]);
+                }
+            }
+            out.flush();
+        }
+    }
+    
+    /** parts is the number of parts, and so of workers, to split a graph into.
+     */
+    private final int parts;
+    /** separateProcesses indicates whether each worker runs in its own JVM.
+     */
+    private final boolean separateProcesses;
+    /** localEdges is the number of tree edges the workers returned in the last run.
+     */
+    private long localEdges;
+    /** cutEdges is the number of edges between different parts in the last run.
+     */
+    private long cutEdges;
+    /** from, to and weight hold the tree edges of the last run in the order Kruskal's Algorithm added them.
+     */
+    private int[] from, to;
+    private float[] weight;
+    /** treeEdges is the number of tree edges found by the last run.
+     */
+    private int treeEdges;
+    
+    /** Constructor that creates a new PartitionedMST.
+     * 
+     * @param newParts The number of parts, and so of workers, to split a graph into.
+     * @param newSeparateProcesses Whether each worker runs in its own JVM rather than as a thread.
+     * @throws IllegalArgumentException If newParts is not positive.
+     */
+    public PartitionedMST(int newParts, boolean newSeparateProcesses) throws IllegalArgumentException {
+        if (newParts <= 0)
+            throw new IllegalArgumentException("Error while constructing a new PartitionedMST(int, boolean): The newParts parameter (" + newParts + ") is not positive!");
+        
+        parts = newParts;
+        separateProcesses = newSeparateProcesses;
+    }
+    
+    /** run finds the Minimum Spanning Tree (or forest) of the passed-in graph
+     *  and passes each tree edge to the consumer once all of them are known.
+     *  Kruskal's Algorithm does not orient edges, so the parent and child
+     *  passed to the consumer are only the edge's two endpoints.
+     * 
+     * @param <K> The type stored in the graph's vertices.
+     * @param graph The undirected graph whose Minimum Spanning Tree to find.
+     * @param consumer The consumer to pass each tree edge to, or null.
+     * @return The VertexIndex that maps the tree's vertex indexes to their items.
+     * @throws IllegalArgumentException If graph is null or directed.
+     * @throws IOException If a worker fails or cannot be started.
+     * @throws InterruptedException If this thread is interrupted while waiting for the workers.
+     */
+    public <K extends Comparable<? super K>> VertexIndex<K> run(FloatCSRGraph<K> graph, MSTEdgeConsumer consumer) throws IllegalArgumentException, IOException, InterruptedException {
+        if (graph == null)
+            throw new IllegalArgumentException("Error while executing run(FloatCSRGraph<K>, MSTEdgeConsumer) in PartitionedMST: The graph parameter is null!");
+        else if (graph.isDirected())
+            throw new IllegalArgumentException("Error while executing run(FloatCSRGraph<K>, MSTEdgeConsumer) in PartitionedMST: The graph is directed!");
+        
+        // Each undirected edge is listed at both endpoints; take it once.
+        int n = graph.vertexCount(), count = 0;
+        for (int u = 0; u < n; u++)
+            for (int i = graph.offsets[u]; i < graph.offsets[u + 1]; i++)
+                if (u < graph.targets[i])
+                    count++;
+        int[] edgeFrom = new int[count], edgeTo = new int[count];
+        float[] edgeWeight = new float[count];
+        int e = 0;
+        for (int u = 0; u < n; u++)
+            for (int i = graph.offsets[u]; i < graph.offsets[u + 1]; i++)
+                if (u < graph.targets[i]) {
+                    edgeFrom[e] = u;
+                    edgeTo[e] = graph.targets[i];
+                    edgeWeight[e++] = graph.weights[i];
+                }
+        return run(graph, edgeFrom, edgeTo, edgeWeight, count, consumer);
+    }
+    
+    /** run finds the Minimum Spanning Tree (or forest) of the passed-in graph,
+     *  like run(FloatCSRGraph, MSTEdgeConsumer), reading its flat edge list
+     *  directly since it already stores each edge once.
+     * 
+     * @param <K> The type stored in the graph's vertices.
+     * @param graph The graph whose Minimum Spanning Tree to find.
+     * @param consumer The consumer to pass each tree edge to, or null.
+     * @return The VertexIndex that maps the tree's vertex indexes to their items.
+     * @throws IllegalArgumentException If graph is null.
+     * @throws IOException If a worker fails or cannot be started.
+     * @throws InterruptedException If this thread is interrupted while waiting for the workers.
+     */
+    public <K extends Comparable<? super K>> VertexIndex<K> run(EdgeListFloatGraph<K> graph, MSTEdgeConsumer consumer) throws IllegalArgumentException, IOException, InterruptedException {
+        if (graph == null)
+            throw new IllegalArgumentException("Error while executing run(EdgeListFloatGraph<K>, MSTEdgeConsumer) in PartitionedMST: The graph parameter is null!");
+        
+        return run(graph, graph.from, graph.to, graph.weights, graph.from.length, consumer);
+    }
+    
+    /** run partitions the passed-in graph, hands each part's internal edges to
+     *  a worker and merges the workers' forests with the cut edges.
+     * 
+     * @param <K> The type stored in the graph's vertices.
+     * @param graph The graph to partition.
+     * @param edgeFrom One endpoint of each of the graph's edges, each listed once.
+     * @param edgeTo The other endpoint of each edge.
+     * @param edgeWeight The weight of each edge.
+     * @param edges The number of edges.
+     * @param consumer The consumer to pass each tree edge to, or null.
+     * @return The VertexIndex that maps the tree's vertex indexes to their items.
+     * @throws IOException If a worker fails or cannot be started.
+     * @throws InterruptedException If this thread is interrupted while waiting for the workers.
+     */
+    private <K extends Comparable<? super K>> VertexIndex<K> run(FloatGraph<K> graph, int[] edgeFrom, int[] edgeTo, float[] edgeWeight, int edges, MSTEdgeConsumer consumer) throws IOException, InterruptedException {
+        int n = graph.vertexCount();
+        int[] part = GraphPartitioner.partition(graph, parts);
+        
+        // Number the vertices of each part from 0, and remember which vertex each local number is.
+        int[] local = new int[n];
+        int[] size = new int[parts];
+        for (int v = 0; v < n; v++)
+            local[v] = size[part[v]]++;
+        int[][] members = new int[parts][];
+        for (int p = 0; p < parts; p++)
+            members[p] = new int[size[p]];
+        for (int v = 0; v < n; v++)
+            members[part[v]][local[v]] = v;
+        
+        // Count each part's internal edges for its worker request, and keep the cut edges here.
+        int[] internal = new int[parts];
+        int cut = 0;
+        for (int e = 0; e < edges; e++)
+            if (edgeFrom[e] == edgeTo[e])
+                continue; // A loop is never in the tree.
+            else if (part[edgeFrom[e]] == part[edgeTo[e]])
+                internal[part[edgeFrom[e]]]++;
+            else
+                cut++;
+        // The candidates for the tree are the cut edges, followed later by the workers' forests.
+        int capacity = cut;
+        for (int p = 0; p < parts; p++)
+            capacity += size[p];
+        int[] candidateFrom = new int[capacity], candidateTo = new int[capacity];
+        float[] candidateWeight = new float[capacity];
+        int candidates = 0;
+        for (int e = 0; e < edges; e++) {
+            int u = edgeFrom[e], v = edgeTo[e];
+            if (u != v && part[u] != part[v]) {
+                candidateFrom[candidates] = u;
+                candidateTo[candidates] = v;
+                candidateWeight[candidates++] = edgeWeight[e];
+            }
+        }
+        cutEdges = cut;
+        
+        // Run the workers and gather their forests, translated back to the graph's vertex indexes.
+        // A thread worker needs a second thread to read its request while the first writes it.
+        Requests requests = new Requests(part, local, size, internal, edgeFrom, edgeTo, edgeWeight, edges);
+        ExecutorService pool = Executors.newFixedThreadPool(separateProcesses ? parts : 2 * parts);
+        ArrayList<Future<byte[]>> results = new ArrayList<>(parts);
+        try {
+            for (int p = 0; p < parts; p++) {
+                int worker = p;
+                results.add(pool.submit(() -> solve(requests, worker, pool)));
+            }
+            for (int p = 0; p < parts; p++) {
+                DataInputStream in = new DataInputStream(new ByteArrayInputStream(results.get(p).get()));
+                if (in.readInt() != PartitionWorker.MAGIC)
+                    throw new IOException("Error while executing run(FloatGraph<K>, int[], int[], float[], int, MSTEdgeConsumer) in PartitionedMST: Worker " + p + " answered out of step!");
+                int count = in.readInt();
+                for (int e = 0; e < count; e++) {
+                    candidateFrom[candidates] = members[p][in.readInt()];
+                    candidateTo[candidates] = members[p][in.readInt()];
+                    candidateWeight[candidates++] = in.readFloat();
+                }
+            }
+            localEdges = candidates - cut;
+            kruskal(n, candidateFrom, candidateTo, candidateWeight, candidates);
+        } catch (ExecutionException e) {
+            throw new IOException("Error while executing run(FloatGraph<K>, int[], int[], float[], int, MSTEdgeConsumer) in PartitionedMST: A worker failed!", e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+        
+        if (consumer != null)
+            for (int e = 0; e < treeEdges; e++)
+                consumer.accept(from[e], to[e], weight[e]);
+        return graph.getIndex();
+    }
+    
+    /** solve streams one part's worker request to a PartitionWorker and returns its answer.
+     * 
+     * @param requests The requests of every part.
+     * @param p The part to solve.
+     * @param pool The pool to run a thread worker in.
+     * @return The worker's answer.
+     * @throws IOException If the worker fails or cannot be started.
+     * @throws InterruptedException If this thread is interrupted while waiting for the worker.
+     */
+    private byte[] solve(Requests requests, int p, ExecutorService pool) throws IOException, InterruptedException {
+        if (!separateProcesses) {
+            PipedOutputStream request = new PipedOutputStream();
+            PipedInputStream input = new PipedInputStream(request, 1 << 16);
+            Future<byte[]> answer = pool.submit(() -> {
+                ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                DataOutputStream out = new DataOutputStream(bytes);
+                // Closing the input when done, or failed, stops the request writer from waiting on a reader that is gone.
+                try (DataInputStream in = new DataInputStream(input)) {
+                    PartitionWorker.solve(in, out);
+                }
+                out.flush();
+                return bytes.toByteArray();
+            });
+            try (OutputStream out = request) {
+                requests.write(p, out);
+            } catch (IOException e) {
+                // The worker stopped reading early, and its answer reports why.
+            }
+            try {
+                return answer.get();
+            } catch (ExecutionException e) {
+                throw new IOException("Error while executing solve(Requests, int, ExecutorService) in PartitionedMST: Worker " + p + " failed!", e.getCause());
+            }
+        }
+        
+        String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+        Process worker = new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"), "PartitionWorker")
+            .redirectError(ProcessBuilder.Redirect.INHERIT)
+            .start();
+        try {
+            // The worker reads its whole request before answering, so writing it all first cannot deadlock.
+            try (OutputStream out = worker.getOutputStream()) {
+                requests.write(p, out);
+            }
+            byte[] answer;
+            try (BufferedInputStream in = new BufferedInputStream(worker.getInputStream())) {
+                answer = in.readAllBytes();
+            }
+            int status = worker.waitFor();
+            if (status != 0)
+                throw new IOException("Error while executing solve(Requests, int, ExecutorService) in PartitionedMST: The worker process exited with status " + status + "!");
+            return answer;
+        } finally {
+            // A worker still running here was abandoned part way through the exchange.
+            if (worker.isAlive())
+                worker.destroyForcibly();
+        }
+    }
+    
+    /** kruskal keeps each of the passed-in candidate edges, from lightest to
+     *  heaviest, that joins two different components. The candidate arrays are
+     *  sorted by weight in place.
+     * 
+     * @param n The number of vertices.
+     * @param candidateFrom The from vertex of each candidate edge.
+     * @param candidateTo The to vertex of each candidate edge.
+     * @param candidateWeight The weight of each candidate edge.
+     * @param candidates The number of candidate edges.
+     */
+    private void kruskal(int n, int[] candidateFrom, int[] candidateTo, float[] candidateWeight, int candidates) {
+        FloatRadixSort.sort(candidateWeight, candidateFrom, candidateTo, candidates);
+        
+        int[] component = new int[n];
+        for (int v = 0; v < n; v++)
+            component[v] = v;
+        from = new int[Math.max(n - 1, 0)];
+        to = new int[from.length];
+        weight = new float[from.length];
+        treeEdges = 0;
+        for (int i = 0; i < candidates && treeEdges < from.length; i++) {
+            int a = UnionFind.find(component, candidateFrom[i]), b = UnionFind.find(component, candidateTo[i]);
+            if (a != b) {
+                component[a] = b;
+                from[treeEdges] = candidateFrom[i];
+                to[treeEdges] = candidateTo[i];
+                weight[treeEdges++] = candidateWeight[i];
+            }
+        }
+    }
+    
+    /** getLocalEdgeCount returns the number of tree edges the workers returned in the last run.
+     * 
+     * @return The localEdges attribute.
+     */
+    public long getLocalEdgeCount() {
+        return localEdges;
+    }
+    
+    /** getCutEdgeCount returns the number of edges between different parts in the last run.
+     * 
+     * @return The cutEdges attribute.
+     */
+    public long getCutEdgeCount() {
+        return cutEdges;
+    }
+    
+    /** getTreeEdgeCount returns the number of tree edges found by the last run.
+     * 
+     * @return The treeEdges attribute.
+     */
+    public int getTreeEdgeCount() {
+        return treeEdges;
+    }
+    
+    /** getTotalWeight returns the total weight of the tree found by the last run.
+     * 
+     * @return The sum of the tree's edge weights.
+     */
+    public double getTotalWeight() {
+        double total = 0;
+        for (int e = 0; e < treeEdges; e++)
+            total += weight[e];
+        return total;
+    }
+}
\ No newline at end of file
@@ -7,7 +7,7 @@
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.TreeSet;
 
@@ -44,7 +44,7 @@ public class Prim<K extends Comparable<? super K>, V extends Comparable<? super
          * Minimum Spanning Tree.
          */
         mst = new UndirectedWeightedGraph<K, V>();
-        ExecutePrim((UndirectedWeightedGraph<K, V>) parser.getGraph());
+        ExecutePrim((UndirectedWeightedGraph<K, V>) parser.getGraph(), VertexOrdering.NATURAL);
     }
     
     /** Constructor that creates a new instance of Prim using the passed-in UndirectedWeightedGraph.
@@ -59,61 +59,296 @@ public class Prim<K extends Comparable<? super K>, V extends Comparable<? super
         
         // Initialize, and then find, the mst.
         mst = new UndirectedWeightedGraph<K, V>();
-        ExecutePrim(uwgraph);
+        ExecutePrim(uwgraph, VertexOrdering.NATURAL);
+    }
+    
+    /** Constructor that creates a new instance of Prim using the passed-in
+     *  UndirectedWeightedGraph, whose vertices are renumbered by the passed-in
+     *  VertexOrdering when it is frozen so that neighbors sit close together in
+     *  memory. The tree found has the same total weight, but where several
+     *  edges tie, which one is picked follows the new numbering. The ordering
+     *  applies to float-weighted graphs; the other weight types keep the
+     *  natural order.
+     * 
+     * @param uwgraph The UndirectedWeightedGraph to find its Minimum Spanning Tree.
+     * @param ordering The VertexOrdering to renumber the vertices with.
+     * @throws IllegalArgumentException If the uwgraph or ordering parameter is null.
+     */
+    public Prim(UndirectedWeightedGraph<K, V> uwgraph, VertexOrdering ordering) throws IllegalArgumentException {
+        if (uwgraph == null)
+            throw new IllegalArgumentException("Error while constructing a new Prim(UndirectedWeightedGraph<K, V>, VertexOrdering): The uwgraph parameter is null!");
+        else if (ordering == null)
+            throw new IllegalArgumentException("Error while constructing a new Prim(UndirectedWeightedGraph<K, V>, VertexOrdering): The ordering parameter is null!");
+        
+        mst = new UndirectedWeightedGraph<K, V>();
+        ExecutePrim(uwgraph, ordering);
+    }
+    
+    /** Constructor that creates a new instance of Prim that only grows the part
+     *  of the Minimum Spanning Tree closest to the root: it stops after maxEdges
+     *  tree edges, or once the next tree edge would weigh more than maxWeight.
+     *  Each tree edge is also passed to the consumer as soon as it is found,
+     *  with vertices numbered as in new VertexIndex{@literal <}{@literal >}(uwgraph).
+     * 
+     * @param uwgraph The UndirectedWeightedGraph to find part of its Minimum Spanning Tree.
+     * @param maxEdges The maximum number of tree edges to find.
+     * @param maxWeight The maximum weight of a tree edge.
+     * @param consumer The consumer to stream each tree edge to, or null.
+     * @throws IllegalArgumentException If the uwgraph parameter is null or maxEdges is negative.
+     */
+    public Prim(UndirectedWeightedGraph<K, V> uwgraph, int maxEdges, float maxWeight, MSTEdgeConsumer consumer) throws IllegalArgumentException {
+        // First check that the uwgraph parameter is not null.
+        if (uwgraph == null)
+            throw new IllegalArgumentException("Error while constructing a new Prim(UndirectedWeightedGraph<K, V>, int, float, MSTEdgeConsumer): The uwgraph parameter is null!");
+        else if (maxEdges < 0)
+            throw new IllegalArgumentException("Error while constructing a new Prim(UndirectedWeightedGraph<K, V>, int, float, MSTEdgeConsumer): The maxEdges parameter (" + maxEdges + ") is negative!");
+        
+        // Initialize, and then find, the partial mst.
+        mst = new UndirectedWeightedGraph<K, V>();
+        ExecuteBoundedPrim(uwgraph, maxEdges, maxWeight, consumer);
+    }
+    
+    /** freeze copies the passed-in graph into the compact FloatCSRGraph that
+     *  stream runs over. Its getIndex() maps the streamed vertex indexes to
+     *  their items, so a consumer that needs it, such as a GLEdgeWriter, can
+     *  be created before streaming starts.
+     * 
+     * @param <K> The type stored in the Vertexes of the graph.
+     * @param <V> The WeightedEdge value type stored in the edges.
+     * @param uwgraph The UndirectedWeightedGraph to freeze.
+     * @return The compact copy of the graph, with float weights.
+     * @throws IllegalArgumentException If the uwgraph parameter is null.
+     */
+    public static <K extends Comparable<? super K>, V extends Comparable<? super V>> FloatCSRGraph<K> freeze(UndirectedWeightedGraph<K, V> uwgraph) throws IllegalArgumentException {
+        if (uwgraph == null)
+            throw new IllegalArgumentException("Error while executing freeze(UndirectedWeightedGraph<K, V>) in Prim: The uwgraph parameter is null!");
+        
+        return FloatCSRGraph.of(uwgraph);
+    }
+    
+    /** freeze copies the passed-in GLParser's weighted graph into the compact
+     *  FloatCSRGraph that stream runs over.
+     * 
+     * @param parser The GLParser holding the graph.
+     * @return The compact copy of the graph, with float weights.
+     * @throws IllegalArgumentException If parser or its underlying graph is null,
+     * or the graph is not weighted.
+     */
+    public static FloatCSRGraph<String> freeze(GLParser parser) throws IllegalArgumentException {
+        if (parser == null)
+            throw new IllegalArgumentException("Error while executing freeze(GLParser) in Prim: The parser parameter is null!");
+        else if (parser.getGraph() == null)
+            throw new IllegalArgumentException("Error while executing freeze(GLParser) in Prim: The parser's underlying Graph<K> is null!");
+        else if (!parser.isWeighted())
+            throw new IllegalArgumentException("Error while executing freeze(GLParser) in Prim: Prim's Algorithm will not work with a non-weighted graph!");
+        
+        return freeze((UndirectedWeightedGraph<String, Float>) parser.getGraph());
+    }
+    
+    /** stream finds the Minimum Spanning Tree (or forest) of the passed-in
+     *  frozen graph, such as one returned by freeze, and passes each tree edge
+     *  to the consumer as soon as it is found, without building the tree as a
+     *  Graph. Downstream stages such as a GLEdgeWriter can therefore run while
+     *  the tree is still being found. Vertices are numbered as in the graph's
+     *  getIndex(), and weights are streamed as floats. A run that should
+     *  survive a restart needs stream(FloatGraph, MSTEdgeConsumer, File, long).
+     * 
+     * @param <K> The type stored in the graph's vertices.
+     * @param graph The undirected graph to find its Minimum Spanning Tree.
+     * @param consumer The consumer to stream each tree edge to.
+     * @throws IllegalArgumentException If the graph or consumer parameter is null, or the graph is directed.
+     */
+    public static <K extends Comparable<? super K>> void stream(FloatGraph<K> graph, MSTEdgeConsumer consumer) throws IllegalArgumentException {
+        if (graph == null)
+            throw new IllegalArgumentException("Error while executing stream(FloatGraph<K>, MSTEdgeConsumer) in Prim: The graph parameter is null!");
+        else if (graph.isDirected())
+            throw new IllegalArgumentException("Error while executing stream(FloatGraph<K>, MSTEdgeConsumer) in Prim: The graph is directed!");
+        else if (consumer == null)
+            throw new IllegalArgumentException("Error while executing stream(FloatGraph<K>, MSTEdgeConsumer) in Prim: The consumer parameter is null!");
+        
+        floatEngine(graph).ExecutePrim(graph.getIndex().indexOfRoot(), consumer);
+    }
+    
+    /** stream finds the Minimum Spanning Tree (or forest) of the passed-in
+     *  frozen graph and streams each tree edge like stream(FloatGraph,
+     *  MSTEdgeConsumer), but saves the run's state to the passed-in checkpoint
+     *  file at most every intervalMillis, and resumes from that file rather
+     *  than starting over if it already exists. Only the heap-based
+     *  FloatPrimEngine can checkpoint, so it is used even for a graph that
+     *  would otherwise get the DenseFloatPrimEngine. After a resume, the tree
+     *  edges found after the last save are streamed again.
+     * 
+     * @param <K> The type stored in the graph's vertices.
+     * @param graph The undirected graph to find its Minimum Spanning Tree.
+     * @param consumer The consumer to stream each tree edge to.
+     * @param checkpoint The file to save the run's state to and resume from.
+     * @param intervalMillis The least time between two saves.
+     * @throws IllegalArgumentException If the graph, consumer or checkpoint parameter is null, the graph is directed,
+     * intervalMillis is negative, or the checkpoint is not one of a run over this graph.
+     * @throws IOException If there is an issue reading or saving the checkpoint.
+     */
+    public static <K extends Comparable<? super K>> void stream(FloatGraph<K> graph, MSTEdgeConsumer consumer, File checkpoint, long intervalMillis) throws IllegalArgumentException, IOException {
+        if (graph == null)
+            throw new IllegalArgumentException("Error while executing stream(FloatGraph<K>, MSTEdgeConsumer, File, long) in Prim: The graph parameter is null!");
+        else if (graph.isDirected())
+            throw new IllegalArgumentException("Error while executing stream(FloatGraph<K>, MSTEdgeConsumer, File, long) in Prim: The graph is directed!");
+        else if (consumer == null)
+            throw new IllegalArgumentException("Error while executing stream(FloatGraph<K>, MSTEdgeConsumer, File, long) in Prim: The consumer parameter is null!");
+        else if (checkpoint == null)
+            throw new IllegalArgumentException("Error while executing stream(FloatGraph<K>, MSTEdgeConsumer, File, long) in Prim: The checkpoint parameter is null!");
+        
+        FloatPrimEngine engine = new FloatPrimEngine(graph);
+        if (checkpoint.exists())
+            engine.ResumePrim(checkpoint, consumer, intervalMillis);
+        else
+            engine.ExecutePrim(graph.getIndex().indexOfRoot(), consumer, checkpoint, intervalMillis);
     }
     
     /** ExecutePrim finds the Minimum Spanning Tree of the passed-in weighted graph
      *  using Prim's Algorithm and stores the result in Prim's mst attribute.
+     *  The graph is first frozen into a compact graph matching its weight type
+     *  (Double, Integer and Long weights keep their type, any other weight is
+     *  read as a float, and the tree edges then keep their original weights)
+     *  and then handed to the matching primitive engine;
+     *  dense float graphs go to the O(V^2) DenseFloatPrimEngine.
      * 
      * @param graph The graph for which to find the Minimum Spanning Tree.
+     * @param ordering The VertexOrdering to renumber a float-weighted graph's vertices with.
      */
-    private void ExecutePrim(UndirectedWeightedGraph<K, V> graph) {
-        // Create a new PriorityQueue as part of executing Prim's Algorithm.
-        PriorityQueue<Vertex<K>, Float> queue = new PriorityQueue<>(graph.getVertices().size());
-        
-        /* Go through the Vertexes of the graph and set their
-         * attachment costs as appropriate (0 for designated "r"
-         * root node, Float.MAX_VALUE for the rest), and then add
-         * it to the PriorityQueue.
-         */
-        for (Vertex<K> vertex : graph.getVertices()) {
-            vertex.setAttachCost(vertex.equals((K) "r") ? 0.0f : Float.MAX_VALUE);
-            queue.Insert(vertex, vertex.getAttachCost());
-        }
+    private void ExecutePrim(UndirectedWeightedGraph<K, V> graph, VertexOrdering ordering) {
+        // Look at the first edge to find out which primitive weight type the graph holds.
+        Edge sample = null;
+        for (TreeSet<Edge> list : graph.graph.values())
+            if (!list.isEmpty()) {
+                sample = list.first();
+                break;
+            }
         
         /* The mst graph is always empty at this point
          * because this function is only executed
-         * in the constructors for Prim.
-         */
-        
-        /* Now go through the PriorityQueue, extract each Vertex, add to
-         * mst, and then for each adjacent Vertex, update its attachment cost
-         * and parent Vertex to the currently extracted Vertex if the attachment
-         * cost from this Vertex to the destination Vertex is less than the
-         * destination Vertex's current attachment cost.
+         * in the constructors for Prim. The mst gets its
+         * own copy of each Vertex so that it is unaffected
+         * by later runs over the same (possibly shared) graph.
          */
-        while (!queue.isEmpty()) {
-            float subtotal = queue.GetValue(queue.FindMin());
-            Vertex vertex = queue.ExtractMin();
-            
-            mst.addVertex(vertex); // Add Vertex with its lowest-cost edge weight to MST.
-            if (vertex.getParent() != null) // Skip edge if root (no parent).
-                ((UndirectedWeightedGraph<K, Float>) mst).addEdge(vertex.getParent(), vertex, vertex.getAttachCost());
-            
-            // Go through each adjacent Vertex and see whether it is affected by the extraction.
-            for (WeightedEdge<Float> edge : (TreeSet<WeightedEdge<Float>>) graph.getEdges(vertex)) {
-                if (!mst.getVertices().contains(edge.getTo())) { // Skip vertices that have already been extracted.
-                    float totalAttachmentCost = subtotal + edge.getWeight();
-                    if (Float.compare(totalAttachmentCost, queue.GetValue(edge.getTo())) < 0) {
-                        queue.ChangeKey(edge.getTo(), totalAttachmentCost);
-                        edge.getTo().setAttachCost(edge.getWeight());
-                        edge.getTo().setParent(vertex);
-                    }
-                }
+        if (sample instanceof DoubleWeightedEdge || (sample instanceof WeightedEdge && ((WeightedEdge) sample).getWeight() instanceof Double)) {
+            DoubleCSRGraph<K> compact = DoubleCSRGraph.of(graph);
+            DoublePrimEngine engine = new DoublePrimEngine(compact);
+            engine.ExecutePrim(compact.getIndex().indexOfRoot());
+            Vertex<K>[] copies = new Vertex[compact.vertexCount()];
+            for (int i = 0; i < engine.getExtracted(); i++) {
+                int vertex = engine.getOrder()[i];
+                double cost = engine.getCost()[vertex];
+                addToMST(compact.getIndex(), copies, vertex, engine.getParent()[vertex], (float) cost, (V) (Object) cost);
+            }
+        } else if (sample instanceof IntWeightedEdge || (sample instanceof WeightedEdge && ((WeightedEdge) sample).getWeight() instanceof Integer)) {
+            IntCSRGraph<K> compact = IntCSRGraph.of(graph);
+            IntPrimEngine engine = new IntPrimEngine(compact);
+            engine.ExecutePrim(compact.getIndex().indexOfRoot());
+            Vertex<K>[] copies = new Vertex[compact.vertexCount()];
+            for (int i = 0; i < engine.getExtracted(); i++) {
+                int vertex = engine.getOrder()[i];
+                int cost = engine.getCost()[vertex];
+                addToMST(compact.getIndex(), copies, vertex, engine.getParent()[vertex], (float) cost, (V) (Object) cost);
+            }
+        } else if (sample instanceof LongWeightedEdge || (sample instanceof WeightedEdge && ((WeightedEdge) sample).getWeight() instanceof Long)) {
+            LongCSRGraph<K> compact = LongCSRGraph.of(graph);
+            LongPrimEngine engine = new LongPrimEngine(compact);
+            engine.ExecutePrim(compact.getIndex().indexOfRoot());
+            Vertex<K>[] copies = new Vertex[compact.vertexCount()];
+            for (int i = 0; i < engine.getExtracted(); i++) {
+                int vertex = engine.getOrder()[i];
+                long cost = engine.getCost()[vertex];
+                addToMST(compact.getIndex(), copies, vertex, engine.getParent()[vertex], (float) cost, (V) (Object) cost);
+            }
+        } else {
+            // Only Float weights can be stored as the engine's cost; any other type keeps its original weight.
+            boolean isFloat = sample == null || sample instanceof FloatWeightedEdge || (sample instanceof WeightedEdge && ((WeightedEdge) sample).getWeight() instanceof Float);
+            FloatCSRGraph<K> compact = FloatCSRGraph.of(graph, ordering);
+            VertexIndex<K> index = compact.getIndex();
+            FloatMSTEngine engine = floatEngine(compact);
+            engine.ExecutePrim(index.indexOfRoot(), null);
+            Vertex<K>[] copies = new Vertex[compact.vertexCount()];
+            for (int i = 0; i < engine.getExtracted(); i++) {
+                int vertex = engine.getOrder()[i], parent = engine.getParent()[vertex];
+                float cost = engine.getCost()[vertex];
+                addToMST(index, copies, vertex, parent, cost, isFloat ? (V) (Object) cost : originalWeight(graph, index, parent, vertex));
             }
         }
     }
     
+    /** ExecuteBoundedPrim grows the Minimum Spanning Tree of the passed-in graph
+     *  from its root until either bound is reached, and stores the partial
+     *  tree in Prim's mst attribute. The bounded search always runs over float
+     *  weights; the mst keeps the original weights of the tree edges.
+     * 
+     * @param graph The graph for which to find part of the Minimum Spanning Tree.
+     * @param maxEdges The maximum number of tree edges to find.
+     * @param maxWeight The maximum weight of a tree edge.
+     * @param consumer The consumer to stream each tree edge to, or null.
+     */
+    private void ExecuteBoundedPrim(UndirectedWeightedGraph<K, V> graph, int maxEdges, float maxWeight, MSTEdgeConsumer consumer) {
+        FloatCSRGraph<K> compact = FloatCSRGraph.of(graph);
+        VertexIndex<K> index = compact.getIndex();
+        FloatPrimEngine engine = new FloatPrimEngine(compact);
+        engine.ExecuteBoundedPrim(index.indexOfRoot(), maxEdges, maxWeight, consumer);
+        
+        Vertex<K>[] copies = new Vertex[compact.vertexCount()];
+        for (int i = 0; i < engine.getExtracted(); i++) {
+            int vertex = engine.getOrder()[i], parent = engine.getParent()[vertex];
+            addToMST(index, copies, vertex, parent, engine.getCost()[vertex], originalWeight(graph, index, parent, vertex));
+        }
+    }
+    
+    /** originalWeight looks up the weight, of its original type, of the edge
+     *  between the passed-in vertexes in the passed-in graph.
+     * 
+     * @param graph The graph the engine ran over.
+     * @param index The VertexIndex of the compact graph the engine ran over.
+     * @param parent The index of the edge's parent vertex, or -1 for a root.
+     * @param vertex The index of the edge's child vertex.
+     * @return The weight of the edge, or null if vertex is a root.
+     */
+    private V originalWeight(UndirectedWeightedGraph<K, V> graph, VertexIndex<K> index, int parent, int vertex) {
+        if (parent < 0)
+            return null;
+        return ((WeightedEdge<V>) graph.graph.get(new Vertex<>(index.label(parent))).floor(new Edge(new Vertex<>(index.label(vertex))))).getWeight();
+    }
+    
+    /** floatEngine returns the engine best suited to the passed-in graph: the
+     *  O(V^2) DenseFloatPrimEngine over an adjacency matrix when the
+     *  graph is undirected, close to complete and has no infinite edge, and
+     *  the heap-based FloatPrimEngine otherwise.
+     * 
+     * @param <K> The type stored in the graph's vertices.
+     * @param graph The graph whose Minimum Spanning Tree is wanted.
+     * @return A new engine for the graph.
+     */
+    static <K extends Comparable<? super K>> FloatMSTEngine floatEngine(FloatGraph<K> graph) {
+        if (!graph.isDirected() && DenseFloatGraph.isWorthwhile(graph.vertexCount(), graph.edgeCount())) {
+            DenseFloatGraph<K> dense = new DenseFloatGraph<>(graph);
+            if (!dense.hasInfiniteEdges()) // The matrix would drop an infinite edge as missing.
+                return new DenseFloatPrimEngine(dense);
+        }
+        return new FloatPrimEngine(graph);
+    }
+    
+    /** addToMST adds a copy of the passed-in extracted vertex to the mst, along
+     *  with the edge that attached it to its parent unless it is a root.
+     * 
+     * @param index The VertexIndex of the compact graph the engine ran over.
+     * @param copies The mst's copy of each vertex extracted so far.
+     * @param vertex The index of the extracted vertex.
+     * @param parent The index of the extracted vertex's parent, or -1 for a root.
+     * @param attachCost The attachment cost to store in the vertex's copy.
+     * @param weight The weight of the edge between the vertex and its parent.
+     */
+    private void addToMST(VertexIndex<K> index, Vertex<K>[] copies, int vertex, int parent, float attachCost, V weight) {
+        copies[vertex] = new Vertex<>(index.label(vertex), attachCost, parent < 0 ? null : copies[parent]);
+        
+        mst.addVertex(copies[vertex]); // Add Vertex with its lowest-cost edge weight to MST.
+        if (parent >= 0) // Skip edge if root (no parent).
+            ((UndirectedWeightedGraph<K, V>) mst).addEdge(copies[parent], copies[vertex], weight);
+    }
     
     /** getMST returns the Minimum Spanning Tree stored in this Prim instance.
      * 
@@ -123,24 +358,43 @@ public class Prim<K extends Comparable<? super K>, V extends Comparable<? super
         return mst;
     }
     
+    /** glLine formats one tree edge as a line of a .gl file.
+     * 
+     * @param parent The item of the edge's parent Vertex.
+     * @param child The item of the edge's child Vertex.
+     * @param weight The weight of the edge.
+     * @return The .gl line for the edge, including its line separator.
+     */
+    static String glLine(Object parent, Object child, float weight) {
+        return String.format( // Output floating point in either the exact needed size, or four decimal places if large.
+            Float.toString(weight).replace(".", "").length() <= 4 ?
+                "%s=%s=%." + Float.toString(weight).replace(".", "").length() + "g%s" :
+                "%s=%s=%.4g%s",
+            parent, child, weight, System.lineSeparator());
+    }
+    
     /** glFormat outputs the MST stored in this Prim into the format found in .gl files.
      * 
      * @return The .gl format of the MST stored in this MST based on its vertex information.
      */
-    private String glFormat() {
+    String glFormat() {
+        ArrayList<String> result = new ArrayList<>(mst.getVertices().size());
+        
+        for (Vertex<K> vertex : mst.getVertices())
+            if (vertex.getParent() != null) // Skip roots because they have no parent.
+                result.add(glLine(vertex.getParent(), vertex.get(), vertex.getAttachCost()));
+        
+        return glDocument(result);
+    }
+    
+    /** glDocument sorts the passed-in .gl lines and joins them under the
+     *  undirected weighted heading, which is the layout save writes.
+     * 
+     * @param result The .gl lines of the tree edges, as made by glLine; they are sorted in place.
+     * @return The contents of the .gl file.
+     */
+    static String glDocument(ArrayList<String> result) {
         String heading = String.format("%s %s%s", "undirected", "weighted", System.lineSeparator());
-        String result[] = new String[mst.getVertices().size()-1]; // -1 due to skipping root's Vertex due to having null parent.
-        
-        int i = 0; // i walks through the indexes of the result array.
-        for (Vertex<K> vertex : mst.getVertices()) {
-            if (vertex.getParent() != null) // Skip root because it has no parent.
-                result[i] = String.format( // Output floating point in either the exact needed size, or four decimal places if large.
-                    Float.toString(vertex.getAttachCost()).replace(".", "").length() <= 4 ?
-                        "%s=%s=%." + Float.toString(vertex.getAttachCost()).replace(".", "").length() + "g%s" :
-                        "%s=%s=%.4g%s",
-                    vertex.getParent(), vertex.get(), vertex.getAttachCost(), System.lineSeparator());
-            i++;
-        }
         
         // Prettify the output. First sort it alphabetically root-first.
         Comparator<String> rFirstComparator = new Comparator<>(){
@@ -154,12 +408,13 @@ public class Prim<K extends Comparable<? super K>, V extends Comparable<? super
                     return o1.compareTo(o2);
             }
         };
-        Arrays.sort(result, rFirstComparator);
+        result.sort(rFirstComparator);
         // Then append entries.
+        StringBuilder builder = new StringBuilder(heading);
         for (String line : result)
-            heading += line;
-
-        return heading;
+            builder.append(line);
+        
+        return builder.toString();
     }
     
     /** toString outputs the stored mst graph in a readable format.
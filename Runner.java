@@ -52,7 +52,7 @@ public class Runner {
                     if (!input.equalsIgnoreCase("q") &&
                         !input.equalsIgnoreCase("s")) {
                         try {
-                            prim = new Prim(new GLParser(input));
+                            prim = new Prim(new GLParser(input, true)); // Re-opening an unchanged file is served from the GLCache.
                         } catch(IllegalArgumentException | SecurityException | IOException e) {
                             System.err.println("Error while creating a new GLParser: " + e);
                         }
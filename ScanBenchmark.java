@@ -0,0 +1,99 @@
+/* Author:     Ryan McAllister-Grum
+ * UIN:        661880584
+ * Class:      20FA - Algorithms & Computation (20FA-OL-CSC482A-15037)
+ * Assignment: 3 (Implement Prim's Algorithm)
+ */
+
+import java.util.Arrays;
+import java.util.Random;
+
+/** ScanBenchmark times the kernel FloatScanKernel.load picks, which is the
+ *  Vector API kernel when it is available, against the scalar FloatScanKernel
+ *  inside the engines that use them: FloatPrimEngine over a random sparse
+ *  graph and DenseFloatPrimEngine over a random complete graph. Both kernels
+ *  must produce the same tree, which is checked on every run.
+ * 
+ *  Usage: java [--add-modules jdk.incubator.vector] ScanBenchmark [vertices] [average degree] [dense vertices] [runs]
+ */
+public class ScanBenchmark {
+    public static void main(String[] args) {
+        int vertices = args.length > 0 ? Integer.parseInt(args[0]) : 200000;
+        int degree = args.length > 1 ? Integer.parseInt(args[1]) : 32;
+        int denseVertices = args.length > 2 ? Integer.parseInt(args[2]) : 3000;
+        int runs = args.length > 3 ? Integer.parseInt(args[3]) : 5;
+        Random random = new Random(482);
+        FloatScanKernel scalarKernel = new FloatScanKernel(), loadedKernel = FloatScanKernel.load();
+        System.out.println("Kernels: " + scalarKernel.getName() + " against " + loadedKernel.getName());
+        
+        FloatCSRGraph<Integer> sparse = randomGraph(vertices, (long) vertices * degree / 2, random);
+        System.out.println("Sparse graph: " + sparse.vertexCount() + " vertices, " + sparse.edgeCount() + " edges");
+        for (int run = 0; run < runs; run++) {
+            FloatPrimEngine scalar = new FloatPrimEngine(sparse, scalarKernel);
+            FloatPrimEngine loaded = new FloatPrimEngine(sparse, loadedKernel);
+            long start = System.nanoTime();
+            scalar.ExecutePrim(0);
+            long middle = System.nanoTime();
+            loaded.ExecutePrim(0);
+            long end = System.nanoTime();
+            report(run, middle - start, end - middle, Arrays.equals(scalar.getParent(), loaded.getParent()));
+        }
+        
+        DenseFloatGraph<Integer> dense = new DenseFloatGraph<>(randomGraph(denseVertices, (long) denseVertices * (denseVertices - 1) / 2, random));
+        System.out.println("Dense graph: " + dense.vertexCount() + " vertices");
+        for (int run = 0; run < runs; run++) {
+            DenseFloatPrimEngine scalar = new DenseFloatPrimEngine(dense, scalarKernel);
+            DenseFloatPrimEngine loaded = new DenseFloatPrimEngine(dense, loadedKernel);
+            long start = System.nanoTime();
+            scalar.ExecutePrim(0);
+            long middle = System.nanoTime();
+            loaded.ExecutePrim(0);
+            long end = System.nanoTime();
+            report(run, middle - start, end - middle, Arrays.equals(scalar.getParent(), loaded.getParent()));
+        }
+    }
+    
+    /** report prints the timings of one run.
+     * 
+     * @param run The number of the run.
+     * @param scalar The nanoseconds taken with the scalar kernel.
+     * @param loaded The nanoseconds taken with the loaded kernel.
+     * @param same Whether both produced the same tree.
+     */
+    private static void report(int run, long scalar, long loaded, boolean same) {
+        System.out.printf("  run %d: scalar %.1f ms, loaded %.1f ms, speedup %.2fx%s%n", run, scalar / 1e6, loaded / 1e6,
+            (double) scalar / loaded, same ? "" : " (TREES DIFFER!)");
+    }
+    
+    /** randomGraph builds an undirected FloatCSRGraph over the passed-in number
+     *  of vertices with random edges and weights; an edge count of at least
+     *  n(n - 1) / 2 gives the complete graph.
+     * 
+     * @param n The number of vertices.
+     * @param edges The number of edges.
+     * @param random The source of randomness.
+     * @return The new FloatCSRGraph.
+     */
+    private static FloatCSRGraph<Integer> randomGraph(int n, long edges, Random random) {
+        boolean complete = edges >= (long) n * (n - 1) / 2;
+        int m = (int) (complete ? (long) n * (n - 1) / 2 : edges);
+        int[] from = new int[m], to = new int[m];
+        float[] weight = new float[m];
+        int e = 0;
+        if (complete) {
+            for (int i = 0; i < n; i++)
+                for (int j = i + 1; j < n; j++, e++) {
+                    from[e] = i;
+                    to[e] = j;
+                }
+        } else {
+            for (; e < m; e++) {
+                from[e] = random.nextInt(n);
+                to[e] = random.nextInt(n);
+            }
+        }
+        for (e = 0; e < m; e++)
+            weight[e] = random.nextFloat();
+        
+        return FloatCSRGraph.of(n, from, to, weight, m, false);
+    }
+}
\ No newline at end of file
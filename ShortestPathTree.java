@@ -0,0 +1,254 @@
+/* Author:     Ryan McAllister-Grum
+ * UIN:        661880584
+ * Class:      20FA - Algorithms & Computation (20FA-OL-CSC482A-15037)
+ * Assignment: 3 (Implement Prim's Algorithm)
+ */
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/** ShortestPathTree finds shortest paths from one source vertex with
+ *  Dijkstra's Algorithm, over a FloatGraph frozen from either a
+ *  DirectedWeightedGraph or an UndirectedWeightedGraph. Unlike Prim's
+ *  Algorithm, which keys each vertex by the weight of the single edge that
+ *  would attach it, Dijkstra's keys it by the length of the whole path from
+ *  the source. Like FloatPrimEngine, the distances and parents live in
+ *  primitive arrays, but the queue is an IndexedDoubleMinHeap: the float
+ *  edge weights are summed as doubles, so a long path does not lose the
+ *  light edges at its end to rounding. A run can stop as soon as every
+ *  requested target has been settled, so a query between nearby vertices
+ *  does not explore the whole graph. Every edge weight must be non-negative.
+ * 
+ * @param <K> The type stored in the graph's vertices.
+ */
+public class ShortestPathTree<K extends Comparable<? super K>> {
+    /** The graph this engine searches.
+     */
+    private final FloatGraph<K> graph;
+    /** parent holds the vertex before each vertex on its shortest path, or -1 for the source and unreached vertices.
+     */
+    private final int[] parent;
+    /** distance holds the length of the shortest path found to each vertex, or +infinity if it was not reached.
+     */
+    private final double[] distance;
+    /** settled indicates whether each vertex's distance is final.
+     */
+    private final boolean[] settled;
+    /** order holds the vertex indexes in the order they were settled.
+     */
+    private final int[] order;
+    /** extracted is the number of vertices settled by the last run.
+     */
+    private int extracted;
+    /** source is the index of the source of the last run, or -1 before the first run.
+     */
+    private int source = -1;
+    
+    /** Constructor that freezes the passed-in directed or undirected weighted graph for searching.
+     * 
+     * @param newGraph The graph to search.
+     * @throws IllegalArgumentException If newGraph is null or an edge has no numerical weight.
+     */
+    public ShortestPathTree(Graph<K> newGraph) throws IllegalArgumentException {
+        this(FloatCSRGraph.of(newGraph));
+    }
+    
+    /** Constructor that searches the passed-in compact graph.
+     * 
+     * @param newGraph The graph to search.
+     * @throws IllegalArgumentException If newGraph is null.
+     */
+    public ShortestPathTree(FloatGraph<K> newGraph) throws IllegalArgumentException {
+        if (newGraph == null)
+            throw new IllegalArgumentException("Error while creating a new ShortestPathTree: The newGraph parameter is null!");
+        
+        graph = newGraph;
+        int n = graph.vertexCount();
+        parent = new int[n];
+        distance = new double[n];
+        settled = new boolean[n];
+        order = new int[n];
+    }
+    
+    /** ExecuteDijkstra finds the shortest path from the passed-in source to every vertex it can reach.
+     * 
+     * @param newSource The index of the source vertex.
+     * @throws IllegalArgumentException If newSource is out of range or a reached edge has a negative weight.
+     */
+    public void ExecuteDijkstra(int newSource) throws IllegalArgumentException {
+        ExecuteDijkstra(newSource, null);
+    }
+    
+    /** ExecuteDijkstra finds the shortest paths from the passed-in source,
+     *  stopping as soon as every one of the passed-in targets is settled (or
+     *  cannot be reached). Vertices settled before that have final distances;
+     *  any other vertex's distance and parent are only tentative.
+     * 
+     * @param newSource The index of the source vertex.
+     * @param targets The indexes of the vertices to stop after, or null to settle every reachable vertex.
+     * @throws IllegalArgumentException If newSource or a target is out of range, or a reached edge has a negative weight.
+     */
+    public void ExecuteDijkstra(int newSource, int[] targets) throws IllegalArgumentException {
+        int n = graph.vertexCount();
+        if (newSource < 0 || newSource >= n)
+            throw new IllegalArgumentException("Error while executing ExecuteDijkstra(int, int[]) in ShortestPathTree: The newSource parameter (" + newSource + ") is out of range!");
+        
+        // wanted marks the targets not yet settled; remaining counts them.
+        boolean[] wanted = null;
+        int remaining = 0;
+        if (targets != null) {
+            wanted = new boolean[n];
+            for (int target : targets) {
+                if (target < 0 || target >= n)
+                    throw new IllegalArgumentException("Error while executing ExecuteDijkstra(int, int[]) in ShortestPathTree: The target " + target + " is out of range!");
+                if (!wanted[target]) {
+                    wanted[target] = true;
+                    remaining++;
+                }
+            }
+        }
+        
+        IndexedDoubleMinHeap queue = new IndexedDoubleMinHeap(n);
+        Arrays.fill(settled, false);
+        Arrays.fill(parent, -1);
+        Arrays.fill(distance, Double.POSITIVE_INFINITY);
+        extracted = 0;
+        source = newSource;
+        distance[source] = 0;
+        queue.Insert(source, 0);
+        
+        int[] neighbors = new int[graph.maxDegree()];
+        float[] weights = new float[neighbors.length];
+        while (!queue.isEmpty() && (wanted == null || remaining > 0)) {
+            int vertex = queue.ExtractMin();
+            settled[vertex] = true;
+            order[extracted++] = vertex;
+            if (wanted != null && wanted[vertex])
+                remaining--;
+            
+            int count = graph.neighbors(vertex, neighbors, weights);
+            for (int i = 0; i < count; i++) {
+                int to = neighbors[i];
+                if (weights[i] < 0)
+                    throw new IllegalArgumentException("Error while executing ExecuteDijkstra(int, int[]) in ShortestPathTree: The edge " + graph.getIndex().label(vertex) + "=" + graph.getIndex().label(to) + " has a negative weight (" + weights[i] + ")!");
+                double length = distance[vertex] + weights[i];
+                if (!settled[to] && length < distance[to]) {
+                    distance[to] = length;
+                    parent[to] = vertex;
+                    queue.Insert(to, length);
+                }
+            }
+        }
+    }
+    
+    /** ExecuteDijkstra finds the shortest path between the vertexes holding the
+     *  passed-in items, stopping as soon as the target is settled.
+     * 
+     * @param from The item of the source vertex.
+     * @param to The item of the target vertex.
+     * @return The length of the shortest path, or +infinity if there is none.
+     * @throws IllegalArgumentException If either item is not in the graph or a reached edge has a negative weight.
+     */
+    public double ExecuteDijkstra(K from, K to) throws IllegalArgumentException {
+        int a = graph.getIndex().indexOf(from), b = graph.getIndex().indexOf(to);
+        if (a < 0 || b < 0)
+            throw new IllegalArgumentException("Error while executing ExecuteDijkstra(K, K) in ShortestPathTree: The item " + (a < 0 ? from : to) + " is not in the graph!");
+        
+        ExecuteDijkstra(a, new int[] {b});
+        return distance[b];
+    }
+    
+    /** pathTo returns the vertexes on the shortest path from the last run's source to the passed-in vertex.
+     * 
+     * @param target The index of the vertex, which must have been settled by the last run.
+     * @return The indexes of the path's vertices from the source to target, or null if target was not reached.
+     * @throws IllegalArgumentException If target is out of range or was not settled by the last run.
+     */
+    public int[] pathTo(int target) throws IllegalArgumentException {
+        if (target < 0 || target >= settled.length)
+            throw new IllegalArgumentException("Error while executing pathTo(int) in ShortestPathTree: The target parameter (" + target + ") is out of range!");
+        else if (!settled[target] && distance[target] != Double.POSITIVE_INFINITY)
+            throw new IllegalArgumentException("Error while executing pathTo(int) in ShortestPathTree: The target " + target + " was not settled by the last run!");
+        else if (!settled[target])
+            return null;
+        
+        int length = 1;
+        for (int v = target; v != source; v = parent[v])
+            length++;
+        int[] path = new int[length];
+        for (int v = target; length > 0; v = parent[v])
+            path[--length] = v;
+        return path;
+    }
+    
+    /** getPath returns the items on the shortest path from the last run's source to the vertex holding the passed-in item.
+     * 
+     * @param target The item of the vertex, which must have been settled by the last run.
+     * @return The items of the path's vertices from the source to target, or null if target was not reached.
+     * @throws IllegalArgumentException If target is not in the graph or was not settled by the last run.
+     */
+    public ArrayList<K> getPath(K target) throws IllegalArgumentException {
+        int t = graph.getIndex().indexOf(target);
+        if (t < 0)
+            throw new IllegalArgumentException("Error while executing getPath(K) in ShortestPathTree: The item " + target + " is not in the graph!");
+        
+        int[] path = pathTo(t);
+        if (path == null)
+            return null;
+        ArrayList<K> result = new ArrayList<>(path.length);
+        for (int v : path)
+            result.add(graph.getIndex().label(v));
+        return result;
+    }
+    
+    /** isSettled returns whether the passed-in vertex's distance is final after the last run.
+     * 
+     * @param vertex The index of the vertex.
+     * @return True if the vertex was settled.
+     */
+    public boolean isSettled(int vertex) {
+        return settled[vertex];
+    }
+    
+    /** getDistance returns the length of the shortest path found to the passed-in vertex.
+     * 
+     * @param vertex The index of the vertex.
+     * @return The distance, or +infinity if the vertex was not reached.
+     */
+    public double getDistance(int vertex) {
+        return distance[vertex];
+    }
+    
+    /** getParent returns the vertex before each vertex on its shortest path, or -1 for the source and unreached vertices.
+     * 
+     * @return The parent attribute.
+     */
+    public int[] getParent() {
+        return parent;
+    }
+    
+    /** getOrder returns the vertex indexes in the order they were settled;
+     *  only the first getExtracted() entries are meaningful.
+     * 
+     * @return The order attribute.
+     */
+    public int[] getOrder() {
+        return order;
+    }
+    
+    /** getExtracted returns the number of vertices settled by the last run.
+     * 
+     * @return The extracted attribute.
+     */
+    public int getExtracted() {
+        return extracted;
+    }
+    
+    /** getIndex returns the VertexIndex that maps vertex indexes to their items.
+     * 
+     * @return The graph's VertexIndex.
+     */
+    public VertexIndex<K> getIndex() {
+        return graph.getIndex();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,307 @@
+/* Author:     Ryan McAllister-Grum
+ * UIN:        661880584
+ * Class:      20FA - Algorithms & Computation (20FA-OL-CSC482A-15037)
+ * Assignment: 3 (Implement Prim's Algorithm)
+ */
+
+import java.util.Arrays;
+import java.util.function.ObjIntConsumer;
+
+/** SingleLinkage derives single-linkage clusters from a Minimum Spanning Tree.
+ *  Merging the tree's edges from lightest to heaviest with a union-find
+ *  builds the single-linkage dendrogram: the clusters at distance threshold
+ *  t are the components joined by the tree edges of weight at most t, and
+ *  the k clusters are the components left after the lightest V - k merges.
+ *  The merges are sorted once, after which every query replays a prefix of
+ *  them in near-linear time without finding the tree again.
+ * 
+ *  Merge i creates dendrogram cluster V + i out of two clusters numbered the
+ *  same way, where 0 to V - 1 are the single vertices (the usual linkage
+ *  matrix layout). A disconnected graph never merges into fewer clusters
+ *  than it has components.
+ * 
+ * @param <K> The type stored in the graph's vertices.
+ */
+public class SingleLinkage<K extends Comparable<? super K>> {
+    /** index maps vertex indexes to their items.
+     */
+    private final VertexIndex<K> index;
+    /** mergeFrom and mergeTo hold one vertex on each side of every merge, lightest merge first.
+     */
+    private int[] mergeFrom, mergeTo;
+    /** mergeWeight holds the weight of every merge, in ascending order.
+     */
+    private float[] mergeWeight;
+    /** mergeLeft and mergeRight hold the two dendrogram clusters every merge joins.
+     */
+    private int[] mergeLeft, mergeRight;
+    /** mergeSize holds the number of vertices in the cluster every merge creates.
+     */
+    private int[] mergeSize;
+    
+    /** Constructor that finds the Minimum Spanning Tree (or forest) of the
+     *  passed-in graph with Prim's Algorithm and builds its dendrogram from the
+     *  streamed tree edges.
+     * 
+     * @param <V> The WeightedEdge value type stored in the edges.
+     * @param graph The graph to cluster.
+     * @throws IllegalArgumentException If graph is null or an edge has no numerical weight.
+     */
+    public <V extends Comparable<? super V>> SingleLinkage(UndirectedWeightedGraph<K, V> graph) throws IllegalArgumentException {
+        if (graph == null)
+            throw new IllegalArgumentException("Error while constructing a new SingleLinkage(UndirectedWeightedGraph<K, V>): The graph parameter is null!");
+        
+        FloatCSRGraph<K> compact = FloatCSRGraph.of(graph);
+        index = compact.getIndex();
+        int n = index.size();
+        int[] from = new int[Math.max(n - 1, 0)], to = new int[from.length];
+        float[] weights = new float[from.length];
+        int[] count = new int[1];
+        Prim.floatEngine(compact).ExecutePrim(index.indexOfRoot(), (parent, child, weight) -> {
+            from[count[0]] = parent;
+            to[count[0]] = child;
+            weights[count[0]++] = weight;
+        });
+        build(from, to, weights, count[0]);
+    }
+    
+    /** Constructor that builds the dendrogram of the tree (or forest) found by the passed-in engine.
+     * 
+     * @param newIndex The VertexIndex of the graph the engine ran over.
+     * @param engine An engine that has finished running over the graph.
+     * @throws IllegalArgumentException If either parameter is null.
+     */
+    public SingleLinkage(VertexIndex<K> newIndex, FloatMSTEngine engine) throws IllegalArgumentException {
+        if (newIndex == null)
+            throw new IllegalArgumentException("Error while constructing a new SingleLinkage(VertexIndex<K>, FloatMSTEngine): The newIndex parameter is null!");
+        else if (engine == null)
+            throw new IllegalArgumentException("Error while constructing a new SingleLinkage(VertexIndex<K>, FloatMSTEngine): The engine parameter is null!");
+        
+        index = newIndex;
+        int[] from = new int[Math.max(index.size() - 1, 0)], to = new int[from.length];
+        float[] weights = new float[from.length];
+        int count = 0;
+        for (int i = 0; i < engine.getExtracted(); i++) {
+            int vertex = engine.getOrder()[i];
+            if (engine.getParent()[vertex] >= 0) {
+                from[count] = engine.getParent()[vertex];
+                to[count] = vertex;
+                weights[count++] = engine.getCost()[vertex];
+            }
+        }
+        build(from, to, weights, count);
+    }
+    
+    /** build sorts the passed-in tree edges by weight and merges them with a
+     *  union-find, recording the dendrogram.
+     * 
+     * @param from The parent vertex of each tree edge.
+     * @param to The child vertex of each tree edge.
+     * @param weights The weight of each tree edge.
+     * @param count The number of tree edges.
+     */
+    private void build(int[] from, int[] to, float[] weights, int count) {
+        FloatRadixSort.sort(weights, from, to, count);
+        
+        int n = index.size();
+        mergeFrom = new int[count];
+        mergeTo = new int[count];
+        mergeWeight = new float[count];
+        mergeLeft = new int[count];
+        mergeRight = new int[count];
+        mergeSize = new int[count];
+        int[] component = new int[n];
+        int[] cluster = new int[n]; // cluster holds the dendrogram cluster of each component's representative.
+        int[] size = new int[n];
+        for (int v = 0; v < n; v++) {
+            component[v] = v;
+            cluster[v] = v;
+            size[v] = 1;
+        }
+        for (int k = 0; k < count; k++) {
+            int a = UnionFind.find(component, from[k]), b = UnionFind.find(component, to[k]);
+            if (size[a] < size[b]) {
+                int temp = a;
+                a = b;
+                b = temp;
+            }
+            mergeFrom[k] = from[k];
+            mergeTo[k] = to[k];
+            mergeWeight[k] = weights[k];
+            mergeLeft[k] = Math.min(cluster[a], cluster[b]);
+            mergeRight[k] = Math.max(cluster[a], cluster[b]);
+            component[b] = a;
+            size[a] += size[b];
+            mergeSize[k] = size[a];
+            cluster[a] = n + k;
+        }
+    }
+    
+    /** cut returns the cluster of every vertex when the dendrogram is cut into the passed-in number of clusters.
+     * 
+     * @param k The number of clusters, between getMinClusters() and the vertex count.
+     * @return The cluster of each vertex index, numbered from 0 in order of each cluster's lowest vertex.
+     * @throws IllegalArgumentException If k is out of range.
+     */
+    public int[] cut(int k) throws IllegalArgumentException {
+        if (k < getMinClusters() || k > index.size())
+            throw new IllegalArgumentException("Error while executing cut(int) in SingleLinkage: The k parameter (" + k + ") is not between " + getMinClusters() + " and " + index.size() + "!");
+        
+        return labels(index.size() - k);
+    }
+    
+    /** cutAt returns the cluster of every vertex when the dendrogram is cut at
+     *  the passed-in distance, so two vertices share a cluster exactly when a
+     *  path of edges no heavier than threshold joins them.
+     * 
+     * @param threshold The distance to cut at.
+     * @return The cluster of each vertex index, numbered from 0 in order of each cluster's lowest vertex.
+     */
+    public int[] cutAt(float threshold) {
+        return labels(mergesAt(threshold));
+    }
+    
+    /** clusterCount returns the number of clusters when the dendrogram is cut at the passed-in distance.
+     * 
+     * @param threshold The distance to cut at.
+     * @return The number of clusters.
+     */
+    public int clusterCount(float threshold) {
+        return index.size() - mergesAt(threshold);
+    }
+    
+    /** assign streams the cluster of every vertex, in vertex index order, when
+     *  the dendrogram is cut into the passed-in number of clusters.
+     * 
+     * @param k The number of clusters, between getMinClusters() and the vertex count.
+     * @param consumer The consumer to pass each vertex's item and cluster to.
+     * @throws IllegalArgumentException If k is out of range or consumer is null.
+     */
+    public void assign(int k, ObjIntConsumer<K> consumer) throws IllegalArgumentException {
+        if (consumer == null)
+            throw new IllegalArgumentException("Error while executing assign(int, ObjIntConsumer<K>) in SingleLinkage: The consumer parameter is null!");
+        
+        int[] labels = cut(k);
+        for (int v = 0; v < labels.length; v++)
+            consumer.accept(index.label(v), labels[v]);
+    }
+    
+    /** assignAt streams the cluster of every vertex, in vertex index order,
+     *  when the dendrogram is cut at the passed-in distance.
+     * 
+     * @param threshold The distance to cut at.
+     * @param consumer The consumer to pass each vertex's item and cluster to.
+     * @throws IllegalArgumentException If consumer is null.
+     */
+    public void assignAt(float threshold, ObjIntConsumer<K> consumer) throws IllegalArgumentException {
+        if (consumer == null)
+            throw new IllegalArgumentException("Error while executing assignAt(float, ObjIntConsumer<K>) in SingleLinkage: The consumer parameter is null!");
+        
+        int[] labels = cutAt(threshold);
+        for (int v = 0; v < labels.length; v++)
+            consumer.accept(index.label(v), labels[v]);
+    }
+    
+    /** mergesAt returns the number of merges no heavier than the passed-in distance.
+     * 
+     * @param threshold The distance to cut at.
+     * @return The length of the prefix of merges to replay.
+     */
+    private int mergesAt(float threshold) {
+        int low = 0, high = mergeWeight.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (mergeWeight[middle] <= threshold)
+                low = middle + 1;
+            else
+                high = middle;
+        }
+        return low;
+    }
+    
+    /** labels replays the passed-in number of lightest merges and numbers the resulting clusters.
+     * 
+     * @param merges The number of merges to replay.
+     * @return The cluster of each vertex index, numbered from 0 in order of each cluster's lowest vertex.
+     */
+    private int[] labels(int merges) {
+        int n = index.size();
+        int[] component = new int[n];
+        for (int v = 0; v < n; v++)
+            component[v] = v;
+        for (int k = 0; k < merges; k++)
+            component[UnionFind.find(component, mergeFrom[k])] = UnionFind.find(component, mergeTo[k]);
+        
+        int[] label = new int[n];
+        Arrays.fill(label, -1);
+        int[] result = new int[n];
+        int clusters = 0;
+        for (int v = 0; v < n; v++) {
+            int root = UnionFind.find(component, v);
+            if (label[root] < 0)
+                label[root] = clusters++;
+            result[v] = label[root];
+        }
+        return result;
+    }
+    
+    /** getMinClusters returns the fewest clusters the dendrogram can be cut into, which is the number of trees in the forest.
+     * 
+     * @return The vertex count minus the merge count.
+     */
+    public int getMinClusters() {
+        return index.size() - mergeWeight.length;
+    }
+    
+    /** getMergeCount returns the number of merges in the dendrogram.
+     * 
+     * @return The number of tree edges.
+     */
+    public int getMergeCount() {
+        return mergeWeight.length;
+    }
+    
+    /** getMergeWeight returns the distance at which the passed-in merge happens.
+     * 
+     * @param merge The merge, from 0 (lightest) to getMergeCount() - 1.
+     * @return The weight of the merge's tree edge.
+     */
+    public float getMergeWeight(int merge) {
+        return mergeWeight[merge];
+    }
+    
+    /** getMergeLeft returns the lower-numbered dendrogram cluster the passed-in merge joins.
+     * 
+     * @param merge The merge, from 0 (lightest) to getMergeCount() - 1.
+     * @return A vertex index, or V + i for the cluster created by merge i.
+     */
+    public int getMergeLeft(int merge) {
+        return mergeLeft[merge];
+    }
+    
+    /** getMergeRight returns the higher-numbered dendrogram cluster the passed-in merge joins.
+     * 
+     * @param merge The merge, from 0 (lightest) to getMergeCount() - 1.
+     * @return A vertex index, or V + i for the cluster created by merge i.
+     */
+    public int getMergeRight(int merge) {
+        return mergeRight[merge];
+    }
+    
+    /** getMergeSize returns the number of vertices in the cluster the passed-in merge creates.
+     * 
+     * @param merge The merge, from 0 (lightest) to getMergeCount() - 1.
+     * @return The size of dendrogram cluster V + merge.
+     */
+    public int getMergeSize(int merge) {
+        return mergeSize[merge];
+    }
+    
+    /** getIndex returns the VertexIndex that maps vertex indexes to their items.
+     * 
+     * @return The index attribute.
+     */
+    public VertexIndex<K> getIndex() {
+        return index;
+    }
+}
\ No newline at end of file
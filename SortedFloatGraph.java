@@ -0,0 +1,42 @@
+/* Author:     Ryan McAllister-Grum
+ * UIN:        661880584
+ * Class:      20FA - Algorithms & Computation (20FA-OL-CSC482A-15037)
+ * Assignment: 3 (Implement Prim's Algorithm)
+ */
+
+/** SortedFloatGraph is implemented by the FloatGraph backends that keep
+ *  (some of) their adjacency lists sorted by weight, so they can list only
+ *  the neighbors reached by edges no heavier than a bound, or find a
+ *  vertex's cheapest edge, without scanning the rest of its list. Engines
+ *  that know such a bound, such as a bounded run of FloatPrimEngine, use
+ *  neighborsUpTo in place of neighbors.
+ * 
+ * @param <K> The type stored in this graph's vertices.
+ */
+public interface SortedFloatGraph<K extends Comparable<? super K>> extends FloatGraph<K> {
+    /** neighborsUpTo writes the neighbors of the passed-in vertex whose edges
+     *  weigh at most the passed-in bound, and the weights of those edges, into
+     *  the passed-in buffers.
+     * 
+     * @param vertex The index of the vertex whose neighbors to write.
+     * @param bound The largest edge weight to write.
+     * @param targets The buffer to write the neighbor indexes into.
+     * @param weights The buffer to write the edge weights into.
+     * @return The number of neighbors written.
+     */
+    int neighborsUpTo(int vertex, float bound, int[] targets, float[] weights);
+    
+    /** cheapestNeighbor returns the neighbor of the passed-in vertex across its lightest edge.
+     * 
+     * @param vertex The index of the vertex.
+     * @return The index of the neighbor, or -1 if the vertex has none.
+     */
+    int cheapestNeighbor(int vertex);
+    
+    /** cheapestWeight returns the weight of the passed-in vertex's lightest edge.
+     * 
+     * @param vertex The index of the vertex.
+     * @return The weight of the edge, or Float.POSITIVE_INFINITY if the vertex has none.
+     */
+    float cheapestWeight(int vertex);
+}
\ No newline at end of file
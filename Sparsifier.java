@@ -0,0 +1,152 @@
+/* Author:     Ryan McAllister-Grum
+ * UIN:        661880584
+ * Class:      20FA - Algorithms & Computation (20FA-OL-CSC482A-15037)
+ * Assignment: 3 (Implement Prim's Algorithm)
+ */
+
+import java.util.Arrays;
+import java.util.TreeSet;
+
+/** Sparsifier removes edges of an undirected weighted graph that can never be
+ *  in its Minimum Spanning Tree, so that Prim's Algorithm runs over fewer
+ *  edges. It first keeps every edge that is among the k lightest at either
+ *  of its endpoints, and finds the minimum spanning forest F of those edges.
+ *  Every other edge is then kept only if it is F-light: if its endpoints are
+ *  in different trees of F, or it is lighter than the heaviest edge on the
+ *  path between them in F. An F-heavy edge closes a cycle on which it is the
+ *  heaviest edge, so by the cycle property the sparsified graph has a
+ *  Minimum Spanning Tree of exactly the same weight as the original; when
+ *  all weights differ, it is the very same tree.
+ */
+public class Sparsifier {
+    /** sparsify returns a copy of the passed-in graph holding only the edges that may be in its Minimum Spanning Tree.
+     * 
+     * @param <K> The type stored in the Vertexes of the graph.
+     * @param <V> The WeightedEdge value type stored in the edges.
+     * @param graph The graph to sparsify.
+     * @param k The number of lightest edges always kept at each vertex.
+     * @return A new UndirectedWeightedGraph with the same Vertexes and the kept edges and weights.
+     * @throws IllegalArgumentException If graph is null, k is not positive, or an edge has no numerical weight.
+     */
+    public static <K extends Comparable<? super K>, V extends Comparable<? super V>> UndirectedWeightedGraph<K, V> sparsify(UndirectedWeightedGraph<K, V> graph, int k) throws IllegalArgumentException {
+        if (graph == null)
+            throw new IllegalArgumentException("Error while executing sparsify(UndirectedWeightedGraph<K, V>, int) in Sparsifier: The graph parameter is null!");
+        
+        FloatCSRGraph<K> compact = FloatCSRGraph.of(graph);
+        boolean[] keep = keep(compact, k);
+        
+        // The CSR entries of each vertex are its TreeSet's edges in order, so keep[i] lines up with the i-th edge visited.
+        UndirectedWeightedGraph<K, V> sparse = new UndirectedWeightedGraph<>();
+        Vertex<K>[] vertices = new Vertex[compact.vertexCount()];
+        for (int v = 0; v < vertices.length; v++) {
+            vertices[v] = new Vertex<>(compact.getIndex().label(v));
+            sparse.addVertex(vertices[v]);
+        }
+        int u = 0, i = 0;
+        for (TreeSet<Edge> list : graph.graph.values()) {
+            for (Edge edge : list) {
+                int v = compact.targets[i];
+                if (keep[i] && u <= v)
+                    sparse.addEdge(vertices[u], vertices[v], ((WeightedEdge<V>) edge).getWeight());
+                i++;
+            }
+            u++;
+        }
+        return sparse;
+    }
+    
+    /** sparsify returns a copy of the passed-in compact graph holding only the
+     *  edges that may be in its Minimum Spanning Tree.
+     * 
+     * @param <K> The type stored in the graph's vertices.
+     * @param graph The undirected graph to sparsify.
+     * @param k The number of lightest edges always kept at each vertex.
+     * @return A new FloatCSRGraph with the same VertexIndex and the kept edges.
+     * @throws IllegalArgumentException If graph is null or directed, or k is not positive.
+     */
+    public static <K extends Comparable<? super K>> FloatCSRGraph<K> sparsify(FloatCSRGraph<K> graph, int k) throws IllegalArgumentException {
+        if (graph == null)
+            throw new IllegalArgumentException("Error while executing sparsify(FloatCSRGraph<K>, int) in Sparsifier: The graph parameter is null!");
+        
+        boolean[] keep = keep(graph, k);
+        int n = graph.vertexCount();
+        int[] offsets = new int[n + 1];
+        for (int v = 0; v < n; v++) {
+            offsets[v + 1] = offsets[v];
+            for (int i = graph.offsets[v]; i < graph.offsets[v + 1]; i++)
+                if (keep[i])
+                    offsets[v + 1]++;
+        }
+        int[] targets = new int[offsets[n]];
+        float[] weights = new float[offsets[n]];
+        for (int i = 0, j = 0; i < keep.length; i++)
+            if (keep[i]) {
+                targets[j] = graph.targets[i];
+                weights[j++] = graph.weights[i];
+            }
+        return new FloatCSRGraph<>(graph.getIndex(), offsets, targets, weights, false);
+    }
+    
+    /** keep decides which CSR entries of the passed-in graph to keep. Both
+     *  entries of an undirected edge get the same answer, because it only
+     *  depends on the edge's endpoints and weight.
+     * 
+     * @param graph The undirected graph to sparsify.
+     * @param k The number of lightest edges always kept at each vertex.
+     * @return Whether to keep each entry of graph.targets.
+     * @throws IllegalArgumentException If graph is directed or k is not positive.
+     */
+    private static boolean[] keep(FloatCSRGraph<?> graph, int k) throws IllegalArgumentException {
+        if (graph.isDirected())
+            throw new IllegalArgumentException("Error while executing sparsify in Sparsifier: The graph is directed!");
+        else if (k <= 0)
+            throw new IllegalArgumentException("Error while executing sparsify in Sparsifier: The k parameter (" + k + ") is not positive!");
+        
+        int n = graph.vertexCount();
+        int[] offsets = graph.offsets, targets = graph.targets;
+        float[] weights = graph.weights;
+        
+        // limit holds the weight of each vertex's k-th lightest edge; every edge at most that heavy is kept.
+        float[] limit = new float[n];
+        float[] sorted = new float[graph.maxDegree()];
+        for (int v = 0; v < n; v++) {
+            int degree = offsets[v + 1] - offsets[v];
+            if (degree <= k)
+                limit[v] = Float.POSITIVE_INFINITY;
+            else {
+                System.arraycopy(weights, offsets[v], sorted, 0, degree);
+                Arrays.sort(sorted, 0, degree);
+                limit[v] = sorted[k - 1];
+            }
+        }
+        
+        // Find the minimum spanning forest F of the light edges, listing each once.
+        boolean[] keep = new boolean[targets.length];
+        int light = 0;
+        for (int v = 0; v < n; v++)
+            for (int i = offsets[v]; i < offsets[v + 1]; i++) {
+                keep[i] = weights[i] <= limit[v] || weights[i] <= limit[targets[i]];
+                if (keep[i] && v < targets[i])
+                    light++;
+            }
+        int[] from = new int[light], to = new int[light];
+        float[] lightWeights = new float[light];
+        for (int v = 0, e = 0; v < n; v++)
+            for (int i = offsets[v]; i < offsets[v + 1]; i++)
+                if (keep[i] && v < targets[i]) {
+                    from[e] = v;
+                    to[e] = targets[i];
+                    lightWeights[e++] = weights[i];
+                }
+        FloatPrimEngine engine = new FloatPrimEngine(FloatCSRGraph.of(n, from, to, lightWeights, light, false));
+        engine.ExecutePrim(-1);
+        ForestPathMax forest = new ForestPathMax(engine.getParent(), engine.getCost(), engine.getOrder(), engine.getExtracted());
+        
+        // Keep the F-light edges among the rest.
+        for (int v = 0; v < n; v++)
+            for (int i = offsets[v]; i < offsets[v + 1]; i++)
+                if (!keep[i] && targets[i] != v)
+                    keep[i] = weights[i] < forest.pathMax(v, targets[i]);
+        return keep;
+    }
+}
\ No newline at end of file
@@ -4,6 +4,7 @@
  * Assignment: 3 (Implement Prim's Algorithm)
  */
 
+import java.util.NavigableSet;
 import java.util.TreeMap;
 import java.util.TreeSet;
 
@@ -13,45 +14,88 @@ import java.util.TreeSet;
  * @param <V> The variable type stored in this Graph's WeightedEdges.
  */
 public class UndirectedWeightedGraph<K extends Comparable<? super K>, V extends Comparable<? super V>> extends Graph<K> {
-
+    /** keepCheapest indicates whether a parallel edge lowers the cost of the
+     *  existing edge between the same Vertexes when it is cheaper; otherwise
+     *  the first edge added between two Vertexes is kept.
+     */
+    final boolean keepCheapest;
+    
     /** Constructor that creates a new empty UndirectedWeightedGraph.
      */
     public UndirectedWeightedGraph() {
+        this(false);
+    }
+    
+    /** Constructor that creates a new empty UndirectedWeightedGraph that either keeps
+     *  the first of several parallel edges between the same Vertexes or,
+     *  if newKeepCheapest is true, the cheapest of them.
+     * 
+     * @param newKeepCheapest Whether a cheaper parallel edge replaces the cost of the existing edge.
+     */
+    public UndirectedWeightedGraph(boolean newKeepCheapest) {
         graph = new TreeMap<>();
+        keepCheapest = newKeepCheapest;
     }
 
     /** addEdge adds a new edge to both the from and to Vertex objects with
      *  the given cost. If either Vertex does not exist in the graph, it is added.
+     *  If the Vertexes are already connected, only the cost of the existing edge
+     *  can change, and only if this graph keeps the cheapest parallel edge.
      * 
      * @param from The Vertex that this WeightedEdge comes from.
      * @param to The destination Vertex of the from WeightedEdge.
      * @param cost The cost to associate with the new WeightedEdge.
      * @throws IllegalArgumentException If either from or to is null.
+     * @throws IllegalStateException If this graph is frozen.
      */
-    public void addEdge(Vertex<K> from, Vertex<K> to, V cost) throws IllegalArgumentException {
+    public void addEdge(Vertex<K> from, Vertex<K> to, V cost) throws IllegalArgumentException, IllegalStateException {
         // First check that neither from nor to are null.
         if (from == null)
             throw new IllegalArgumentException("Error while executing addEdge(Vertex<K>, Vertex<K>) in UndirectedUnweightedGraph: The from parameter is null!");
         else if (to == null)
             throw new IllegalArgumentException("Error while executing addEdge(Vertex<K>, Vertex<K>) in UndirectedUnweightedGraph: The to parameter is null!");
+        else if (frozen)
+            throw new IllegalStateException("Error while executing addEdge(Vertex<K>, Vertex<K>, V) in UndirectedWeightedGraph: The graph is frozen!");
         
         
+        // A parallel edge never adds a second edge; at most it lowers the existing edge's cost.
+        if (graph.containsKey(from) && graph.get(from).contains(new Edge(to))) {
+            if (keepCheapest) {
+                lowerCost(from, to, cost);
+                lowerCost(to, from, cost);
+            }
+            return;
+        }
+        
         // Add WeightedEdge to the from Vertex that points to the other Vertex.
         if (!graph.containsKey(from)) {
             addVertex(from);
             TreeSet<Edge> fromList = new TreeSet<>();
-            fromList.add(new WeightedEdge<>(to, cost));
+            fromList.add(WeightedEdge.of(to, cost));
             graph.put(from, fromList);
         } else
-            graph.get(from).add(new WeightedEdge<>(to, cost));
+            graph.get(from).add(WeightedEdge.of(to, cost));
         
         if (!graph.containsKey(to)) {
             addVertex(to);
             TreeSet<Edge> toList = new TreeSet<>();
-            toList.add(new WeightedEdge<>(from, cost));
+            toList.add(WeightedEdge.of(from, cost));
             graph.put(to, toList);
         } else
-            graph.get(to).add(new WeightedEdge<>(from, cost));
+            graph.get(to).add(WeightedEdge.of(from, cost));
+    }
+    
+    /** lowerCost sets the cost of the existing edge from the from Vertex to the
+     *  to Vertex to the passed-in cost if that is cheaper.
+     * 
+     * @param from The Vertex that the existing WeightedEdge comes from.
+     * @param to The destination Vertex of the existing WeightedEdge.
+     * @param cost The cost of the parallel edge.
+     */
+    private void lowerCost(Vertex<K> from, Vertex<K> to, V cost) {
+        WeightedEdge<V> existing = (WeightedEdge<V>) graph.get(from).floor(new Edge(to));
+        if (cost.compareTo(existing.getWeight()) < 0)
+            existing.setWeight(cost);
     }
     
     /** toString outputs the Vertex and associated WeightedEdges in a readable format.
@@ -64,7 +108,7 @@ public class UndirectedWeightedGraph<K extends Comparable<? super K>, V extends
         
         for (Vertex v : getVertices()) {
             result += "\t" + v + ": [";
-            for(WeightedEdge<V> e : (TreeSet<WeightedEdge<V>>) getEdges(v))
+            for(Edge e : (NavigableSet<Edge>) getEdges(v))
                 if (e.equals(graph.get(v).last()))
                     result += e;
                 else
@@ -0,0 +1,31 @@
+/* Author:     Ryan McAllister-Grum
+ * UIN:        661880584
+ * Class:      20FA - Algorithms & Computation (20FA-OL-CSC482A-15037)
+ * Assignment: 3 (Implement Prim's Algorithm)
+ */
+
+/** UnionFind holds the find operation shared by the engines that keep a
+ *  union-find forest in a plain int array, where each vertex's entry is its
+ *  parent and a representative is its own parent. Callers union two
+ *  representatives by writing one into the other's entry.
+ */
+final class UnionFind {
+    /** UnionFind only has static members.
+     */
+    private UnionFind() {
+    }
+    
+    /** find returns the representative of the passed-in vertex's component, halving paths as it goes.
+     * 
+     * @param component The union-find parent of each vertex.
+     * @param vertex The vertex to look up.
+     * @return The representative vertex of its component.
+     */
+    static int find(int[] component, int vertex) {
+        while (component[vertex] != vertex) {
+            component[vertex] = component[component[vertex]];
+            vertex = component[vertex];
+        }
+        return vertex;
+    }
+}
\ No newline at end of file
@@ -18,6 +18,9 @@ public class Vertex<K extends Comparable<? super K>> implements Comparable<Verte
     /** The parent vertex from the tree that added this Vertex to it.
      */
     private Vertex<K> parent;
+    /** frozen indicates that this Vertex belongs to a frozen Graph and may no longer be modified.
+     */
+    boolean frozen;
     
     /** Constructor that takes a new item and stores it in this Vertex.
      * 
@@ -80,11 +83,14 @@ public class Vertex<K extends Comparable<? super K>> implements Comparable<Verte
      * @param newItem The new item to store in this Vertex.
      * @return The previous item stored in this Vertex.
      * @throws IllegalArgumentException If the newItem parameter is null.
+     * @throws IllegalStateException If this Vertex belongs to a frozen Graph.
      */
-    public K set(K newItem) throws IllegalArgumentException {
+    public K set(K newItem) throws IllegalArgumentException, IllegalStateException {
         // First check that newItem is not null.
         if (newItem == null)
             throw new IllegalArgumentException("Error while executing set(K) in Vertex: The newItem parameter is null!");
+        else if (frozen)
+            throw new IllegalStateException("Error while executing set(K) in Vertex for vertex \"" + item + "\": The vertex belongs to a frozen graph!");
         
         K result = item;
         item  = newItem;
@@ -102,8 +108,12 @@ public class Vertex<K extends Comparable<? super K>> implements Comparable<Verte
     /** setAttachCost sets the attachment cost stored in this Vertex.
      * 
      * @param newAttachCost The new attachment cost to assign to this Vertex.
+     * @throws IllegalStateException If this Vertex belongs to a frozen Graph.
      */
-    public void setAttachCost(float newAttachCost) {
+    public void setAttachCost(float newAttachCost) throws IllegalStateException {
+        if (frozen)
+            throw new IllegalStateException("Error while executing setAttachCost(float) in Vertex for vertex \"" + item + "\": The vertex belongs to a frozen graph!");
+        
         attachCost = newAttachCost;
     }
     
@@ -118,8 +128,12 @@ public class Vertex<K extends Comparable<? super K>> implements Comparable<Verte
     /** setParent sets the parent Vertex that added this Vertex to its tree.
      * 
      * @param newParent The new parent Vertex that added this Vertex.
+     * @throws IllegalStateException If this Vertex belongs to a frozen Graph.
      */
-    public void setParent(Vertex<K> newParent) {
+    public void setParent(Vertex<K> newParent) throws IllegalStateException {
+        if (frozen)
+            throw new IllegalStateException("Error while executing setParent(Vertex<K>) in Vertex for vertex \"" + item + "\": The vertex belongs to a frozen graph!");
+        
         parent = newParent;
     }
     
@@ -0,0 +1,169 @@
+/* Author:     Ryan McAllister-Grum
+ * UIN:        661880584
+ * Class:      20FA - Algorithms & Computation (20FA-OL-CSC482A-15037)
+ * Assignment: 3 (Implement Prim's Algorithm)
+ */
+
+import java.util.Arrays;
+
+/** VertexIndex numbers the vertices of a compact graph 0 to size() - 1 in
+ *  the natural order of their items, which is the order a Graph's TreeMap
+ *  already keeps them in. Because of this, breaking ties by index gives the
+ *  same result as breaking ties by Vertex in the TreeMap-based Graphs.
+ *  A VertexIndex can also be renumbered for locality (see VertexOrdering),
+ *  in which case originalIndex maps each vertex back to its natural position.
+ * 
+ * @param <K> The type stored in the indexed vertices.
+ */
+public class VertexIndex<K extends Comparable<? super K>> {
+    /** labels holds the item of each vertex, sorted in natural order unless the vertices were reordered.
+     */
+    private final Object[] labels;
+    /** sorted holds the items sorted in natural order, for lookups; it is labels itself unless the vertices were reordered.
+     */
+    private final Object[] sorted;
+    /** indexOfSorted holds the index of the vertex holding each entry of sorted, or null if sorted is labels.
+     */
+    private final int[] indexOfSorted;
+    /** original holds the natural-order position of each vertex, or null if the vertices were not reordered.
+     */
+    private final int[] original;
+    
+    /** Constructor that indexes the Vertexes of the passed-in Graph.
+     * 
+     * @param graph The Graph whose Vertexes to index.
+     * @throws IllegalArgumentException If the graph parameter is null.
+     */
+    public VertexIndex(Graph<K> graph) throws IllegalArgumentException {
+        if (graph == null)
+            throw new IllegalArgumentException("Error while creating a new VertexIndex(Graph<K>): The graph parameter is null!");
+        
+        labels = new Object[graph.graph.size()];
+        int i = 0;
+        for (Vertex<K> vertex : graph.graph.keySet())
+            labels[i++] = vertex.get();
+        sorted = labels;
+        indexOfSorted = original = null;
+    }
+    
+    /** Constructor that indexes the passed-in items, which are sorted and de-duplicated first.
+     * 
+     * @param items The items to index.
+     * @throws IllegalArgumentException If the items parameter or any of its items is null.
+     */
+    public VertexIndex(K[] items) throws IllegalArgumentException {
+        if (items == null)
+            throw new IllegalArgumentException("Error while creating a new VertexIndex(K[]): The items parameter is null!");
+        
+        Object[] sorted = items.clone();
+        for (Object item : sorted)
+            if (item == null)
+                throw new IllegalArgumentException("Error while creating a new VertexIndex(K[]): The items parameter contains a null item!");
+        Arrays.sort(sorted);
+        
+        int n = 0; // n is the number of distinct items kept so far.
+        for (int i = 0; i < sorted.length; i++)
+            if (n == 0 || ((K) sorted[n - 1]).compareTo((K) sorted[i]) != 0)
+                sorted[n++] = sorted[i];
+        labels = this.sorted = Arrays.copyOf(sorted, n);
+        indexOfSorted = original = null;
+    }
+    
+    /** Constructor that renumbers the vertices of the passed-in VertexIndex, so
+     *  that vertex i of the new VertexIndex is vertex order[i] of the old one.
+     *  Items are still looked up by binary search over their natural order.
+     * 
+     * @param base The VertexIndex whose vertices to renumber.
+     * @param order The old index of each new vertex; it must be a permutation of 0 to base.size() - 1.
+     * @throws IllegalArgumentException If base or order is null, or order is not a permutation.
+     */
+    VertexIndex(VertexIndex<K> base, int[] order) throws IllegalArgumentException {
+        if (base == null || order == null)
+            throw new IllegalArgumentException("Error while creating a new VertexIndex(VertexIndex<K>, int[]): A parameter is null!");
+        else if (order.length != base.size())
+            throw new IllegalArgumentException("Error while creating a new VertexIndex(VertexIndex<K>, int[]): The order parameter has " + order.length + " entries instead of " + base.size() + "!");
+        
+        int n = order.length;
+        labels = new Object[n];
+        original = new int[n];
+        indexOfSorted = new int[n];
+        Arrays.fill(indexOfSorted, -1);
+        sorted = base.sorted;
+        for (int i = 0; i < n; i++) {
+            if (order[i] < 0 || order[i] >= n || indexOfSorted[base.originalIndex(order[i])] >= 0)
+                throw new IllegalArgumentException("Error while creating a new VertexIndex(VertexIndex<K>, int[]): The order parameter is not a permutation!");
+            labels[i] = base.labels[order[i]];
+            original[i] = base.originalIndex(order[i]);
+            indexOfSorted[original[i]] = i;
+        }
+    }
+    
+    /** size returns the number of indexed vertices.
+     * 
+     * @return The number of vertices in this VertexIndex.
+     */
+    public int size() {
+        return labels.length;
+    }
+    
+    /** label returns the item of the vertex at the passed-in index.
+     * 
+     * @param index The index of the vertex.
+     * @return The item stored in the vertex at index.
+     */
+    public K label(int index) {
+        return (K) labels[index];
+    }
+    
+    /** indexOf returns the index of the vertex holding the passed-in item.
+     * 
+     * @param item The item to look up.
+     * @return The index of the vertex holding item, or -1 if there is none.
+     */
+    public int indexOf(K item) {
+        if (item == null)
+            return -1;
+        
+        int index = Arrays.binarySearch(sorted, item);
+        return index < 0 ? -1 : (indexOfSorted == null ? index : indexOfSorted[index]);
+    }
+    
+    /** originalIndex returns the position of the passed-in vertex's item in
+     *  natural order, which is its index before any reordering.
+     * 
+     * @param index The index of the vertex.
+     * @return The natural-order position of the vertex.
+     */
+    public int originalIndex(int index) {
+        return original == null ? index : original[index];
+    }
+    
+    /** isReordered returns whether the vertices are numbered in some order other than the natural order of their items.
+     * 
+     * @return True if the vertices were reordered.
+     */
+    public boolean isReordered() {
+        return original != null;
+    }
+    
+    /** indexOf returns the index of the passed-in Vertex.
+     * 
+     * @param vertex The Vertex to look up.
+     * @return The index of the Vertex, or -1 if it is not indexed.
+     */
+    public int indexOf(Vertex<K> vertex) {
+        return vertex == null ? -1 : indexOf(vertex.get());
+    }
+    
+    /** indexOfRoot returns the index of the designated "r" root vertex that
+     *  Prim's Algorithm starts from.
+     * 
+     * @return The index of the "r" vertex, or -1 if there is none.
+     */
+    public int indexOfRoot() {
+        for (int i = 0; i < labels.length; i++)
+            if (labels[i].equals("r"))
+                return i;
+        return -1;
+    }
+}
\ No newline at end of file
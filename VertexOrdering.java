@@ -0,0 +1,133 @@
+/* Author:     Ryan McAllister-Grum
+ * UIN:        661880584
+ * Class:      20FA - Algorithms & Computation (20FA-OL-CSC482A-15037)
+ * Assignment: 3 (Implement Prim's Algorithm)
+ */
+
+import java.util.Arrays;
+
+/** VertexOrdering chooses how the vertices of a compact graph are renumbered
+ *  when it is frozen. The natural order of the items has nothing to do with
+ *  which vertices are adjacent, so the engines' accesses to the cost, parent
+ *  and heap arrays of a vertex's neighbors land all over memory. Numbering
+ *  neighbors close together keeps those accesses within a few cache lines.
+ *  Each ordering returns the old index of every new vertex; see
+ *  FloatCSRGraph.reorder and VertexIndex.originalIndex.
+ */
+public enum VertexOrdering {
+    /** NATURAL keeps the natural order of the items.
+     */
+    NATURAL {
+        @Override
+        public int[] order(FloatGraph<?> graph) {
+            int[] order = new int[graph.vertexCount()];
+            for (int i = 0; i < order.length; i++)
+                order[i] = i;
+            return order;
+        }
+    },
+    /** BREADTH_FIRST numbers the vertices in breadth-first order, starting each
+     *  component at its lowest-indexed vertex and visiting neighbors in the order listed.
+     */
+    BREADTH_FIRST {
+        @Override
+        public int[] order(FloatGraph<?> graph) {
+            return breadthFirst(graph, false);
+        }
+    },
+    /** REVERSE_CUTHILL_MCKEE numbers the vertices in breadth-first order,
+     *  starting each component at its lowest-degree vertex and visiting
+     *  neighbors from lowest to highest degree, and then reverses the order.
+     *  This keeps the bandwidth of the adjacency matrix small, which suits
+     *  road networks and meshes.
+     */
+    REVERSE_CUTHILL_MCKEE {
+        @Override
+        public int[] order(FloatGraph<?> graph) {
+            int[] order = breadthFirst(graph, true);
+            for (int i = 0, j = order.length - 1; i < j; i++, j--) {
+                int temp = order[i];
+                order[i] = order[j];
+                order[j] = temp;
+            }
+            return order;
+        }
+    },
+    /** DEGREE_DESCENDING numbers the vertices from highest to lowest degree,
+     *  so the hubs that most relaxations touch share the first cache lines.
+     */
+    DEGREE_DESCENDING {
+        @Override
+        public int[] order(FloatGraph<?> graph) {
+            return byDegree(graph, true);
+        }
+    };
+    
+    /** order returns the old index of each vertex of the passed-in graph in this ordering.
+     * 
+     * @param graph The graph whose vertices to order.
+     * @return A permutation of 0 to graph.vertexCount() - 1; entry i is the old index of new vertex i.
+     */
+    public abstract int[] order(FloatGraph<?> graph);
+    
+    /** breadthFirst returns the vertices of the passed-in graph in breadth-first
+     *  order, one component after another.
+     * 
+     * @param graph The graph whose vertices to order.
+     * @param lowestDegreeFirst Whether to start each component at its lowest-degree vertex and
+     * to visit neighbors from lowest to highest degree, rather than by index and as listed.
+     * @return The vertices in breadth-first order.
+     */
+    private static int[] breadthFirst(FloatGraph<?> graph, boolean lowestDegreeFirst) {
+        int n = graph.vertexCount();
+        int[] order = new int[n];
+        boolean[] visited = new boolean[n];
+        int[] targets = new int[graph.maxDegree()];
+        float[] weights = new float[targets.length];
+        long[] keys = new long[targets.length];
+        
+        // With lowestDegreeFirst, components are started in order of their lowest-degree vertex.
+        int[] starts = lowestDegreeFirst ? byDegree(graph, false) : NATURAL.order(graph);
+        int head = 0, tail = 0;
+        for (int start : starts) {
+            if (visited[start])
+                continue;
+            visited[start] = true;
+            order[tail++] = start;
+            while (head < tail) {
+                int vertex = order[head++];
+                int count = graph.neighbors(vertex, targets, weights);
+                int fresh = 0;
+                for (int i = 0; i < count; i++)
+                    if (!visited[targets[i]]) {
+                        visited[targets[i]] = true;
+                        keys[fresh++] = lowestDegreeFirst ? ((long) graph.degree(targets[i]) << 32) | targets[i] : targets[i];
+                    }
+                if (lowestDegreeFirst)
+                    Arrays.sort(keys, 0, fresh);
+                for (int i = 0; i < fresh; i++)
+                    order[tail++] = (int) keys[i];
+            }
+        }
+        return order;
+    }
+    
+    /** byDegree returns the vertices of the passed-in graph sorted by degree,
+     *  with ties broken by ascending index.
+     * 
+     * @param graph The graph whose vertices to order.
+     * @param descending Whether to sort from highest to lowest degree rather than lowest to highest.
+     * @return The sorted vertices.
+     */
+    private static int[] byDegree(FloatGraph<?> graph, boolean descending) {
+        int n = graph.vertexCount();
+        long[] keys = new long[n];
+        for (int v = 0; v < n; v++)
+            keys[v] = ((long) (descending ? Integer.MAX_VALUE - graph.degree(v) : graph.degree(v)) << 32) | v;
+        Arrays.sort(keys);
+        int[] order = new int[n];
+        for (int i = 0; i < n; i++)
+            order[i] = (int) keys[i];
+        return order;
+    }
+}
\ No newline at end of file
@@ -4,6 +4,8 @@
  * Assignment: 3 (Implement Prim's Algorithm)
  */
 
+import java.util.Objects;
+
 /** The WeightedEdge extends the Edge class by adding a weight cost to its edge.
  * 
  * @param <V> The type of numerical value stored in this WeightedEdge.
@@ -25,6 +27,28 @@ public class WeightedEdge<V extends Comparable<? super V>> extends Edge {
         weight = newWeight;
     }
     
+    /** of creates a new WeightedEdge using the passed-in destination Vertex
+     *  and edge cost. Float, Double, Integer and Long costs get the matching
+     *  primitive-specialized WeightedEdge so their weight is stored unboxed.
+     * 
+     * @param <V> The type of numerical value stored in the new WeightedEdge.
+     * @param to The destination Vertex of the new WeightedEdge.
+     * @param weight The weight value/cost to assign to the new WeightedEdge.
+     * @return A new WeightedEdge, primitive-specialized where possible.
+     */
+    static <V extends Comparable<? super V>> WeightedEdge<V> of(Vertex to, V weight) {
+        if (weight instanceof Float)
+            return (WeightedEdge<V>) (WeightedEdge) new FloatWeightedEdge(to, (Float) weight);
+        else if (weight instanceof Double)
+            return (WeightedEdge<V>) (WeightedEdge) new DoubleWeightedEdge(to, (Double) weight);
+        else if (weight instanceof Integer)
+            return (WeightedEdge<V>) (WeightedEdge) new IntWeightedEdge(to, (Integer) weight);
+        else if (weight instanceof Long)
+            return (WeightedEdge<V>) (WeightedEdge) new LongWeightedEdge(to, (Long) weight);
+        else
+            return new WeightedEdge<>(to, weight);
+    }
+    
     /** getWeight returns the cost of this WeightedEdge.
      * 
      * @return The weight attribute of this WeightedEdge.
@@ -36,8 +60,12 @@ public class WeightedEdge<V extends Comparable<? super V>> extends Edge {
     /** setWeight sets a new edge cost to this WeightedEdge.
      * 
      * @param newWeight The new edge cost to set to this WeightedEdge.
+     * @throws IllegalStateException If this WeightedEdge belongs to a frozen Graph.
      */
-    public void setWeight(V newWeight) {
+    public void setWeight(V newWeight) throws IllegalStateException {
+        if (frozen)
+            throw new IllegalStateException("Error while executing setWeight(V) in WeightedEdge: The edge belongs to a frozen graph!");
+        
         weight = newWeight;
     }
     
@@ -60,7 +88,7 @@ public class WeightedEdge<V extends Comparable<? super V>> extends Edge {
             throw new IllegalArgumentException("Error while executing equals(Object) in WeightedEdge: Cannot compare a WeightedEdge to a " + o.getClass() + "!");
         
         WeightedEdge edge = (WeightedEdge) o;
-        if (edge.getWeight() == weight)
+        if (Objects.equals(weight, edge.getWeight()))
             return getTo().equals(edge.getTo());
         else
             return false;
@@ -91,7 +119,7 @@ public class WeightedEdge<V extends Comparable<? super V>> extends Edge {
             return 0;
         else if (edge == null)
             throw new IllegalArgumentException("Error while executing compareTo(Object) in WeightedEdge: The o parameter is null!");
-        else if (edge.getWeight() == weight)
+        else if (weight.compareTo(edge.getWeight()) == 0)
             return getTo().compareTo(edge.getTo());
         else
             return weight.compareTo(edge.getWeight());
@@ -0,0 +1,121 @@
+/* Author:     Ryan McAllister-Grum
+ * UIN:        661880584
+ * Class:      20FA - Algorithms & Computation (20FA-OL-CSC482A-15037)
+ * Assignment: 3 (Implement Prim's Algorithm)
+ */
+
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/** VectorScanKernel is the FloatScanKernel written with the
+ *  jdk.incubator.vector API. Each step loads a whole vector of weights (8
+ *  lanes with AVX2, 16 with AVX-512), compares them against the matching
+ *  costs in one instruction and acts on the resulting mask; the last
+ *  partial vector is handled by the scalar loops. It must be compiled and
+ *  run with --add-modules jdk.incubator.vector; FloatScanKernel.load picks
+ *  it up reflectively when it is present.
+ */
+final class VectorScanKernel extends FloatScanKernel {
+    /** FLOATS is the widest float vector shape the hardware supports.
+     */
+    private static final VectorSpecies<Float> FLOATS = FloatVector.SPECIES_PREFERRED;
+    /** INTS is the int vector shape with as many lanes as FLOATS.
+     */
+    private static final VectorSpecies<Integer> INTS = VectorSpecies.of(int.class, FLOATS.vectorShape());
+    
+    /** getName returns a short description of this kernel for reports.
+     * 
+     * @return The name of this kernel and its number of lanes.
+     */
+    @Override
+    String getName() {
+        return "vector (" + FLOATS.length() + " lanes)";
+    }
+    
+    /** improving gathers the costs of a vector of neighbors at a time and
+     *  writes the positions set in the comparison mask.
+     * 
+     * @param count The number of neighbors in targets and weights.
+     * @param targets The neighbor indexes.
+     * @param weights The weights of the edges leading to the neighbors.
+     * @param cost The current attachment cost of every vertex.
+     * @param candidates The buffer to write the positions into; it must hold count entries.
+     * @return The number of positions written.
+     */
+    @Override
+    int improving(int count, int[] targets, float[] weights, float[] cost, int[] candidates) {
+        int found = 0;
+        int i = 0;
+        for (int end = FLOATS.loopBound(count); i < end; i += FLOATS.length()) {
+            FloatVector weight = FloatVector.fromArray(FLOATS, weights, i);
+            FloatVector current = FloatVector.fromArray(FLOATS, cost, 0, targets, i);
+            long lanes = weight.lt(current).or(current.eq(Float.POSITIVE_INFINITY)).toLong();
+            while (lanes != 0) {
+                candidates[found++] = i + Long.numberOfTrailingZeros(lanes);
+                lanes &= lanes - 1;
+            }
+        }
+        for (; i < count; i++) {
+            float current = cost[targets[i]];
+            if (weights[i] < current || current == Float.POSITIVE_INFINITY)
+                candidates[found++] = i;
+        }
+        return found;
+    }
+    
+    /** min keeps a vector of running minimums, each lane only taking values
+     *  that compare less, so NaN values are skipped, and then reduces it.
+     * 
+     * @param values The values to scan.
+     * @param n The number of values to scan.
+     * @return The smallest value that is not NaN.
+     */
+    @Override
+    float min(float[] values, int n) {
+        FloatVector running = FloatVector.broadcast(FLOATS, Float.POSITIVE_INFINITY);
+        int i = 0;
+        for (int end = FLOATS.loopBound(n); i < end; i += FLOATS.length()) {
+            FloatVector value = FloatVector.fromArray(FLOATS, values, i);
+            running = running.blend(value, value.lt(running));
+        }
+        float min = running.reduceLanes(VectorOperators.MIN);
+        for (; i < n; i++)
+            if (values[i] < min)
+                min = values[i];
+        return min;
+    }
+    
+    /** relaxRow compares a vector of matrix entries against the matching
+     *  minCost entries and blends the cheaper ones, and the relaxed vertex as
+     *  their parent, into both arrays.
+     * 
+     * @param matrix The adjacency matrix.
+     * @param row The offset of the relaxed vertex's row in the matrix.
+     * @param n The number of vertices.
+     * @param vertex The relaxed vertex.
+     * @param minCost The cheapest known attachment cost of every vertex.
+     * @param parent The vertex that offered each vertex its minCost.
+     */
+    @Override
+    void relaxRow(float[] matrix, int row, int n, int vertex, float[] minCost, int[] parent) {
+        IntVector relaxed = IntVector.broadcast(INTS, vertex);
+        int v = 0;
+        for (int end = FLOATS.loopBound(n); v < end; v += FLOATS.length()) {
+            FloatVector weight = FloatVector.fromArray(FLOATS, matrix, row + v);
+            FloatVector current = FloatVector.fromArray(FLOATS, minCost, v);
+            VectorMask<Float> cheaper = weight.lt(current);
+            current.blend(weight, cheaper).intoArray(minCost, v);
+            IntVector.fromArray(INTS, parent, v).blend(relaxed, cheaper.cast(INTS)).intoArray(parent, v);
+        }
+        for (; v < n; v++) {
+            float weight = matrix[row + v];
+            if (weight < minCost[v]) {
+                minCost[v] = weight;
+                parent[v] = vertex;
+            }
+        }
+    }
+}
\ No newline at end of file